@@ -27,10 +27,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
-import org.springframework.oxm.Unmarshaller;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.ws.client.core.WebServiceTemplate;
 
 @EnableMongock
 @SpringBootApplication
@@ -45,22 +42,6 @@ public class RevalidationApplication {
     return new RestTemplate();
   }
 
-  @Bean
-  public Jaxb2Marshaller marshaller() {
-    final var marshaller = new Jaxb2Marshaller();
-    marshaller
-        .setPackagesToScan("uk.nhs.hee.tis.gmc.client", "uk.nhs.hee.tis.gmc.client.generated");
-    return marshaller;
-  }
-
-  @Bean
-  public WebServiceTemplate webServiceTemplate(Unmarshaller unmarshaller) {
-    final var webServiceTemplate = new WebServiceTemplate();
-    webServiceTemplate.setMarshaller(marshaller());
-    webServiceTemplate.setUnmarshaller(unmarshaller);
-    return webServiceTemplate;
-  }
-
   @Bean
   public NativeSearchQuery nativeSearchQuery() {
     return new NativeSearchQueryBuilder().build();
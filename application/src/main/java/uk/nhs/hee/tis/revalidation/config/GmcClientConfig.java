@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.transport.http.HttpUrlConnectionMessageSender;
+
+/**
+ * The SOAP client for GMC Connect. Connect and read timeouts are set so that a GMC outage fails
+ * the call, rather than holding a submission or status check thread indefinitely.
+ */
+@Configuration
+public class GmcClientConfig {
+
+  @Bean
+  public Jaxb2Marshaller marshaller() {
+    final var marshaller = new Jaxb2Marshaller();
+    marshaller
+        .setPackagesToScan("uk.nhs.hee.tis.gmc.client", "uk.nhs.hee.tis.gmc.client.generated");
+    return marshaller;
+  }
+
+  @Bean
+  public WebServiceTemplate webServiceTemplate(Jaxb2Marshaller marshaller,
+      @Value("${app.gmc.connectTimeoutMillis}") long connectTimeoutMillis,
+      @Value("${app.gmc.readTimeoutMillis}") long readTimeoutMillis) {
+    final var messageSender = new HttpUrlConnectionMessageSender();
+    messageSender.setConnectionTimeout(Duration.ofMillis(connectTimeoutMillis));
+    messageSender.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+    final var webServiceTemplate = new WebServiceTemplate(marshaller);
+    webServiceTemplate.setMessageSender(messageSender);
+    return webServiceTemplate;
+  }
+}
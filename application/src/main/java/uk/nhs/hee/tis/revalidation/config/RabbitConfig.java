@@ -22,23 +22,51 @@
 package uk.nhs.hee.tis.revalidation.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.nhs.hee.tis.revalidation.messages.converter.CompressingMessageConverter;
+import uk.nhs.hee.tis.revalidation.messages.converter.CompressingMessageConverter.Compression;
+import uk.nhs.hee.tis.revalidation.messages.converter.SmileMessageConverter;
 
 @Configuration
 public class RabbitConfig {
 
+  private static final String FORMAT_SMILE = "smile";
+
+  @Value("${app.rabbit.reval.essync.format}")
+  private String essyncFormat;
+
+  @Value("${app.rabbit.reval.essync.compression}")
+  private Compression essyncCompression;
+
+  /**
+   * Converter for all Rabbit messages. Writes compact JSON regardless of the HTTP
+   * {@code indent_output} setting and reads JSON or Smile payloads, decompressing any which were
+   * published with a gzip or deflate content-encoding.
+   */
   @Bean
-  public MessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
-    return new Jackson2JsonMessageConverter(objectMapper);
+  public MessageConverter jsonMessageConverter(ObjectMapper objectMapper,
+      Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    final var jsonConverter = compactJsonMessageConverter(objectMapper);
+    final var contentTypeConverter = new ContentTypeDelegatingMessageConverter(jsonConverter);
+    contentTypeConverter.addDelegate(SmileMessageConverter.CONTENT_TYPE_SMILE,
+        smileMessageConverter(objectMapperBuilder));
+    return new CompressingMessageConverter(contentTypeConverter, Compression.NONE);
   }
 
   @Bean
+  @Primary
   public RabbitTemplate rabbitTemplate(final ConnectionFactory connectionFactory,
       MessageConverter jsonMessageConverter) {
     final var rabbitTemplate = new RabbitTemplate(connectionFactory);
@@ -46,4 +74,30 @@ public class RabbitConfig {
     rabbitTemplate.containerAckMode(AcknowledgeMode.AUTO);
     return rabbitTemplate;
   }
+
+  /**
+   * Template for the large Elasticsearch sync batches, encoded and compressed as configured.
+   */
+  @Bean
+  public RabbitTemplate essyncRabbitTemplate(final ConnectionFactory connectionFactory,
+      ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    final MessageConverter formatConverter = FORMAT_SMILE.equalsIgnoreCase(essyncFormat)
+        ? smileMessageConverter(objectMapperBuilder)
+        : compactJsonMessageConverter(objectMapper);
+    final var rabbitTemplate = new RabbitTemplate(connectionFactory);
+    rabbitTemplate.setMessageConverter(
+        new CompressingMessageConverter(formatConverter, essyncCompression));
+    rabbitTemplate.containerAckMode(AcknowledgeMode.AUTO);
+    return rabbitTemplate;
+  }
+
+  private static MessageConverter compactJsonMessageConverter(ObjectMapper objectMapper) {
+    return new Jackson2JsonMessageConverter(
+        objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT));
+  }
+
+  private static MessageConverter smileMessageConverter(
+      Jackson2ObjectMapperBuilder objectMapperBuilder) {
+    return new SmileMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build());
+  }
 }
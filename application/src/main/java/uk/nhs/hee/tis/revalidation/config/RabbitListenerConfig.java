@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import uk.nhs.hee.tis.revalidation.messages.ListenerTimingInterceptor;
+
+/**
+ * Named listener container factories, one per queue, each tuned through
+ * {@code app.rabbit.listener.<queue>} properties on top of the shared
+ * {@code spring.rabbitmq.listener.simple} defaults. Failed deliveries on the message queues are
+ * recovered through the delayed retry topology in {@link RabbitRetryConfig}. Every listener is timed
+ * per queue by {@link ListenerTimingInterceptor}, inside the retry advice so that failures are
+ * recorded.
+ */
+@Configuration
+public class RabbitListenerConfig {
+
+  static final String CONSUMER_TIMEOUT_ARGUMENT = "x-consumer-timeout";
+
+  @Bean
+  public ListenerTimingInterceptor listenerTimingInterceptor(MeterRegistry meterRegistry) {
+    return new ListenerTimingInterceptor(meterRegistry);
+  }
+
+  @Bean
+  @ConfigurationProperties("app.rabbit.listener.connection")
+  public ListenerContainerProperties connectionListenerProperties() {
+    return new ListenerContainerProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("app.rabbit.listener.status-check")
+  public ListenerContainerProperties statusCheckListenerProperties() {
+    return new ListenerContainerProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("app.rabbit.listener.doctors-collected")
+  public ListenerContainerProperties doctorsCollectedListenerProperties() {
+    return new ListenerContainerProperties();
+  }
+
+  @Bean
+  @ConfigurationProperties("app.rabbit.listener.sync-start")
+  public ListenerContainerProperties syncStartListenerProperties() {
+    return new ListenerContainerProperties();
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory connectionContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory, ListenerTimingInterceptor listenerTimingInterceptor,
+      RetryOperationsInterceptor delayedRetryInterceptor) {
+    final var factory = createContainerFactory(configurer, connectionFactory,
+        connectionListenerProperties());
+    factory.setAdviceChain(delayedRetryInterceptor, listenerTimingInterceptor);
+    return factory;
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory statusCheckContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory, ListenerTimingInterceptor listenerTimingInterceptor,
+      RetryOperationsInterceptor delayedRetryInterceptor) {
+    final var factory = createContainerFactory(configurer, connectionFactory,
+        statusCheckListenerProperties());
+    factory.setAdviceChain(delayedRetryInterceptor, listenerTimingInterceptor);
+    return factory;
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory doctorsCollectedContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory, ListenerTimingInterceptor listenerTimingInterceptor,
+      RetryOperationsInterceptor delayedRetryInterceptor) {
+    final var factory = createContainerFactory(configurer, connectionFactory,
+        doctorsCollectedListenerProperties());
+    factory.setAdviceChain(delayedRetryInterceptor, listenerTimingInterceptor);
+    return factory;
+  }
+
+  @Bean
+  public SimpleRabbitListenerContainerFactory syncStartContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory, ListenerTimingInterceptor listenerTimingInterceptor) {
+    final var factory = createContainerFactory(configurer, connectionFactory,
+        syncStartListenerProperties());
+    factory.setAdviceChain(listenerTimingInterceptor);
+    return factory;
+  }
+
+  static SimpleRabbitListenerContainerFactory createContainerFactory(
+      SimpleRabbitListenerContainerFactoryConfigurer configurer,
+      ConnectionFactory connectionFactory, ListenerContainerProperties properties) {
+    final var factory = new SimpleRabbitListenerContainerFactory();
+    configurer.configure(factory, connectionFactory);
+    factory.setConcurrentConsumers(properties.getConcurrency());
+    factory.setMaxConcurrentConsumers(
+        Math.max(properties.getConcurrency(), properties.getMaxConcurrency()));
+    factory.setPrefetchCount(properties.getPrefetch());
+    factory.setBatchSize(properties.getBatchSize());
+    if (properties.getConsumerTimeout() > 0) {
+      factory.setContainerCustomizer(container -> container.setConsumerArguments(
+          Map.of(CONSUMER_TIMEOUT_ARGUMENT, properties.getConsumerTimeout())));
+    }
+    return factory;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.getRetryQueueName;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer;
+
+/**
+ * Retry topology for the Rabbit listeners: delayed retry queues for each source queue, one per
+ * delay with a queue-level TTL, and a shared parking lot queue, all bound to the error exchange.
+ */
+@Configuration
+public class RabbitRetryConfig {
+
+  @Value("${app.error.exchange}")
+  private String errorExchange;
+
+  @Value("${app.rabbit.retry.parkingLotQueue}")
+  private String parkingLotQueue;
+
+  @Value("${app.rabbit.connection.queue}")
+  private String connectionQueue;
+
+  @Value("${app.rabbit.reval.queue.recommendationStatusCheck.updated}")
+  private String recommendationStatusCheckQueue;
+
+  @Value("${app.rabbit.reval.queue.doctorsfordb.collected.recommendation}")
+  private String doctorsForDbCollectedQueue;
+
+  @Bean
+  public Declarables retryTopology(DelayedRetryMessageRecoverer delayedRetryMessageRecoverer) {
+    final var exchange = new DirectExchange(errorExchange);
+    final List<Declarable> declarables = new ArrayList<>();
+    declarables.add(exchange);
+
+    for (String sourceQueue : List.of(connectionQueue, recommendationStatusCheckQueue,
+        doctorsForDbCollectedQueue)) {
+      for (int level = 1; level <= delayedRetryMessageRecoverer.getRetryLevels(); level++) {
+        final long delay = delayedRetryMessageRecoverer.getDelay(level);
+        final String retryQueueName = getRetryQueueName(sourceQueue, delay);
+        final Queue retryQueue = QueueBuilder.durable(retryQueueName)
+            .ttl((int) delay)
+            .deadLetterExchange("")
+            .deadLetterRoutingKey(sourceQueue)
+            .build();
+        declarables.add(retryQueue);
+        declarables.add(BindingBuilder.bind(retryQueue).to(exchange).with(retryQueueName));
+      }
+    }
+
+    final Queue parkingLot = QueueBuilder.durable(parkingLotQueue).build();
+    declarables.add(parkingLot);
+    declarables.add(BindingBuilder.bind(parkingLot).to(exchange).with(parkingLotQueue));
+    return new Declarables(declarables);
+  }
+
+  /**
+   * Listener advice handing every failed delivery to the delayed retry recoverer, which
+   * acknowledges the original once it has been republished.
+   */
+  @Bean
+  public RetryOperationsInterceptor delayedRetryInterceptor(
+      DelayedRetryMessageRecoverer delayedRetryMessageRecoverer) {
+    return RetryInterceptorBuilder.stateless()
+        .maxAttempts(1)
+        .recoverer(delayedRetryMessageRecoverer)
+        .build();
+  }
+}
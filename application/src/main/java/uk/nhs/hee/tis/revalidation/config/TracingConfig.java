@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import brave.handler.SpanHandler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.NameMatchMethodPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.propagation.Propagator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactoryBean;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactoryBean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.ws.client.core.WebServiceTemplate;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import uk.nhs.hee.tis.revalidation.tracing.GmcTracingClientInterceptor;
+import uk.nhs.hee.tis.revalidation.tracing.LoggingSpanHandler;
+import uk.nhs.hee.tis.revalidation.tracing.TracingMethodInterceptor;
+
+/**
+ * Spans for the hops Sleuth does not instrument itself. Sleuth traces the controllers, the Rabbit
+ * templates and listener containers, carrying the context in the AMQP headers, and the Mongo
+ * commands. On top of that every repository call, every data call on the Elasticsearch operations
+ * and every GMC Connect SOAP action gets a span of its own.
+ *
+ * <p>Spans are sampled with {@code spring.sleuth.sampler.probability}, sent to a Zipkin compatible
+ * collector when {@code spring.zipkin.enabled} is set and logged when {@code app.tracing.logSpans}
+ * is set.
+ */
+@Configuration
+@ConditionalOnProperty(value = "spring.sleuth.enabled", matchIfMissing = true)
+public class TracingConfig {
+
+  static final String MONGODB = "mongodb";
+  static final String ELASTICSEARCH = "elasticsearch";
+  static final String[] ELASTICSEARCH_DATA_METHODS = {"save", "index", "bulk*", "get", "multiGet",
+      "exists", "delete*", "update*", "search*", "multiSearch", "count", "suggest"};
+
+  @Bean
+  public static BeanPostProcessor tracingDataAccessPostProcessor(ObjectProvider<Tracer> tracer) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        // reactive repositories return before their commands run, which Sleuth traces instead
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean
+            && !(bean instanceof ReactiveMongoRepositoryFactoryBean)) {
+          final var dbSystem =
+              bean instanceof ElasticsearchRepositoryFactoryBean ? ELASTICSEARCH : MONGODB;
+          factoryBean.addRepositoryFactoryCustomizer(
+              factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                  tracer.ifAvailable(available -> proxyFactory.addAdvice(
+                      new TracingMethodInterceptor(available,
+                          information.getRepositoryInterface().getSimpleName(), dbSystem)))));
+        }
+        return bean;
+      }
+
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        final var available =
+            bean instanceof ElasticsearchOperations ? tracer.getIfAvailable() : null;
+        if (available != null) {
+          final var pointcut = new NameMatchMethodPointcut();
+          pointcut.setMappedNames(ELASTICSEARCH_DATA_METHODS);
+          final var proxyFactory = new ProxyFactory(bean);
+          proxyFactory.addAdvisor(new DefaultPointcutAdvisor(pointcut,
+              new TracingMethodInterceptor(available, "ElasticsearchOperations", ELASTICSEARCH)));
+          return proxyFactory.getProxy();
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  public static BeanPostProcessor tracingWebServiceTemplatePostProcessor(
+      ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof WebServiceTemplate template)) {
+          return bean;
+        }
+        final var availableTracer = tracer.getIfAvailable();
+        final var availablePropagator = propagator.getIfAvailable();
+        if (availableTracer != null && availablePropagator != null) {
+          final var interceptors = new ArrayList<ClientInterceptor>();
+          interceptors.add(new GmcTracingClientInterceptor(availableTracer, availablePropagator));
+          if (template.getInterceptors() != null) {
+            interceptors.addAll(Arrays.asList(template.getInterceptors()));
+          }
+          template.setInterceptors(interceptors.toArray(ClientInterceptor[]::new));
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.tracing.logSpans", havingValue = "true")
+  public SpanHandler loggingSpanHandler() {
+    return new LoggingSpanHandler();
+  }
+}
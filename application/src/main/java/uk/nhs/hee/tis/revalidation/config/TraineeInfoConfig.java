@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * The pool the doctor detail page issues its independent reads on, so that the page waits for the
+ * slowest read rather than for all of them in turn. It is bounded to cap the extra Mongo
+ * connections a burst of page loads can take, and runs the read on the calling thread once full,
+ * falling back to the sequential reads rather than failing the page.
+ */
+@Configuration
+public class TraineeInfoConfig {
+
+  @Bean
+  public ThreadPoolTaskExecutor traineeInfoExecutor(
+      @Value("${app.reval.traineeInfo.poolSize}") int poolSize,
+      @Value("${app.reval.traineeInfo.queueCapacity}") int queueCapacity) {
+    final var executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("trainee-info-");
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setRejectedExecutionHandler(new CallerRunsPolicy());
+    executor.setTaskDecorator(TraineeInfoConfig::withLogContext);
+    return executor;
+  }
+
+  /**
+   * Carry the request's log context, e.g. the GMC number, over to the pool thread.
+   */
+  static Runnable withLogContext(Runnable task) {
+    final var context = MDC.getCopyOfContextMap();
+    return () -> {
+      final var previous = MDC.getCopyOfContextMap();
+      if (context != null) {
+        MDC.setContextMap(context);
+      }
+      try {
+        task.run();
+      } finally {
+        if (previous != null) {
+          MDC.setContextMap(previous);
+        } else {
+          MDC.clear();
+        }
+      }
+    };
+  }
+}
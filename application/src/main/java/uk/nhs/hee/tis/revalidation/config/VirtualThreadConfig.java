@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Opt-in mode, enabled with {@code app.threads.virtual.enabled}, which runs web requests,
+ * {@code @Async} and web async work, and Rabbit listener consumers on virtual threads, so that a
+ * request blocked on Mongo, Elasticsearch or a slow GMC call no longer holds a platform thread.
+ *
+ * <p>Needs a Java 21 runtime and fails on startup otherwise. The GMC submission worker pool stays
+ * a bounded platform thread pool, as its size is the back pressure on GMC rather than a thread
+ * limit. Check new blocking paths for pinning with {@code VirtualThreadPinningIntTest}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+  @Bean(name = {"taskExecutor", "applicationTaskExecutor"})
+  public AsyncTaskExecutor applicationTaskExecutor() {
+    return virtualThreadExecutor("task-");
+  }
+
+  @Bean
+  public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+    log.info("Handling web requests on virtual threads");
+    return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor("http-"));
+  }
+
+  @Bean
+  public static BeanPostProcessor virtualThreadListenerContainerPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof SimpleRabbitListenerContainerFactory factory) {
+          factory.setTaskExecutor(virtualThreadExecutor(beanName + "-"));
+        }
+        return bean;
+      }
+    };
+  }
+
+  static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+    return new SimpleAsyncTaskExecutor(VirtualThreads.threadFactory(threadNamePrefix));
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads while the service is still compiled for Java 17. The Java 21 API is
+ * looked up reflectively, so the same build runs on either runtime and only the opt-in virtual
+ * thread mode needs Java 21.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * Whether the running JVM supports virtual threads.
+   *
+   * @return true on Java 21 or later
+   */
+  public static boolean isSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual");
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Create a factory of virtual threads named with the given prefix and an increasing counter.
+   *
+   * @param prefix the thread name prefix
+   * @return a factory which starts each task on a new virtual thread
+   * @throws IllegalStateException when the running JVM does not support virtual threads
+   */
+  public static ThreadFactory threadFactory(String prefix) {
+    try {
+      final var builderType = Class.forName("java.lang.Thread$Builder");
+      final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final var namedBuilder = builderType.getMethod("name", String.class, long.class)
+          .invoke(builder, prefix, 0L);
+      return (ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder);
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      throw new IllegalStateException(
+          "Virtual threads need Java 21 or later, running on " + Runtime.version(), e);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Unable to create a virtual thread factory", e);
+    }
+  }
+
+  /**
+   * Whether the given thread is a virtual thread.
+   *
+   * @param thread the thread to check
+   * @return true if the thread is virtual, always false before Java 21
+   */
+  public static boolean isVirtual(Thread thread) {
+    try {
+      return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    } catch (NoSuchMethodException e) {
+      return false;
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Unable to inspect thread " + thread.getName(), e);
+    }
+  }
+}
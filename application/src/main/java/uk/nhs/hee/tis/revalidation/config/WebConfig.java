@@ -26,9 +26,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import uk.nhs.hee.tis.revalidation.controller.LogContextInterceptor;
 
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
   @Bean
   public CorsFilter addCorsMappings() {
@@ -44,4 +47,9 @@ public class WebConfig {
     source.registerCorsConfiguration("/swagger-ui.html", config);
     return new CorsFilter(source);
   }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new LogContextInterceptor());
+  }
 }
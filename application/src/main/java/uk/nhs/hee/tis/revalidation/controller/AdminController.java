@@ -5,8 +5,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.nhs.hee.tis.revalidation.messages.retry.ParkingLotReplayService;
 import uk.nhs.hee.tis.revalidation.service.GmcDoctorNightlySyncService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationIndexService;
 
 @Slf4j
 @RestController
@@ -15,8 +18,16 @@ public class AdminController {
 
   private final GmcDoctorNightlySyncService gmcDoctorNightlySyncService;
 
-  public AdminController(GmcDoctorNightlySyncService gmcDoctorNightlySyncService) {
+  private final ParkingLotReplayService parkingLotReplayService;
+
+  private final RecommendationIndexService recommendationIndexService;
+
+  public AdminController(GmcDoctorNightlySyncService gmcDoctorNightlySyncService,
+      ParkingLotReplayService parkingLotReplayService,
+      RecommendationIndexService recommendationIndexService) {
     this.gmcDoctorNightlySyncService = gmcDoctorNightlySyncService;
+    this.parkingLotReplayService = parkingLotReplayService;
+    this.recommendationIndexService = recommendationIndexService;
   }
 
   @PostMapping("/trigger-doctor-sync")
@@ -25,4 +36,19 @@ public class AdminController {
     gmcDoctorNightlySyncService.startNightlyGmcDoctorSync();
     return ResponseEntity.ok().body("Successful");
   }
-}
\ No newline at end of file
+
+  @PostMapping("/parking-lot/replay")
+  public ResponseEntity<String> replayParkedMessages(
+      @RequestParam(value = "limit", required = false, defaultValue = "1000") final int limit) {
+    log.info("Replaying up to {} parked messages", limit);
+    final int replayed = parkingLotReplayService.replay(limit);
+    return ResponseEntity.ok().body(String.format("Replayed %d messages", replayed));
+  }
+
+  @PostMapping("/reindex-recommendations")
+  public ResponseEntity<String> reindexRecommendations() {
+    log.info("Rebuilding the recommendations index with the current mapping");
+    final var index = recommendationIndexService.reindexToCurrentMapping();
+    return ResponseEntity.ok().body(String.format("Recommendations now served from %s", index));
+  }
+}
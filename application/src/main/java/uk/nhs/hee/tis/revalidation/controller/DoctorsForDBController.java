@@ -38,11 +38,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import uk.nhs.hee.tis.revalidation.dto.DesignatedBodyDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeAdminUpdateDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
 import uk.nhs.hee.tis.revalidation.service.DoctorsForDBService;
+import uk.nhs.hee.tis.revalidation.service.EtagService;
 import uk.nhs.hee.tis.revalidation.service.RecommendationElasticSearchService;
 
 @Slf4j
@@ -69,6 +71,7 @@ public class DoctorsForDBController {
   protected static final String GMC_STATUS_PARAM = "gmcStatus";
   protected static final String TIS_STATUS_PARAM = "tisStatus";
   protected static final String ADMIN_PARAM = "admin";
+  protected static final String CURSOR_PARAM = "cursor";
 
   @Value("${app.validation.sort.fields}")
   private List<String> sortFields;
@@ -83,13 +86,17 @@ public class DoctorsForDBController {
 
   private RecommendationElasticSearchService recommendationElasticSearchService;
 
+  private EtagService etagService;
+
   public DoctorsForDBController(DoctorsForDBService doctorsForDBService,
-      RecommendationElasticSearchService recommendationElasticSearchService) {
+      RecommendationElasticSearchService recommendationElasticSearchService,
+      EtagService etagService) {
     this.doctorsForDBService = doctorsForDBService;
     this.recommendationElasticSearchService = recommendationElasticSearchService;
+    this.etagService = etagService;
   }
 
-  @ApiOperation(value = "All trainee doctors information", notes = "It will return all the information about trainee doctors", response = TraineeSummaryDto.class)
+  @ApiOperation(value = "All trainee doctors information", notes = "It will return all the information about trainee doctors. Pass an empty cursor, then each returned nextCursor, to page with search_after instead of pageNumber", response = TraineeSummaryDto.class)
   @ApiResponses(value = {
       @ApiResponse(code = 200, message = "Trainee gmc all doctors data", response = TraineeSummaryDto.class)})
   @GetMapping
@@ -103,11 +110,12 @@ public class DoctorsForDBController {
       @RequestParam(name = GMC_STATUS_PARAM, defaultValue = EMPTY_STRING) final String gmcStatus,
       @RequestParam(name = TIS_STATUS_PARAM, defaultValue = EMPTY_STRING) final String tisStatus,
       @RequestParam(name = ADMIN_PARAM, defaultValue = EMPTY_STRING) final String admin,
-      @RequestParam(name = SEARCH_QUERY, defaultValue = EMPTY_STRING) final String searchQuery) {
+      @RequestParam(name = SEARCH_QUERY, defaultValue = EMPTY_STRING) final String searchQuery,
+      @RequestParam(name = CURSOR_PARAM, required = false) final String cursor) {
     final var traineeRequestDTO = TraineeRequestDto.builder().sortColumn(sortColumn)
         .sortOrder(sortOrder).underNotice(underNotice).pageNumber(pageNumber).dbcs(dbcs)
         .searchQuery(searchQuery).programmeName(programmeName).gmcStatus(gmcStatus)
-        .tisStatus(tisStatus).admin(admin).build();
+        .tisStatus(tisStatus).admin(admin).cursor(cursor).build();
     validate(traineeRequestDTO);
 
     final var allTraineeDoctorDetails = doctorsForDBService.getAllTraineeDoctorDetails(
@@ -141,9 +149,12 @@ public class DoctorsForDBController {
       @ApiResponse(code = 200, message = "Doctor's by gmcIds", response = ResponseEntity.class)})
   @GetMapping(value = {"/gmcIds", "/gmcIds/{gmcIds}"})
   public ResponseEntity<TraineeSummaryDto> getDoctors(
-      @PathVariable(required = false) final List<String> gmcIds) {
+      @PathVariable(required = false) final List<String> gmcIds, final WebRequest request) {
     log.info("Receive request to get designatedBodyCode for user: {}", gmcIds);
     if (Objects.nonNull(gmcIds)) {
+      if (request.checkNotModified(etagService.getDoctorsEtag(gmcIds))) {
+        return null;
+      }
       final var doctors = doctorsForDBService.getDoctorsByGmcIds(gmcIds);
       return ResponseEntity.ok().body(doctors);
     }
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.controller;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+import uk.nhs.hee.tis.revalidation.service.ReactiveReadService;
+
+/**
+ * Non-blocking variants of the high fan-in reads of {@link RecommendationController} and
+ * {@link DoctorsForDBController}, returning the same DTOs. The request thread is released while
+ * the reads are outstanding and the response is written once they complete. Unlike the blocking
+ * endpoints they do not answer conditional requests.
+ */
+@Slf4j
+@RestController
+@Api("/api/reactive")
+@RequestMapping(ReactiveReadController.REACTIVE_API)
+public class ReactiveReadController {
+
+  static final String REACTIVE_API = "/api/reactive";
+
+  private final ReactiveReadService reactiveReadService;
+
+  public ReactiveReadController(ReactiveReadService reactiveReadService) {
+    this.reactiveReadService = reactiveReadService;
+  }
+
+  @ApiOperation(value = "Get recommendation details of a trainee", notes = "It will return trainee's recommendation details", response = TraineeRecommendationDto.class)
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "Trainee recommendation details", response = TraineeRecommendationDto.class)})
+  @GetMapping("/recommendation/{gmcId}")
+  public Mono<TraineeRecommendationDto> getRecommendation(
+      @PathVariable("gmcId") final String gmcId) {
+    log.info("Receive request to fetch recommendations for GmcId: {}", gmcId);
+    return reactiveReadService.getTraineeInfo(gmcId);
+  }
+
+  @ApiOperation(value = "Get recommendation details of a list of trainees", notes = "It will return trainees' recommendation details", response = Map.class)
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "Trainees' recommendation details", response = Map.class)})
+  @GetMapping("/recommendation/latest/{gmcIds}")
+  public Mono<Map<String, TraineeRecommendationRecordDto>> getRecommendations(
+      @PathVariable("gmcIds") final List<String> gmcIds) {
+    log.info("Receive request to fetch recommendations for GmcIds: {}", gmcIds);
+    return reactiveReadService.getLatestRecommendations(gmcIds);
+  }
+
+  @ApiOperation(value = "Get doctors by Gmc Ids", notes = "It will return doctors", response = TraineeSummaryDto.class)
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "Doctor's by gmcIds", response = TraineeSummaryDto.class)})
+  @GetMapping("/doctors/gmcIds/{gmcIds}")
+  public Mono<TraineeSummaryDto> getDoctors(@PathVariable("gmcIds") final List<String> gmcIds) {
+    log.info("Receive request to get doctors for GmcIds: {}", gmcIds);
+    return reactiveReadService.getDoctorsByGmcIds(gmcIds);
+  }
+}
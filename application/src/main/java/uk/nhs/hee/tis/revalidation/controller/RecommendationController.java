@@ -22,11 +22,13 @@
 package uk.nhs.hee.tis.revalidation.controller;
 
 import static java.util.stream.Collectors.toList;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.abbreviate;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -41,35 +43,57 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import uk.nhs.hee.tis.revalidation.dto.BulkRecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
 import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeInfoDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.service.EtagService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationBulkSubmissionService;
 import uk.nhs.hee.tis.revalidation.service.RecommendationService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationUnitOfWork;
 import uk.nhs.hee.tis.revalidation.validator.TraineeRecommendationRecordDTOValidator;
 
 @Slf4j
 @RestController
 @Api("/api/recommendation")
-@RequestMapping("/api/recommendation")
+@RequestMapping(RecommendationController.RECOMMENDATION_API)
 public class RecommendationController {
 
+  static final String RECOMMENDATION_API = "/api/recommendation";
+  static final String SUBMISSION_STATUS_PATH = "/{gmcId}/submission/{recommendationId}";
+  private static final String PREFER = "Prefer";
+  private static final String RESPOND_ASYNC = "respond-async";
+
   @Autowired
   private RecommendationService service;
 
   @Autowired
   private TraineeRecommendationRecordDTOValidator traineeRecommendationRecordDTOValidator;
 
+  @Autowired
+  private EtagService etagService;
+
+  @Autowired
+  private RecommendationBulkSubmissionService bulkSubmissionService;
+
   @ApiOperation(value = "Get recommendation details of a trainee", notes = "It will return trainee's recommendation details", response = TraineeInfoDto.class)
   @ApiResponses(value = {
       @ApiResponse(code = 200, message = "Trainee recommendation details", response = TraineeInfoDto.class)})
   @GetMapping("/{gmcId}")
   public ResponseEntity<TraineeRecommendationDto> getRecommendation(
-      @PathVariable("gmcId") final String gmcId) {
+      @PathVariable("gmcId") final String gmcId, final WebRequest request) {
     log.info("Receive request to fetch recommendations for GmcId: {}", gmcId);
     if (Objects.nonNull(gmcId)) {
+      if (request.checkNotModified(etagService.getRecommendationsEtag(List.of(gmcId)))) {
+        return null;
+      }
       final var recommendationDTO = service.getTraineeInfo(gmcId);
       return ResponseEntity.ok().body(recommendationDTO);
     }
@@ -82,8 +106,11 @@ public class RecommendationController {
       @ApiResponse(code = 200, message = "Trainees' recommendation details", response = Map.class)})
   @GetMapping("/latest/{gmcIds}")
   public ResponseEntity<Map<String, TraineeRecommendationRecordDto>> getRecommendations(
-      @PathVariable("gmcIds") final List<String> gmcIds) {
+      @PathVariable("gmcIds") final List<String> gmcIds, final WebRequest request) {
     log.info("Receive request to fetch recommendations for GmcIds: {}", gmcIds);
+    if (request.checkNotModified(etagService.getRecommendationsEtag(gmcIds))) {
+      return null;
+    }
     final var recommendations = service.getLatestRecommendations(gmcIds);
     return new ResponseEntity<>(recommendations, HttpStatus.OK);
   }
@@ -96,12 +123,16 @@ public class RecommendationController {
       @RequestBody final TraineeRecommendationRecordDto traineeRecommendationDTO,
       final BindingResult bindingResult) {
 
-    log.info("recommendation: {}", traineeRecommendationDTO);
-    traineeRecommendationRecordDTOValidator.validate(traineeRecommendationDTO, bindingResult);
-    if (bindingResult.hasErrors()) {
-      return buildErrorResponse(bindingResult);
+    log.info("Receive request to save recommendation for GmcId: {}",
+        traineeRecommendationDTO.getGmcNumber());
+    log.debug("recommendation: {}", abbreviate(traineeRecommendationDTO));
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      traineeRecommendationRecordDTOValidator.validate(traineeRecommendationDTO, bindingResult);
+      if (bindingResult.hasErrors()) {
+        return buildErrorResponse(bindingResult);
+      }
+      service.saveRecommendation(traineeRecommendationDTO);
     }
-    service.saveRecommendation(traineeRecommendationDTO);
     return new ResponseEntity<>(HttpStatus.OK);
   }
 
@@ -113,32 +144,74 @@ public class RecommendationController {
       @RequestBody final TraineeRecommendationRecordDto traineeRecommendationDTO,
       final BindingResult bindingResult) {
 
-    log.info("recommendation: {}", traineeRecommendationDTO);
+    log.info("Receive request to update recommendation {} for GmcId: {}",
+        traineeRecommendationDTO.getRecommendationId(), traineeRecommendationDTO.getGmcNumber());
+    log.debug("recommendation: {}", abbreviate(traineeRecommendationDTO));
     if (!StringUtils.hasLength(traineeRecommendationDTO.getRecommendationId())) {
       return new ResponseEntity<>("Recommendation Id should not be empty", HttpStatus.BAD_REQUEST);
     }
 
-    traineeRecommendationRecordDTOValidator.validate(traineeRecommendationDTO, bindingResult);
-    if (bindingResult.hasErrors()) {
-      return buildErrorResponse(bindingResult);
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      traineeRecommendationRecordDTOValidator.validate(traineeRecommendationDTO, bindingResult);
+      if (bindingResult.hasErrors()) {
+        return buildErrorResponse(bindingResult);
+      }
+      service.updateRecommendation(traineeRecommendationDTO);
     }
-    service.updateRecommendation(traineeRecommendationDTO);
     return new ResponseEntity<>(HttpStatus.OK);
   }
 
-  @ApiOperation(value = "Submit recommendation to gmc", notes = "It will allow user to submit recommendation to gmc", response = ResponseEntity.class)
+  @ApiOperation(value = "Submit recommendation to gmc", notes = "It will allow user to submit recommendation to gmc. Send 'Prefer: respond-async' to queue the submission and poll the returned Location instead of waiting for GMC", response = ResponseEntity.class)
   @ApiResponses(value = {
-      @ApiResponse(code = 200, message = "New recommendation is submitted to gmc", response = ResponseEntity.class)})
+      @ApiResponse(code = 200, message = "New recommendation is submitted to gmc", response = ResponseEntity.class),
+      @ApiResponse(code = 202, message = "New recommendation is queued for submission to gmc", response = RecommendationSubmissionDto.class)})
   @PostMapping("/{gmcId}/submit/{recommendationId}")
-  public ResponseEntity<Void> submitRecommendation(@RequestBody RoUserProfileDto userProfileDto,
+  public ResponseEntity<RecommendationSubmissionDto> submitRecommendation(
+      @RequestBody RoUserProfileDto userProfileDto,
       @PathVariable("gmcId") String gmcNumber,
-      @PathVariable("recommendationId") String recommendationId) {
-
-    log.info("Revalidation officer profile: {}", userProfileDto);
+      @PathVariable("recommendationId") String recommendationId,
+      @RequestHeader(name = PREFER, required = false) String prefer) {
+
+    log.info("Receive request to submit recommendation {} for GmcId: {} by {}", recommendationId,
+        gmcNumber, userProfileDto.getUserName());
+    if (isRespondAsync(prefer)) {
+      final var submission = service.submitRecommendationAsync(recommendationId, gmcNumber,
+          userProfileDto);
+      final var statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+          .path(RECOMMENDATION_API).path(SUBMISSION_STATUS_PATH).buildAndExpand(gmcNumber, recommendationId).toUri();
+      return ResponseEntity.accepted().location(statusUri).body(submission);
+    }
     service.submitRecommendation(recommendationId, gmcNumber, userProfileDto);
     return new ResponseEntity<>(HttpStatus.OK);
   }
 
+  @ApiOperation(value = "Submit a set of recommendations to gmc", notes = "It will submit each recommendation on behalf of one responsible officer and return the outcome of each", response = RecommendationSubmissionDto.class, responseContainer = "List")
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "Outcome of each recommendation submission", response = RecommendationSubmissionDto.class, responseContainer = "List")})
+  @PostMapping("/submit")
+  public ResponseEntity<List<RecommendationSubmissionDto>> submitRecommendations(
+      @RequestBody BulkRecommendationSubmissionDto bulkSubmission) {
+    log.info("Receive request to submit recommendations by {}",
+        bulkSubmission.getUserProfile() == null ? null
+            : bulkSubmission.getUserProfile().getUserName());
+    return ResponseEntity.ok(bulkSubmissionService.submitRecommendations(bulkSubmission));
+  }
+
+  @ApiOperation(value = "Get progress of a recommendation submission to gmc", notes = "It will return the recommendation status and the reason the last queued submission failed", response = RecommendationSubmissionDto.class)
+  @ApiResponses(value = {
+      @ApiResponse(code = 200, message = "Recommendation submission progress", response = RecommendationSubmissionDto.class)})
+  @GetMapping(SUBMISSION_STATUS_PATH)
+  public ResponseEntity<RecommendationSubmissionDto> getSubmissionStatus(
+      @PathVariable("gmcId") String gmcNumber,
+      @PathVariable("recommendationId") String recommendationId) {
+    return ResponseEntity.ok(service.getSubmissionStatus(recommendationId, gmcNumber));
+  }
+
+  private static boolean isRespondAsync(final String prefer) {
+    return prefer != null && Arrays.stream(prefer.split(","))
+        .anyMatch(preference -> RESPOND_ASYNC.equalsIgnoreCase(preference.trim()));
+  }
+
 
   private ResponseEntity<List<String>> buildErrorResponse(final BindingResult bindingResult) {
     final var errors = bindingResult.getAllErrors().stream().map(e -> e.getDefaultMessage())
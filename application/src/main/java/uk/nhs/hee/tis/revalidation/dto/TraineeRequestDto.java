@@ -42,4 +42,5 @@ public class TraineeRequestDto {
   private String gmcStatus;
   private String tisStatus;
   private String admin;
+  private String cursor;
 }
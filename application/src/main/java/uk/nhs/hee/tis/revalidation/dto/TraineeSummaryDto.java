@@ -40,4 +40,5 @@ public class TraineeSummaryDto {
   private long totalPages;
   private long totalResults;
   private List<TraineeInfoDto> traineeInfo;
+  private String nextCursor;
 }
@@ -23,6 +23,7 @@ package uk.nhs.hee.tis.revalidation.entity;
 
 import io.swagger.annotations.ApiModel;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -53,4 +54,6 @@ public class Recommendation {
   private String deferralSubReason;
   private List<String> comments;
   private String admin;
+  private LocalDateTime submissionStartedDateTime;
+  private String submissionFailure;
 }
@@ -27,6 +27,7 @@ public enum RecommendationStatus {
   STARTED,
   READY_TO_REVIEW,
   READY_TO_SUBMIT,
+  SUBMITTING,
   SUBMITTED_TO_GMC,
   COMPLETED,
   DRAFT
@@ -36,12 +36,16 @@ import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Data
 @Document(indexName = "recommendations")
+@Setting(settingPath = "elasticsearch/recommendations-settings.json")
 public class RecommendationView {
 
   @Id
@@ -49,19 +53,32 @@ public class RecommendationView {
   @Column(name = "id")
   private String id;
   private Long tcsPersonId;
-  @Field(type= FieldType.Text, fielddata = true)
+  @MultiField(mainField = @Field(type = FieldType.Text), otherFields = {
+      @InnerField(suffix = "prefix", type = FieldType.Text, analyzer = "prefix_index_analyzer",
+          searchAnalyzer = "prefix_search_analyzer"),
+      @InnerField(suffix = "sort", type = FieldType.Keyword, normalizer = "lowercase_normalizer")})
   private String gmcReferenceNumber;
-  @Field(type= FieldType.Text, fielddata = true)
+  @MultiField(mainField = @Field(type = FieldType.Text), otherFields = {
+      @InnerField(suffix = "prefix", type = FieldType.Text, analyzer = "prefix_index_analyzer",
+          searchAnalyzer = "prefix_search_analyzer"),
+      @InnerField(suffix = "sort", type = FieldType.Keyword, normalizer = "lowercase_normalizer")})
   private String doctorFirstName;
-  @Field(type= FieldType.Text, fielddata = true)
+  @MultiField(mainField = @Field(type = FieldType.Text), otherFields = {
+      @InnerField(suffix = "prefix", type = FieldType.Text, analyzer = "prefix_index_analyzer",
+          searchAnalyzer = "prefix_search_analyzer"),
+      @InnerField(suffix = "sort", type = FieldType.Keyword, normalizer = "lowercase_normalizer")})
   private String doctorLastName;
+  @Field(type = FieldType.Keyword, normalizer = "lowercase_normalizer")
   private String designatedBody;
   @Field(type = FieldType.Date, format = DateFormat.custom, pattern = "uuuu-MM-dd")
   @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
   private LocalDate submissionDate;
+  @Field(type = FieldType.Keyword, normalizer = "lowercase_normalizer")
   private String gmcStatus;
+  @Field(type = FieldType.Keyword, normalizer = "lowercase_normalizer")
   private String tisStatus;
-  @Field(type= FieldType.Text, fielddata = true)
+  @MultiField(mainField = @Field(type = FieldType.Text), otherFields = {
+      @InnerField(suffix = "keyword", type = FieldType.Keyword)})
   private String programmeName;
   private String membershipType;
   @Field(type = FieldType.Date, format = DateFormat.custom, pattern = "uuuu-MM-dd")
@@ -71,6 +88,7 @@ public class RecommendationView {
   @Field(type = FieldType.Date, format = DateFormat.custom, pattern = "uuuu-MM-dd")
   @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
   private LocalDate lastUpdatedDate;
+  @Field(type = FieldType.Keyword, normalizer = "lowercase_normalizer")
   private String underNotice;
   @Nullable
   private Boolean existsInGmc;
@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.revalidation.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -42,6 +43,16 @@ public class RecommendationExceptionHandler extends ResponseEntityExceptionHandl
     return buildResponseEntity(apiError);
   }
 
+  @ExceptionHandler(TaskRejectedException.class)
+  protected ResponseEntity<Object> handleTaskRejected(final TaskRejectedException ex) {
+    log.warn("Rejecting request as the worker pool is saturated", ex);
+    final var apiError = ApiError.builder()
+        .status(HttpStatus.SERVICE_UNAVAILABLE)
+        .message("The service is busy, please try again shortly")
+        .build();
+    return buildResponseEntity(apiError);
+  }
+
   private ResponseEntity<Object> buildResponseEntity(final ApiError apiError) {
     return new ResponseEntity<>(apiError, apiError.getStatus());
   }
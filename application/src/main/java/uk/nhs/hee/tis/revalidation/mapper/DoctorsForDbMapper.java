@@ -21,6 +21,7 @@
 package uk.nhs.hee.tis.revalidation.mapper;
 
 import java.time.LocalDate;
+import java.util.List;
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -30,6 +31,7 @@ import org.springframework.util.StringUtils;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionMessageDto;
 import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeInfoDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
 import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 
@@ -41,6 +43,12 @@ public interface DoctorsForDbMapper {
   @Mapping(source = "designatedBodyCode", target = "designatedBody")
   TraineeInfoDto toTraineeInfoDto(DoctorsForDB doctor);
 
+  default TraineeSummaryDto toTraineeSummaryDto(List<DoctorsForDB> doctors) {
+    final var traineeInfoDtos = doctors.stream().map(this::toTraineeInfoDto).toList();
+    return TraineeSummaryDto.builder().countTotal(traineeInfoDtos.size())
+        .totalResults(traineeInfoDtos.size()).traineeInfo(traineeInfoDtos).build();
+  }
+
   @Named("desgnatedBodyToConnectionStatus")
   default String designatedBodyToConnectionStatus(String designatedBody) {
     return StringUtils.hasLength(designatedBody) ? "Yes" : "No";
@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.mapper;
+
+import static java.lang.String.format;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.YES;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import uk.nhs.hee.tis.revalidation.dto.DeferralReasonDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+
+/**
+ * Builds the trainee recommendation DTOs from the reads made for them, so that the blocking and
+ * the reactive reads return the same DTOs however they were made.
+ */
+@Mapper(componentModel = "spring")
+public interface TraineeRecommendationMapper {
+
+  String DOCTOR_NOT_FOUND_MESSAGE = "Doctor %s does not exist!";
+
+  @Mapping(source = "gmcNumber", target = "gmcNumber")
+  @Mapping(source = "submissionDate", target = "gmcSubmissionDate")
+  @Mapping(source = "recommendation.id", target = "recommendationId")
+  @Mapping(source = "recommendation.outcome", target = "gmcOutcome",
+      qualifiedByName = "outcomeToGmcOutcome")
+  @Mapping(target = "gmcRevalidationId", ignore = true)
+  @Mapping(target = "deferralComment", ignore = true)
+  TraineeRecommendationRecordDto toRecordDto(String gmcNumber, LocalDate submissionDate,
+      Recommendation recommendation);
+
+  @Named("outcomeToGmcOutcome")
+  default String outcomeToGmcOutcome(RecommendationGmcOutcome outcome) {
+    return outcome != null ? outcome.getOutcome() : null;
+  }
+
+  /**
+   * Build trainee information with current and legacy recommendations, most recent first.
+   *
+   * @param doctorsForDb            The trainee
+   * @param recommendations         The trainee's current Recommendations
+   * @param snapshotRecommendations The trainee's legacy snapshots, already mapped
+   * @param deferralReasons         The current deferral reasons
+   * @return The trainee's information with current and legacy recommendations
+   */
+  default TraineeRecommendationDto toTraineeInfo(DoctorsForDB doctorsForDb,
+      List<Recommendation> recommendations,
+      List<TraineeRecommendationRecordDto> snapshotRecommendations,
+      List<DeferralReasonDto> deferralReasons) {
+    final var revalidations = new ArrayList<TraineeRecommendationRecordDto>();
+    recommendations.forEach(recommendation -> revalidations.add(toRecordDto(
+        doctorsForDb.getGmcReferenceNumber(), doctorsForDb.getSubmissionDate(), recommendation)));
+    revalidations.addAll(snapshotRecommendations);
+    //sort most recent first (note nulls are typically drafts and will be first due to reversed())
+    revalidations.sort(
+        Comparator.comparing(TraineeRecommendationRecordDto::getActualSubmissionDate,
+            Comparator.nullsFirst(Comparator.reverseOrder())));
+
+    final var builder = TraineeRecommendationDto.builder()
+        .fullName(format("%s %s",
+            doctorsForDb.getDoctorFirstName(), doctorsForDb.getDoctorLastName()))
+        .gmcNumber(doctorsForDb.getGmcReferenceNumber())
+        .designatedBody(doctorsForDb.getDesignatedBodyCode())
+        .gmcSubmissionDate(doctorsForDb.getSubmissionDate())
+        .revalidations(revalidations)
+        .deferralReasons(deferralReasons);
+    if (doctorsForDb.getUnderNotice() != null) {
+      builder.underNotice(doctorsForDb.getUnderNotice().value());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Get the draft among a trainee's current recommendations
+   *
+   * @param recommendations The trainee's current Recommendations
+   * @return The draft, if there is one
+   */
+  default Optional<TraineeRecommendationRecordDto> toDraftRecommendation(
+      List<Recommendation> recommendations) {
+    return recommendations.stream()
+        .filter(recommendation -> READY_TO_REVIEW == recommendation.getRecommendationStatus())
+        .findFirst()
+        .map(draft -> toRecordDto(draft.getGmcNumber(), draft.getGmcSubmissionDate(), draft));
+  }
+
+  /**
+   * Get the latest submitted recommendation of a trainee who has no draft
+   *
+   * @param gmcId                  The GMC Number of the trainee
+   * @param optionalDoctorsForDB   The trainee, if found
+   * @param optionalRecommendation The trainee's most recently submitted Recommendation, if any
+   * @return The latest submitted recommendation, which is empty if none is still relevant
+   * @throws RecommendationException when the Doctor doesn't exist
+   */
+  default TraineeRecommendationRecordDto toLatestSubmittedRecommendation(String gmcId,
+      Optional<DoctorsForDB> optionalDoctorsForDB,
+      Optional<Recommendation> optionalRecommendation) {
+    final var doctor = optionalDoctorsForDB.orElseThrow(
+        () -> new RecommendationException(format(DOCTOR_NOT_FOUND_MESSAGE, gmcId)));
+    return optionalRecommendation
+        .filter(recommendation -> !isPastCompletedRecommendation(recommendation, doctor))
+        .map(recommendation -> toRecordDto(recommendation.getGmcNumber(),
+            recommendation.getGmcSubmissionDate(), recommendation))
+        .orElseGet(TraineeRecommendationRecordDto::new);
+  }
+
+  /**
+   * Get the latest recommendation of a trainee from all of their recommendations, as the separate
+   * draft and latest submitted reads would find it.
+   *
+   * @param doctor          The trainee
+   * @param recommendations All of the trainee's Recommendations, including completed ones
+   * @return The draft if there is one, else the latest submitted recommendation still relevant
+   */
+  default TraineeRecommendationRecordDto toLatestRecommendation(DoctorsForDB doctor,
+      List<Recommendation> recommendations) {
+    final var currentRecommendations = recommendations.stream()
+        .filter(recommendation -> APPROVED != recommendation.getOutcome()
+            && REJECTED != recommendation.getOutcome())
+        .toList();
+    return toDraftRecommendation(currentRecommendations).orElseGet(
+        () -> toLatestSubmittedRecommendation(doctor.getGmcReferenceNumber(), Optional.of(doctor),
+            recommendations.stream().max(Comparator.comparing(
+                Recommendation::getActualSubmissionDate,
+                Comparator.nullsFirst(Comparator.naturalOrder())))));
+  }
+
+  /**
+   * Get a trainee's status from their latest recommendation
+   *
+   * @param latestRecommendation The trainee's latest recommendation, which may be empty
+   * @return The status of the trainee's recommendation
+   */
+  default RecommendationStatus toDoctorStatus(
+      TraineeRecommendationRecordDto latestRecommendation) {
+    final var outcome = latestRecommendation.getGmcOutcome();
+    final var type = latestRecommendation.getRecommendationType();
+
+    if (outcome == null && type == null) {
+      return RecommendationStatus.NOT_STARTED;
+    } else if (APPROVED.getOutcome().equals(outcome) || REJECTED.getOutcome().equals(outcome)) {
+      return RecommendationStatus.COMPLETED;
+    } else if (UNDER_REVIEW.getOutcome().equals(outcome)) {
+      return RecommendationStatus.SUBMITTED_TO_GMC;
+    } else {
+      return RecommendationStatus.DRAFT;
+    }
+  }
+
+  /**
+   * Check if a given recommendation has been completed within the last month
+   *
+   * @param recommendation The recommendation to check the completion of
+   * @param doctor         The doctor associated with the recommendation
+   * @return A Boolean of whether this recommendation is considered "completed"
+   */
+  default boolean isPastCompletedRecommendation(Recommendation recommendation,
+      DoctorsForDB doctor) {
+    final boolean approved = APPROVED.equals(recommendation.getOutcome());
+    final boolean underNotice = YES.equals(doctor.getUnderNotice());
+    //TODO find more empirical timeframe
+    final boolean notRecent = recommendation.getActualSubmissionDate() != null
+        && recommendation.getActualSubmissionDate().isBefore(LocalDate.now().minusMonths(1));
+
+    return approved && underNotice && notRecent;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+
+/**
+ * Listener container advice timing each delivery, or batch of deliveries, by the queue it was
+ * consumed from and whether the listener succeeded. It must sit inside any retry advice, which
+ * recovers failed deliveries and so would otherwise hide the failure from the timer.
+ */
+public class ListenerTimingInterceptor implements MethodInterceptor {
+
+  static final String LISTENER_METRIC = "reval.rabbit.listener";
+  static final String UNKNOWN_QUEUE = "unknown";
+
+  private final MeterRegistry meterRegistry;
+
+  public ListenerTimingInterceptor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    final var sample = Timer.start(meterRegistry);
+    var result = "success";
+    try {
+      return invocation.proceed();
+    } catch (Throwable t) {
+      result = "failure";
+      throw t;
+    } finally {
+      sample.stop(Timer.builder(LISTENER_METRIC)
+          .tag("queue", consumerQueue(invocation.getArguments())).tag("result", result)
+          .register(meterRegistry));
+    }
+  }
+
+  /**
+   * The container invokes the listener with the channel and either a message or a batch.
+   */
+  private static String consumerQueue(Object[] arguments) {
+    var data = arguments.length > 1 ? arguments[1] : null;
+    if (data instanceof List<?> batch && !batch.isEmpty()) {
+      data = batch.get(0);
+    }
+    final var queue = data instanceof Message message
+        ? message.getMessageProperties().getConsumerQueue() : null;
+    return queue == null ? UNKNOWN_QUEUE : queue;
+  }
+}
@@ -21,7 +21,13 @@
 
 package uk.nhs.hee.tis.revalidation.messages;
 
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.DESIGNATED_BODY;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.GMC_ID;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.SYNC_RUN_ID;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.abbreviate;
+
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -50,40 +56,62 @@ public class RabbitMessageListener {
   @Autowired
   private RecommendationElasticSearchService recommendationElasticSearchService;
 
-  @RabbitListener(queues = "${app.rabbit.connection.queue}")
+  @RabbitListener(queues = "${app.rabbit.connection.queue}",
+      containerFactory = "connectionContainerFactory")
   public void receiveUpdateDoctorConnectionMessage(final ConnectionMessageDto message) {
     try {
-      log.info("Message received to update designated body code from rabbit, Message: {}", message);
+      if (message != null) {
+        MDC.put(GMC_ID, message.getGmcId());
+      }
+      log.info("Message received to update designated body code from rabbit");
+      log.debug("Connection message: {}", abbreviate(message));
       doctorsForDBService.updateDoctorConnection(message);
     } catch (Exception exception) {
-      log.warn("Rejecting message for failed connection removal", exception);
+      log.warn("Failed connection update, handing message to retry", exception);
       throw new AmqpRejectAndDontRequeueException(exception);
+    } finally {
+      MDC.remove(GMC_ID);
     }
-
   }
 
-  @RabbitListener(queues = "${app.rabbit.reval.queue.recommendationStatusCheck.updated}")
+  @RabbitListener(queues = "${app.rabbit.reval.queue.recommendationStatusCheck.updated}",
+      containerFactory = "statusCheckContainerFactory")
   public void receiveMessageForRecommendationStatusUpdate(
       final RecommendationStatusCheckDto recommendationStatusCheckDto) {
     try {
-      log.info("Message received to update recommendation status, Message: {}",
-          recommendationStatusCheckDto);
+      if (recommendationStatusCheckDto != null) {
+        MDC.put(GMC_ID, recommendationStatusCheckDto.getGmcReferenceNumber());
+      }
+      log.info("Message received to update recommendation status");
+      log.debug("Recommendation status message: {}", abbreviate(recommendationStatusCheckDto));
       recommendationStatusCheckUpdatedMessageHandler
           .updateRecommendationAndTisStatus(recommendationStatusCheckDto);
     } catch (Exception exception) {
-      log.warn("Rejecting message for failed recommendation status update", exception);
+      log.warn("Failed recommendation status update, handing message to retry", exception);
       throw new AmqpRejectAndDontRequeueException(exception);
+    } finally {
+      MDC.remove(GMC_ID);
     }
   }
 
   /**
    * handle Doctors from a Designated Body (DB) collected message.
    */
-  @RabbitListener(queues = "${app.rabbit.reval.queue.doctorsfordb.collected.recommendation}")
+  @RabbitListener(queues = "${app.rabbit.reval.queue.doctorsfordb.collected.recommendation}",
+      containerFactory = "doctorsCollectedContainerFactory")
   public void handleDoctorsForDbCollectedMessage(
       final DoctorsForDbCollectedEvent doctorsForDbCollectedEvent) {
-    log.debug("DoctorsForDbCollectedEvent message received from rabbit: {}",
-        doctorsForDbCollectedEvent);
-    doctorsForDBService.handleDoctorsForDbCollectedEvent(doctorsForDbCollectedEvent);
+    // the run is identified by the time the sync was requested, shared by every designated body
+    MDC.put(DESIGNATED_BODY, doctorsForDbCollectedEvent.designatedBodyCode());
+    MDC.put(SYNC_RUN_ID, String.valueOf(doctorsForDbCollectedEvent.requestDateTime()));
+    try {
+      log.info("DoctorsForDbCollectedEvent message received from rabbit with {} doctors",
+          doctorsForDbCollectedEvent.doctors() == null ? 0
+              : doctorsForDbCollectedEvent.doctors().size());
+      doctorsForDBService.handleDoctorsForDbCollectedEvent(doctorsForDbCollectedEvent);
+    } finally {
+      MDC.remove(DESIGNATED_BODY);
+      MDC.remove(SYNC_RUN_ID);
+    }
   }
 }
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.converter;
+
+import java.lang.reflect.Type;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.DeflaterPostProcessor;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+
+/**
+ * Message converter which compresses outgoing message bodies and transparently decompresses
+ * incoming ones.
+ *
+ * <p>The compression is negotiated through the message content-encoding header, e.g.
+ * {@code gzip, UTF-8}, so incoming messages are only decompressed when the publisher compressed
+ * them and uncompressed messages pass straight through to the delegate converter.
+ */
+public class CompressingMessageConverter implements MessageConverter {
+
+  private final MessageConverter delegate;
+  private final MessagePostProcessor compressor;
+  private final DelegatingDecompressingPostProcessor decompressor =
+      new DelegatingDecompressingPostProcessor();
+
+  public CompressingMessageConverter(MessageConverter delegate, Compression compression) {
+    this.delegate = delegate;
+    this.compressor = compression.createCompressor();
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties) {
+    return compress(delegate.toMessage(object, messageProperties));
+  }
+
+  @Override
+  public Message toMessage(Object object, MessageProperties messageProperties, Type genericType) {
+    return compress(delegate.toMessage(object, messageProperties, genericType));
+  }
+
+  @Override
+  public Object fromMessage(Message message) {
+    return delegate.fromMessage(decompressor.postProcessMessage(message));
+  }
+
+  private Message compress(Message message) {
+    return compressor == null ? message : compressor.postProcessMessage(message);
+  }
+
+  /**
+   * Compression applied to outgoing message bodies.
+   */
+  public enum Compression {
+    NONE,
+    GZIP,
+    DEFLATE;
+
+    MessagePostProcessor createCompressor() {
+      switch (this) {
+        case GZIP:
+          return new GZipPostProcessor();
+        case DEFLATE:
+          return new DeflaterPostProcessor();
+        default:
+          return null;
+      }
+    }
+  }
+}
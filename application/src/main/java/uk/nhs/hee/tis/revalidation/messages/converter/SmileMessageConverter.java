@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * Message converter writing and reading the binary Smile encoding of JSON.
+ *
+ * <p>Type information is carried in the same headers as for
+ * {@link org.springframework.amqp.support.converter.Jackson2JsonMessageConverter}, so listeners
+ * can switch between JSON and Smile payloads without changing their method signatures.
+ */
+public class SmileMessageConverter extends AbstractMessageConverter {
+
+  public static final String CONTENT_TYPE_SMILE = "application/x-jackson-smile";
+
+  private final ObjectMapper smileMapper;
+  private final DefaultJackson2JavaTypeMapper javaTypeMapper = new DefaultJackson2JavaTypeMapper();
+
+  public SmileMessageConverter(ObjectMapper smileMapper) {
+    this.smileMapper = smileMapper;
+    javaTypeMapper.setTrustedPackages("*");
+  }
+
+  @Override
+  protected Message createMessage(Object object, MessageProperties messageProperties) {
+    try {
+      final byte[] bytes = smileMapper.writeValueAsBytes(object);
+      messageProperties.setContentType(CONTENT_TYPE_SMILE);
+      messageProperties.setContentLength(bytes.length);
+      javaTypeMapper.fromJavaType(smileMapper.constructType(object.getClass()),
+          messageProperties);
+      return new Message(bytes, messageProperties);
+    } catch (IOException e) {
+      throw new MessageConversionException("Failed to convert message content to Smile", e);
+    }
+  }
+
+  @Override
+  public Object fromMessage(Message message) {
+    try {
+      return smileMapper.readValue(message.getBody(),
+          javaTypeMapper.toJavaType(message.getMessageProperties()));
+    } catch (IOException e) {
+      throw new MessageConversionException("Failed to convert message content from Smile", e);
+    }
+  }
+}
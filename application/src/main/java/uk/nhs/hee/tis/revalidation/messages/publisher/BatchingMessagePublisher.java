@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.publisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+
+/**
+ * Buffers messages for a {@link RabbitMqMessagePublisher} and sends them in batches on a single
+ * channel, waiting for publisher confirms before the batch is considered delivered.
+ *
+ * <p>A batch is flushed once it reaches the configured size, when a message is added after the
+ * oldest buffered message has waited longer than the configured buffer time, or when the
+ * publisher is closed. Messages in a batch that the broker did not confirm are collected rather
+ * than thrown so the caller can decide whether to retry them. Instances are not thread safe and
+ * are intended to be used for a single burst of publishing, e.g. in a try-with-resources block.
+ *
+ * @param <T> the message type
+ */
+@Slf4j
+public class BatchingMessagePublisher<T> implements AutoCloseable {
+
+  private final RabbitMqMessagePublisher<T> publisher;
+  private final int maxBatchSize;
+  private final Duration maxBufferTime;
+  private final long confirmTimeoutMillis;
+  private final Clock clock;
+
+  private final List<T> buffer = new ArrayList<>();
+  private final List<T> failedMessages = new ArrayList<>();
+  private Instant oldestBufferedAt;
+  private int confirmedCount;
+
+  public BatchingMessagePublisher(RabbitMqMessagePublisher<T> publisher, int maxBatchSize,
+      long maxBufferMillis, long confirmTimeoutMillis) {
+    this(publisher, maxBatchSize, maxBufferMillis, confirmTimeoutMillis, Clock.systemUTC());
+  }
+
+  BatchingMessagePublisher(RabbitMqMessagePublisher<T> publisher, int maxBatchSize,
+      long maxBufferMillis, long confirmTimeoutMillis, Clock clock) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("maxBatchSize must be at least 1");
+    }
+    this.publisher = publisher;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBufferTime = Duration.ofMillis(maxBufferMillis);
+    this.confirmTimeoutMillis = confirmTimeoutMillis;
+    this.clock = clock;
+  }
+
+  /**
+   * Add a message to the buffer, flushing the buffer if it is full or has been held too long.
+   *
+   * @param message the message to publish
+   */
+  public void add(T message) {
+    if (buffer.isEmpty()) {
+      oldestBufferedAt = clock.instant();
+    }
+    buffer.add(message);
+
+    if (buffer.size() >= maxBatchSize
+        || !clock.instant().isBefore(oldestBufferedAt.plus(maxBufferTime))) {
+      flush();
+    }
+  }
+
+  /**
+   * Publish any buffered messages and wait for the broker to confirm them.
+   */
+  public void flush() {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    final List<T> batch = List.copyOf(buffer);
+    buffer.clear();
+
+    try {
+      publisher.publishToBrokerWithConfirms(batch, confirmTimeoutMillis);
+      confirmedCount += batch.size();
+    } catch (AmqpException e) {
+      log.error("Batch of {} messages was not confirmed by the broker", batch.size(), e);
+      failedMessages.addAll(batch);
+    }
+  }
+
+  /**
+   * Get the messages which the broker has not confirmed so far.
+   *
+   * @return the unconfirmed messages, in the order they were added
+   */
+  public List<T> getFailedMessages() {
+    return Collections.unmodifiableList(failedMessages);
+  }
+
+  /**
+   * Get the number of messages the broker has confirmed so far.
+   *
+   * @return the confirmed message count
+   */
+  public int getConfirmedCount() {
+    return confirmedCount;
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+}
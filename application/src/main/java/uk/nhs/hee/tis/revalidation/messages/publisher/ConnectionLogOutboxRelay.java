@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.publisher;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
+import uk.nhs.hee.tis.revalidation.repository.ConnectionLogOutboxRepository;
+
+/**
+ * Drains the connection log outbox to the broker. Each batch is published with publisher confirms
+ * and only removed from the outbox once confirmed, so connection logs are delivered at least once.
+ */
+@Slf4j
+@Component
+public class ConnectionLogOutboxRelay {
+
+  private final ConnectionLogOutboxRepository connectionLogOutboxRepository;
+  private final ConnectionLogPublisher connectionLogPublisher;
+
+  @Value("${app.reval.outbox.batchsize}")
+  private int batchSize;
+
+  @Value("${app.reval.outbox.confirmTimeout}")
+  private long confirmTimeout;
+
+  public ConnectionLogOutboxRelay(ConnectionLogOutboxRepository connectionLogOutboxRepository,
+      ConnectionLogPublisher connectionLogPublisher) {
+    this.connectionLogOutboxRepository = connectionLogOutboxRepository;
+    this.connectionLogPublisher = connectionLogPublisher;
+  }
+
+  /**
+   * Publish pending connection logs, oldest first, until the outbox is empty.
+   */
+  @Scheduled(fixedDelayString = "${app.reval.outbox.fixedDelay}")
+  @SchedulerLock(name = "ConnectionLogOutboxRelayJob")
+  public void relayConnectionLogs() {
+    final var pageRequest = PageRequest.of(0, batchSize);
+    List<ConnectionLogOutbox> batch;
+    int relayed = 0;
+
+    do {
+      batch = connectionLogOutboxRepository.findAllByOrderByCreatedDateTimeAsc(pageRequest);
+      if (batch.isEmpty()) {
+        break;
+      }
+      connectionLogPublisher.publishToBrokerWithConfirms(
+          batch.stream().map(ConnectionLogOutbox::getConnectionLog).toList(), confirmTimeout);
+      connectionLogOutboxRepository.deleteAll(batch);
+      relayed += batch.size();
+    } while (batch.size() == batchSize);
+
+    if (relayed > 0) {
+      log.info("Relayed {} connection logs from the outbox", relayed);
+    }
+  }
+}
@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.revalidation.messages.publisher;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import uk.nhs.hee.tis.revalidation.messages.payloads.IndexSyncMessage;
@@ -33,7 +34,7 @@ public class ElasticsearchSyncMessagePublisher extends
   public ElasticsearchSyncMessagePublisher(
       @Value("${app.rabbit.reval.exchange}") String revalExchange,
       @Value("${app.rabbit.reval.routingKey.revalidationsummary.essync}") String gmcSyncRoutingKey,
-      RabbitTemplate rabbitTemplate) {
+      @Qualifier("essyncRabbitTemplate") RabbitTemplate rabbitTemplate) {
     super(revalExchange, gmcSyncRoutingKey, rabbitTemplate);
   }
 }
\ No newline at end of file
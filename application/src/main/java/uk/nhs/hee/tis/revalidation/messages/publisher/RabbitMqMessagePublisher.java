@@ -21,6 +21,7 @@
 
 package uk.nhs.hee.tis.revalidation.messages.publisher;
 
+import java.util.Collection;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 
 public abstract class RabbitMqMessagePublisher<T> implements MessagePublisher<T> {
@@ -39,4 +40,20 @@ public abstract class RabbitMqMessagePublisher<T> implements MessagePublisher<T>
   public void publishToBroker(T message) {
     rabbitTemplate.convertAndSend(exchange, routingKey, message);
   }
+
+  /**
+   * Publish a batch of messages on a single channel and block until the broker has confirmed all
+   * of them. Requires publisher confirms to be enabled on the connection factory.
+   *
+   * @param messages             the messages to publish
+   * @param confirmTimeoutMillis how long to wait for the broker to confirm the batch
+   * @throws org.springframework.amqp.AmqpException if any message is nacked or not confirmed in time
+   */
+  public void publishToBrokerWithConfirms(Collection<T> messages, long confirmTimeoutMillis) {
+    rabbitTemplate.invoke(operations -> {
+      messages.forEach(message -> operations.convertAndSend(exchange, routingKey, message));
+      operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+      return null;
+    });
+  }
 }
@@ -0,0 +1,181 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recover failed listener messages by sending them to a delayed retry queue, or to the parking
+ * lot queue once the configured number of attempts has been used.
+ *
+ * <p>Each source queue has a retry queue per delay, {@code <queue>.retry.<delay in ms>}, bound to
+ * the error exchange. Messages wait there for the queue's TTL and are then dead-lettered back to
+ * the source queue. Every message in a retry queue waits equally long, so the message at the head
+ * always expires first and a long delay never holds up a shorter one. The delays grow
+ * exponentially with the attempt up to the maximum interval, and the number of attempts made so
+ * far travels in the {@value #RETRY_ATTEMPT_HEADER} header.
+ *
+ * <p>Messages are published as mandatory and the recoverer waits for the broker to confirm them.
+ * If the publish is nacked, times out or is returned as unroutable the recoverer throws, so the
+ * failed delivery is rejected and requeued rather than acknowledged and lost.
+ */
+@Slf4j
+@Component
+public class DelayedRetryMessageRecoverer implements MessageRecoverer {
+
+  public static final String RETRY_ATTEMPT_HEADER = "x-retry-attempt";
+  public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+  public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+  public static final String RETRY_QUEUE_SUFFIX = ".retry";
+
+  private final RabbitTemplate rabbitTemplate;
+  private final String errorExchange;
+  private final String parkingLotRoutingKey;
+  private final boolean limitRetries;
+  private final int maxAttempts;
+  private final long initialInterval;
+  private final double multiplier;
+  private final long maxInterval;
+  private final long confirmTimeout;
+
+  public DelayedRetryMessageRecoverer(RabbitTemplate rabbitTemplate,
+      @Value("${app.error.exchange}") String errorExchange,
+      @Value("${app.rabbit.retry.parkingLotQueue}") String parkingLotRoutingKey,
+      @Value("${app.error.limit.retries}") boolean limitRetries,
+      @Value("${app.rabbit.retry.maxAttempts}") int maxAttempts,
+      @Value("${app.rabbit.retry.initialInterval}") long initialInterval,
+      @Value("${app.rabbit.retry.multiplier}") double multiplier,
+      @Value("${app.rabbit.retry.maxInterval}") long maxInterval,
+      @Value("${app.reval.publisher.confirmTimeout}") long confirmTimeout) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.errorExchange = errorExchange;
+    this.parkingLotRoutingKey = parkingLotRoutingKey;
+    this.limitRetries = limitRetries;
+    this.maxAttempts = maxAttempts;
+    this.initialInterval = initialInterval;
+    this.multiplier = multiplier;
+    this.maxInterval = maxInterval;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  @Override
+  public void recover(Message message, Throwable cause) {
+    final var properties = message.getMessageProperties();
+    final String sourceQueue = properties.getHeader(ORIGINAL_QUEUE_HEADER) != null
+        ? properties.getHeader(ORIGINAL_QUEUE_HEADER) : properties.getConsumerQueue();
+    final int attempt = getAttempt(message) + 1;
+
+    properties.setHeader(RETRY_ATTEMPT_HEADER, attempt);
+    properties.setHeader(ORIGINAL_QUEUE_HEADER, sourceQueue);
+    properties.setHeader(EXCEPTION_MESSAGE_HEADER, getRootCauseMessage(cause));
+    if (properties.getDeliveryMode() == null) {
+      properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+    }
+
+    if (isPermanentFailure(cause) || (limitRetries && attempt >= maxAttempts)) {
+      log.error("Parking message from queue {} after {} attempt(s)", sourceQueue, attempt, cause);
+      properties.setExpiration(null);
+      publish(parkingLotRoutingKey, message);
+    } else {
+      final long delay = getDelay(Math.min(attempt, getRetryLevels()));
+      log.warn("Retrying message from queue {} in {}ms, attempt {} failed", sourceQueue, delay,
+          attempt, cause);
+      properties.setExpiration(null);
+      publish(getRetryQueueName(sourceQueue, delay), message);
+    }
+  }
+
+  /**
+   * Get the number of retry queues each source queue needs, one for each distinct delay of an
+   * attempt that can still be retried. Attempts beyond the last level reuse its queue.
+   *
+   * @return the number of retry levels, at least 1
+   */
+  public int getRetryLevels() {
+    int levels = 1;
+    while (getDelay(levels + 1) > getDelay(levels) && (!limitRetries
+        || levels + 1 < maxAttempts)) {
+      levels++;
+    }
+    return levels;
+  }
+
+  /**
+   * Get the name of the retry queue holding messages from a source queue for the given delay.
+   * The delay is part of the name, so changing the intervals declares new queues rather than
+   * clashing with the TTL of existing ones.
+   *
+   * @param sourceQueue the queue the message failed on
+   * @param delay       the delay in milliseconds
+   * @return the retry queue name
+   */
+  public static String getRetryQueueName(String sourceQueue, long delay) {
+    return sourceQueue + RETRY_QUEUE_SUFFIX + "." + delay;
+  }
+
+  /**
+   * Get the delay before the next attempt, growing exponentially up to the maximum interval.
+   *
+   * @param attempt the number of attempts made so far, starting at 1
+   * @return the delay in milliseconds
+   */
+  public long getDelay(int attempt) {
+    final double delay = initialInterval * Math.pow(multiplier, attempt - 1.0);
+    return (long) Math.min(delay, maxInterval);
+  }
+
+  private void publish(String routingKey, Message message) {
+    rabbitTemplate.invoke(operations -> operations.execute(channel -> {
+      MandatoryPublisher.publish(channel, errorExchange, routingKey, message, confirmTimeout);
+      return null;
+    }));
+  }
+
+  private static int getAttempt(Message message) {
+    final Object attempt = message.getMessageProperties().getHeader(RETRY_ATTEMPT_HEADER);
+    return attempt instanceof Number ? ((Number) attempt).intValue() : 0;
+  }
+
+  private static boolean isPermanentFailure(Throwable cause) {
+    for (Throwable t = cause; t != null; t = t.getCause()) {
+      if (t instanceof MessageConversionException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String getRootCauseMessage(Throwable cause) {
+    Throwable root = cause;
+    while (root.getCause() != null) {
+      root = root.getCause();
+    }
+    return String.valueOf(root.getMessage());
+  }
+}
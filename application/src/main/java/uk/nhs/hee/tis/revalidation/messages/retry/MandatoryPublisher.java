@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.retry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Return;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+
+/**
+ * Publishes a message as mandatory on a confirm channel and waits for the broker to confirm it.
+ * The broker returns a mandatory message it cannot route before confirming it, so a message that
+ * is nacked, not confirmed in time or returned fails the publish rather than being dropped.
+ */
+final class MandatoryPublisher {
+
+  private static final MessagePropertiesConverter MESSAGE_PROPERTIES_CONVERTER =
+      new DefaultMessagePropertiesConverter();
+
+  private MandatoryPublisher() {
+  }
+
+  /**
+   * Publish a message and wait for it to be confirmed.
+   *
+   * @param channel        a channel in confirm mode
+   * @param exchange       the exchange to publish to
+   * @param routingKey     the routing key to publish with
+   * @param message        the message to publish
+   * @param confirmTimeout the time to wait for the confirm in milliseconds
+   * @throws AmqpException when the message is returned as unroutable
+   * @throws IOException   when the message is nacked or the channel fails
+   * @throws TimeoutException when the message is not confirmed in time
+   */
+  static void publish(Channel channel, String exchange, String routingKey, Message message,
+      long confirmTimeout) throws IOException, InterruptedException, TimeoutException {
+    final AtomicReference<Return> returned = new AtomicReference<>();
+    final var returnListener = channel.addReturnListener(returned::set);
+    try {
+      channel.basicPublish(exchange, routingKey, true, MESSAGE_PROPERTIES_CONVERTER
+              .fromMessageProperties(message.getMessageProperties(), UTF_8.name()),
+          message.getBody());
+      channel.waitForConfirmsOrDie(confirmTimeout);
+    } finally {
+      channel.removeReturnListener(returnListener);
+    }
+    if (returned.get() != null) {
+      throw new AmqpException(String.format(
+          "Message to exchange '%s' with routing key '%s' was returned: %s", exchange,
+          routingKey, returned.get().getReplyText()));
+    }
+  }
+}
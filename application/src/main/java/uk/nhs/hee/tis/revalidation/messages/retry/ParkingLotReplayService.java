@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.retry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.EXCEPTION_MESSAGE_HEADER;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.ORIGINAL_QUEUE_HEADER;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.RETRY_ATTEMPT_HEADER;
+
+import com.rabbitmq.client.GetResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replays messages from the parking lot queue back onto the queues they originally failed on.
+ *
+ * <p>Parked messages are fetched without auto-acknowledgement and only acknowledged once the
+ * broker has confirmed the republished copy, so a failed replay leaves the message parked. It may
+ * then be replayed twice, but is never lost. Messages without an {@value
+ * DelayedRetryMessageRecoverer#ORIGINAL_QUEUE_HEADER} header have nowhere to go and stay parked.
+ */
+@Slf4j
+@Service
+public class ParkingLotReplayService {
+
+  private static final MessagePropertiesConverter MESSAGE_PROPERTIES_CONVERTER =
+      new DefaultMessagePropertiesConverter();
+
+  private final RabbitTemplate rabbitTemplate;
+  private final String parkingLotQueue;
+  private final long confirmTimeout;
+
+  public ParkingLotReplayService(RabbitTemplate rabbitTemplate,
+      @Value("${app.rabbit.retry.parkingLotQueue}") String parkingLotQueue,
+      @Value("${app.reval.publisher.confirmTimeout}") long confirmTimeout) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.parkingLotQueue = parkingLotQueue;
+    this.confirmTimeout = confirmTimeout;
+  }
+
+  /**
+   * Move up to {@code limit} parked messages back to their original queues with a fresh set of
+   * retry attempts.
+   *
+   * @param limit the maximum number of messages to replay
+   * @return the number of messages replayed
+   */
+  public int replay(int limit) {
+    final Integer replayed = rabbitTemplate.invoke(operations -> operations.execute(channel -> {
+      // held unacknowledged until the end, so that they are not fetched again
+      final List<Long> unroutable = new ArrayList<>();
+      int count = 0;
+      try {
+        GetResponse response;
+        while (count < limit && (response = channel.basicGet(parkingLotQueue, false)) != null) {
+          final long deliveryTag = response.getEnvelope().getDeliveryTag();
+          final var properties = MESSAGE_PROPERTIES_CONVERTER.toMessageProperties(
+              response.getProps(), response.getEnvelope(), UTF_8.name());
+          if (!(properties.getHeaders().get(ORIGINAL_QUEUE_HEADER) instanceof String queue)
+              || queue.isBlank()) {
+            unroutable.add(deliveryTag);
+            continue;
+          }
+          properties.getHeaders().remove(RETRY_ATTEMPT_HEADER);
+          properties.getHeaders().remove(EXCEPTION_MESSAGE_HEADER);
+          try {
+            operations.send("", queue, new Message(response.getBody(), properties));
+            operations.waitForConfirmsOrDie(confirmTimeout);
+          } catch (RuntimeException e) {
+            channel.basicNack(deliveryTag, false, true);
+            throw e;
+          }
+          channel.basicAck(deliveryTag, false);
+          count++;
+        }
+      } finally {
+        for (long deliveryTag : unroutable) {
+          channel.basicNack(deliveryTag, false, true);
+        }
+      }
+      if (!unroutable.isEmpty()) {
+        log.warn("Left {} messages without an original queue in parking lot queue {}",
+            unroutable.size(), parkingLotQueue);
+      }
+      return count;
+    }));
+    log.info("Replayed {} messages from parking lot queue {}", replayed, parkingLotQueue);
+    return replayed;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.repository;
+
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchPhraseQuery;
+import static org.elasticsearch.index.query.QueryBuilders.multiMatchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsLookupQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+import static org.elasticsearch.search.sort.SortBuilders.fieldSort;
+
+import java.util.List;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.indices.TermsLookup;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.util.StringUtils;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+
+/**
+ * Builds the doctor search query from a request, adding a clause only for the filters that are
+ * set. Under notice searches filter on the notice flag, all other searches exclude the hidden GMC
+ * ids with a {@code terms} query on the sort keyword subfield, either listing them or looking them
+ * up from a stored document. The subfield's lowercase normalizer is applied to the ids as well, so
+ * they still match exactly.
+ *
+ * <p>Sorts are sent with an unmapped type, so sorting on a subfield an index created before it
+ * was added lacks leaves those hits unsorted rather than failing the search.
+ */
+public final class DoctorSearchQueryBuilder {
+
+  private static final String UNDER_NOTICE = "YES";
+  private static final String[] NAME_PREFIX_FIELDS = {"doctorFirstName.prefix",
+      "doctorLastName.prefix", "gmcReferenceNumber.prefix"};
+  private static final String GMC_REFERENCE_NUMBER_SORT = "gmcReferenceNumber.sort";
+  private static final String UNMAPPED_SORT_TYPE = "keyword";
+
+  private final TraineeRequestDto requestDto;
+
+  private List<String> hiddenGmcIds = List.of();
+
+  private TermsLookup hiddenGmcIdsLookup;
+
+  private DoctorSearchQueryBuilder(TraineeRequestDto requestDto) {
+    this.requestDto = requestDto;
+  }
+
+  public static DoctorSearchQueryBuilder forRequest(TraineeRequestDto requestDto) {
+    return new DoctorSearchQueryBuilder(requestDto);
+  }
+
+  /**
+   * Exclude the given doctors from the results. Ignored for under notice searches.
+   */
+  public DoctorSearchQueryBuilder excludingGmcIds(List<String> hiddenGmcIds) {
+    this.hiddenGmcIds = hiddenGmcIds == null ? List.of() : hiddenGmcIds;
+    return this;
+  }
+
+  /**
+   * Exclude the doctors listed in a stored document, for hide lists too large to send in every
+   * query. Takes precedence over {@link #excludingGmcIds}. Ignored for under notice searches.
+   */
+  public DoctorSearchQueryBuilder excludingGmcIdsIn(TermsLookup hiddenGmcIdsLookup) {
+    this.hiddenGmcIdsLookup = hiddenGmcIdsLookup;
+    return this;
+  }
+
+  public BoolQueryBuilder buildQuery() {
+    final var query = boolQuery()
+        .filter(termsQuery("designatedBody", requestDto.getDbcs()))
+        .filter(termQuery("existsInGmc", true));
+
+    if (StringUtils.hasText(requestDto.getSearchQuery())) {
+      query.filter(multiMatchQuery(requestDto.getSearchQuery(), NAME_PREFIX_FIELDS)
+          .type(MultiMatchQueryBuilder.Type.CROSS_FIELDS).operator(Operator.AND));
+    }
+    if (StringUtils.hasText(requestDto.getProgrammeName())) {
+      query.filter(matchPhraseQuery("programmeName", requestDto.getProgrammeName()));
+    }
+    if (StringUtils.hasText(requestDto.getGmcStatus())) {
+      query.filter(termQuery("gmcStatus", requestDto.getGmcStatus()));
+    }
+    if (StringUtils.hasText(requestDto.getTisStatus())) {
+      query.filter(termQuery("tisStatus", requestDto.getTisStatus()));
+    }
+    if (StringUtils.hasText(requestDto.getAdmin())) {
+      query.filter(matchPhraseQuery("admin", requestDto.getAdmin()));
+    }
+
+    if (requestDto.isUnderNotice()) {
+      query.filter(termQuery("underNotice", UNDER_NOTICE));
+    } else if (hiddenGmcIdsLookup != null) {
+      query.mustNot(termsLookupQuery(GMC_REFERENCE_NUMBER_SORT, hiddenGmcIdsLookup));
+    } else if (!hiddenGmcIds.isEmpty()) {
+      query.mustNot(termsQuery(GMC_REFERENCE_NUMBER_SORT, hiddenGmcIds));
+    }
+    return query;
+  }
+
+  /**
+   * Build the search for one page of results, counting every match rather than stopping at the
+   * default limit of 10,000.
+   */
+  public NativeSearchQuery build(Pageable pageable) {
+    final var searchQuery = new NativeSearchQueryBuilder().withQuery(buildQuery())
+        .withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+        .withTrackTotalHits(true);
+    pageable.getSort().forEach(order -> searchQuery.withSort(toSortBuilder(order)));
+    return searchQuery.build();
+  }
+
+  private static FieldSortBuilder toSortBuilder(Sort.Order order) {
+    final var sortBuilder = fieldSort(order.getProperty()).unmappedType(UNMAPPED_SORT_TYPE)
+        .order(order.isAscending() ? SortOrder.ASC : SortOrder.DESC);
+    if (order.getNullHandling() == NullHandling.NULLS_FIRST) {
+      sortBuilder.missing("_first");
+    } else if (order.getNullHandling() == NullHandling.NULLS_LAST) {
+      sortBuilder.missing("_last");
+    }
+    return sortBuilder;
+  }
+}
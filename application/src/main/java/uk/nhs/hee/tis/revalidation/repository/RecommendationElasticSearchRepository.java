@@ -21,10 +21,6 @@
 
 package uk.nhs.hee.tis.revalidation.repository;
 
-import java.util.List;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.stereotype.Repository;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
@@ -32,53 +28,4 @@ import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
 @Repository
 public interface RecommendationElasticSearchRepository extends
     ElasticsearchRepository<RecommendationView, String> {
-
-  @Query("""
-      {"bool":{"filter":[
-        {"match":{"underNotice":"YES"}},
-        {"match":{"designatedBody":"?1"}},
-        {"match":{"existsInGmc":"true"}},
-        {"bool":{"should":[
-          {"wildcard":{"doctorFirstName":{"value":"?0*"}}},
-          {"wildcard":{"doctorLastName":{"value":"?0*"}}},
-          {"wildcard":{"gmcReferenceNumber":{"value":"?0*"}}}
-        ]}},
-        {"match_phrase":{"programmeName":{"query":"?2","zero_terms_query":"all"}}},
-        {"match":{"gmcStatus":{"query":"?3","zero_terms_query":"all"}}},
-        {"match":{"tisStatus":{"query":"?4","zero_terms_query":"all"}}},
-        {"match_phrase":{"admin":{"query":"?5","zero_terms_query":"all"}}}
-      ]}}
-      """)
-  Page<RecommendationView> findByUnderNotice(final String searchQuery, final String dbcs,
-      String programmeName, String gmcStatus, String tisStatus, String admin,
-      final Pageable pageable);
-
-  @Query("""
-      {"bool":{"must_not":{"match":{"gmcReferenceNumber":"?2"}},"filter":[
-        {"match":{"designatedBody":"?1"}},
-        {"match":{"existsInGmc":"true"}},
-        {"bool":{"should":[
-          {"wildcard":{"doctorFirstName":{"value":"?0*"}}},
-          {"wildcard":{"doctorLastName":{"value":"?0*"}}},
-          {"wildcard":{"gmcReferenceNumber":{"value":"?0*"}}}
-        ]}},
-        {"match_phrase":{"programmeName":{"query":"?3","zero_terms_query":"all"}}},
-        {"match":{"gmcStatus":{"query":"?4","zero_terms_query":"all"}}},
-        {"match":{"tisStatus":{"query":"?5","zero_terms_query":"all"}}},
-        {"match_phrase":{"admin":{"query":"?6","zero_terms_query":"all"}}}
-      ]}}
-      """)
-  Page<RecommendationView> findAll(final String searchQuery, final String dbcs,
-      List<String> hiddenGmcIds, String programmeName, String gmcStatus,
-      String tisStatus, String admin, final Pageable pageable);
-
-  @Query("""
-      {"bool":{"filter":[
-        {"match":{"underNotice":"YES"}},
-        {"match":{"designatedBody":"?2"}},
-        {"match_phrase_prefix":{"?0":{"query":"?1"}}}
-      ]}}
-      """)
-  List<RecommendationView> findByFieldNameParameter(final String fieldName, final String input,
-      final String dbcs);
 }
@@ -24,6 +24,7 @@ package uk.nhs.hee.tis.revalidation.repository;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -48,6 +49,8 @@ public interface RecommendationRepository extends MongoRepository<Recommendation
   List<Recommendation> findAllByGmcNumberAndOutcomeNotIn(final String gmcNumber,
       final RecommendationGmcOutcome... outcome);
 
+  List<Recommendation> findAllByGmcNumberIn(final Collection<String> gmcNumbers);
+
   List<Recommendation> findAllByRecommendationStatus(
       final RecommendationStatus recommendationStatus);
 
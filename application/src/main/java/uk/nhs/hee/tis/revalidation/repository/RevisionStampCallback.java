@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.repository;
+
+import java.util.Set;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps every saved doctor and recommendation document with a new revision, so that read
+ * endpoints can derive an ETag from the revisions alone without loading the full documents.
+ *
+ * <p>The revision is only held in the stored document, not on the entities, and documents saved
+ * before it was introduced have no revision until they are next saved.
+ */
+@Component
+public class RevisionStampCallback implements BeforeSaveCallback<Object> {
+
+  public static final String REVISION = "revision";
+
+  static final Set<String> STAMPED_COLLECTIONS = Set.of("doctorsForDB", "recommendation");
+
+  @Override
+  public Object onBeforeSave(Object entity, Document document, String collection) {
+    if (STAMPED_COLLECTIONS.contains(collection)) {
+      document.put(REVISION, new ObjectId());
+    }
+    return entity;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.repository.reactive;
+
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
+
+/**
+ * Non-blocking reads of recommendations, for the reactive read endpoints. The queries match those
+ * of {@link uk.nhs.hee.tis.revalidation.repository.RecommendationRepository}.
+ */
+@Repository
+public interface ReactiveRecommendationRepository extends
+    ReactiveMongoRepository<Recommendation, String> {
+
+  Mono<Recommendation> findFirstByGmcNumberOrderByActualSubmissionDateDesc(
+      final String gmcNumber);
+
+  //get recommendations which can be updated, APPROVED and REJECTED ones are read from snapshots
+  default Flux<Recommendation> findByGmcNumber(final String gmcNumber) {
+    return findAllByGmcNumberAndOutcomeNotIn(gmcNumber, APPROVED, REJECTED);
+  }
+
+  Flux<Recommendation> findAllByGmcNumberAndOutcomeNotIn(final String gmcNumber,
+      final RecommendationGmcOutcome... outcome);
+}
@@ -21,6 +21,8 @@
 
 package uk.nhs.hee.tis.revalidation.service;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
 import static org.springframework.data.domain.PageRequest.of;
 import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.Direction.DESC;
@@ -28,16 +30,25 @@ import static org.springframework.data.domain.Sort.by;
 import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.NO;
 import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.YES;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionLogDto;
@@ -47,15 +58,16 @@ import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeAdminDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
 import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
 import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
 import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
 import uk.nhs.hee.tis.revalidation.mapper.RecommendationViewMapper;
-import uk.nhs.hee.tis.revalidation.messages.publisher.ConnectionLogPublisher;
+import uk.nhs.hee.tis.revalidation.repository.ConnectionLogOutboxRepository;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
-import uk.nhs.hee.tis.revalidation.repository.RecommendationElasticSearchRepository;
+import uk.nhs.hee.tis.revalidation.util.SearchAfterCursorUtil;
 
 @Slf4j
 @Transactional
@@ -71,34 +83,59 @@ public class DoctorsForDBService {
 
   private final RecommendationElasticSearchService recommendationElasticSearchService;
 
-  private final RecommendationElasticSearchRepository recommendationElasticSearchRepository;
-
   private final RecommendationViewMapper recommendationViewMapper;
 
   private final DoctorsForDbMapper doctorsForDbMapper;
 
-  private final ConnectionLogPublisher connectionLogPublisher;
+  private final ConnectionLogOutboxRepository connectionLogOutboxRepository;
+
+  private final TraineeSummaryCache traineeSummaryCache;
 
+  private final MeterRegistry meterRegistry;
+
+  static final String TRAINEE_UPDATE_METRIC = "reval.trainee.update";
+  static final String STALE_DOCTORS_METRIC = "reval.doctors.stale";
+  private static final String DESIGNATED_BODY_TAG = "designatedBody";
   private static final String UPDATED_BY_GMC = "Updated by GMC";
+  private static final String GMC_REFERENCE_NUMBER = "gmcReferenceNumber";
+  private static final String DOCTOR_LAST_NAME = "doctorLastName";
   private static final String CONNECTION_LOG_DATETIME_FORMAT = "uuuu-MM-dd'T'HH:mm:ss.SSS";
+  private static final String OUTBOX_NO_EVENT_TIME = "no-event-time";
+  private static final String OUTBOX_UNCONNECTED = "unconnected";
+  // text fields sort on their keyword subfields, other columns are sortable as they are
+  private static final Map<String, String> SORT_FIELDS = Map.of(
+      "doctorFirstName", "doctorFirstName.sort",
+      DOCTOR_LAST_NAME, "doctorLastName.sort",
+      GMC_REFERENCE_NUMBER, "gmcReferenceNumber.sort",
+      "programmeName", "programmeName.keyword");
 
   public DoctorsForDBService(DoctorsForDBRepository doctorsForDBRepository,
       RecommendationService recommendationService,
-      RecommendationElasticSearchRepository recommendationElasticSearchRepository,
       RecommendationElasticSearchService recommendationElasticSearchService,
       RecommendationViewMapper recommendationViewMapper, DoctorsForDbMapper doctorsForDbMapper,
-      ConnectionLogPublisher connectionLogPublisher) {
+      ConnectionLogOutboxRepository connectionLogOutboxRepository,
+      TraineeSummaryCache traineeSummaryCache, MeterRegistry meterRegistry) {
     this.doctorsRepository = doctorsForDBRepository;
     this.recommendationService = recommendationService;
-    this.recommendationElasticSearchRepository = recommendationElasticSearchRepository;
     this.recommendationElasticSearchService = recommendationElasticSearchService;
     this.recommendationViewMapper = recommendationViewMapper;
     this.doctorsForDbMapper = doctorsForDbMapper;
-    this.connectionLogPublisher = connectionLogPublisher;
+    this.connectionLogOutboxRepository = connectionLogOutboxRepository;
+    this.traineeSummaryCache = traineeSummaryCache;
+    this.meterRegistry = meterRegistry;
   }
 
   public TraineeSummaryDto getAllTraineeDoctorDetails(final TraineeRequestDto requestDTO,
       final List<String> hiddenGmcIds) {
+    return traineeSummaryCache.get(requestDTO, hiddenGmcIds,
+        () -> loadTraineeDoctorDetails(requestDTO, hiddenGmcIds));
+  }
+
+  private TraineeSummaryDto loadTraineeDoctorDetails(final TraineeRequestDto requestDTO,
+      final List<String> hiddenGmcIds) {
+    if (requestDTO.getCursor() != null) {
+      return getTraineeDoctorDetailsAfterCursor(requestDTO, hiddenGmcIds);
+    }
     final var paginatedDoctors = getSortedAndFilteredDoctorsByPageNumber(requestDTO, hiddenGmcIds);
     final var doctorsList = paginatedDoctors.get()
         .map(recommendationViewMapper::toTraineeInfoDto).toList();
@@ -108,12 +145,47 @@ public class DoctorsForDBService {
         .totalResults(paginatedDoctors.getTotalElements()).build();
   }
 
+  /**
+   * Get a page of doctors following the cursor in the request, or the first page for an empty
+   * cursor. The returned {@code nextCursor} is null once the last page has been reached.
+   */
+  private TraineeSummaryDto getTraineeDoctorDetailsAfterCursor(final TraineeRequestDto requestDTO,
+      final List<String> hiddenGmcIds) {
+    var sort = getSort(requestDTO);
+    final var tiebreaker = SORT_FIELDS.get(GMC_REFERENCE_NUMBER);
+    if (sort.getOrderFor(tiebreaker) == null) {
+      sort = sort.and(by(tiebreaker));
+    }
+    final var searchHits = recommendationElasticSearchService.searchAfter(requestDTO,
+        hiddenGmcIds, sort, SearchAfterCursorUtil.decode(requestDTO.getCursor()), pageSize);
+    final var doctorsList = searchHits.get().map(SearchHit::getContent)
+        .map(recommendationViewMapper::toTraineeInfoDto).toList();
+
+    String nextCursor = null;
+    if (searchHits.getSearchHits().size() == pageSize) {
+      final var lastHit = searchHits.getSearchHit(pageSize - 1);
+      nextCursor = SearchAfterCursorUtil.encode(lastHit.getSortValues());
+    }
+    final long totalResults = searchHits.getTotalHits();
+
+    return TraineeSummaryDto.builder().traineeInfo(doctorsList).countTotal(getCountAll())
+        .countUnderNotice(getCountUnderNotice())
+        .totalPages((totalResults + pageSize - 1) / pageSize).totalResults(totalResults)
+        .nextCursor(nextCursor).build();
+  }
+
   /**
    * During nightly sync job, update DoctorsForDB data after we get data from GMC.
    *
    * @param gmcDoctor doctor dto from GMC
    */
   public void updateTrainee(final DoctorsForDbDto gmcDoctor) {
+    Timer.builder(TRAINEE_UPDATE_METRIC)
+        .tag(DESIGNATED_BODY_TAG, String.valueOf(gmcDoctor.getDesignatedBodyCode()))
+        .register(meterRegistry).record(() -> saveTrainee(gmcDoctor));
+  }
+
+  private void saveTrainee(final DoctorsForDbDto gmcDoctor) {
     // Set default lastUpdatedDate, existsInGmc and doctorStatus when mapping dto to entity.
     final var doctorsForDB = doctorsForDbMapper.toEntity(gmcDoctor, true,
         RecommendationStatus.NOT_STARTED);
@@ -134,7 +206,6 @@ public class DoctorsForDBService {
     } else {
       doctorsForDB.setDoctorStatus(RecommendationStatus.NOT_STARTED);
     }
-    doctorsRepository.save(doctorsForDB);
 
     if (!newDesignatedBody.equals(previousDesignatedBody)) {
       ConnectionLogDto connectionLogDto = ConnectionLogDto.builder().gmcId(
@@ -143,19 +214,24 @@ public class DoctorsForDBService {
               formatLocalDateTimeForConnectionLogsOrNull(gmcDoctor.getGmcLastUpdatedDateTime()))
           .updatedBy(UPDATED_BY_GMC).previousDesignatedBodyCode(previousDesignatedBody)
           .newDesignatedBodyCode(newDesignatedBody).build();
-      publishConnectionLog(connectionLogDto);
+      saveConnectionLogToOutbox(connectionLogDto);
+      traineeSummaryCache.evictDesignatedBodies(Collections.singletonList(previousDesignatedBody));
     }
+    doctorsRepository.save(doctorsForDB);
   }
 
   public void updateTraineeAdmin(final List<TraineeAdminDto> traineeAdmins) {
+    final Set<String> designatedBodyCodes = new HashSet<>();
     traineeAdmins.forEach(traineeAdmin -> {
       final var doctor = doctorsRepository.findById(traineeAdmin.getGmcNumber());
       if (doctor.isPresent()) {
         final var doctorsForDB = doctor.get();
         doctorsForDB.setAdmin(traineeAdmin.getAdmin());
         doctorsRepository.save(doctorsForDB);
+        designatedBodyCodes.add(doctorsForDB.getDesignatedBodyCode());
       }
     });
+    traineeSummaryCache.evictDesignatedBodies(designatedBodyCodes);
   }
 
   public DesignatedBodyDto getDesignatedBodyCode(final String gmcId) {
@@ -173,9 +249,10 @@ public class DoctorsForDBService {
    */
   public void updateDoctorConnection(final ConnectionMessageDto message) {
     final var doctorsForDBOptional = doctorsRepository.findById(message.getGmcId());
-    log.info(String.format("Updating designated body code for doctor GMC Number: %s, DBC: %s",
-        message.getGmcId(), message.getDesignatedBodyCode()));
+    log.info("Updating designated body code for doctor GMC Number: {}, DBC: {}",
+        message.getGmcId(), message.getDesignatedBodyCode());
     DoctorsForDB doctorsForDb = doctorsForDBOptional.orElse(new DoctorsForDB());
+    final var previousDesignatedBody = doctorsForDb.getDesignatedBodyCode();
     doctorsForDb = doctorsForDbMapper.updateEntity(message, doctorsForDb);
     final boolean isDisconnection = message.getDesignatedBodyCode() == null;
     doctorsForDb.setExistsInGmc(!isDisconnection);
@@ -183,6 +260,8 @@ public class DoctorsForDBService {
       doctorsForDb.setUnderNotice(null);
     }
     doctorsRepository.save(doctorsForDb);
+    traineeSummaryCache.evictDesignatedBodies(
+        Arrays.asList(previousDesignatedBody, message.getDesignatedBodyCode()));
   }
 
   /**
@@ -200,81 +279,91 @@ public class DoctorsForDBService {
     // Designated bodies have less than 8,000 doctors, well within max payload and transaction size
     doctorsForDbCollectedEvent.doctors().forEach(this::updateTrainee);
 
-    List<DoctorsForDB> staleDoctors = doctorsRepository.findByDesignatedBodyCodeAndGmcLastUpdatedDateTimeBefore(
-        designatedBodyCode, requestDateTime);
-    staleDoctors.forEach(d -> {
-      // To minimise concurrency issues in large collections, get the latest
-      var optionalSavedDoctor = doctorsRepository.findById(d.getGmcReferenceNumber());
-      optionalSavedDoctor.ifPresentOrElse(
-          savedDoctor -> {
-            if (designatedBodyCode.equals(savedDoctor.getDesignatedBodyCode())
-                && requestDateTime.isAfter(savedDoctor.getGmcLastUpdatedDateTime())) {
-              savedDoctor.setExistsInGmc(false);
-              savedDoctor.setDesignatedBodyCode(null);
-              savedDoctor.setGmcLastUpdatedDateTime(requestDateTime);
-              doctorsRepository.save(savedDoctor);
-              publishConnectionLog(
-                  ConnectionLogDto.builder().gmcId(savedDoctor.getGmcReferenceNumber())
-                      .previousDesignatedBodyCode(designatedBodyCode)
-                      .newDesignatedBodyCode(null)
-                      .eventDateTime(formatLocalDateTimeForConnectionLogsOrNull(
-                          requestDateTime
-                      )).updatedBy(UPDATED_BY_GMC).build());
-            } else {
-              log.debug("Close one.  Doctor [{}] modified between updates and being disconnected.",
-                  savedDoctor.getGmcReferenceNumber());
-            }
-          },
-          () -> log.warn("Ignoring 'stale' record no longer found for GMC Number: [{}]",
-              d.getGmcReferenceNumber())
-      );
-    });
+    final var staleDoctorsTimer = Timer.start(meterRegistry);
+    try {
+      List<DoctorsForDB> staleDoctors = doctorsRepository
+          .findByDesignatedBodyCodeAndGmcLastUpdatedDateTimeBefore(designatedBodyCode,
+              requestDateTime);
+      DistributionSummary.builder(STALE_DOCTORS_METRIC + ".found").baseUnit("doctors")
+          .tag(DESIGNATED_BODY_TAG, designatedBodyCode).register(meterRegistry)
+          .record(staleDoctors.size());
+      staleDoctors.forEach(d -> {
+        // To minimise concurrency issues in large collections, get the latest
+        var optionalSavedDoctor = doctorsRepository.findById(d.getGmcReferenceNumber());
+        optionalSavedDoctor.ifPresentOrElse(
+            savedDoctor -> {
+              if (designatedBodyCode.equals(savedDoctor.getDesignatedBodyCode())
+                  && requestDateTime.isAfter(savedDoctor.getGmcLastUpdatedDateTime())) {
+                savedDoctor.setExistsInGmc(false);
+                savedDoctor.setDesignatedBodyCode(null);
+                savedDoctor.setGmcLastUpdatedDateTime(requestDateTime);
+                saveConnectionLogToOutbox(
+                    ConnectionLogDto.builder().gmcId(savedDoctor.getGmcReferenceNumber())
+                        .previousDesignatedBodyCode(designatedBodyCode)
+                        .newDesignatedBodyCode(null)
+                        .eventDateTime(formatLocalDateTimeForConnectionLogsOrNull(
+                            requestDateTime
+                        )).updatedBy(UPDATED_BY_GMC).build());
+                doctorsRepository.save(savedDoctor);
+              } else {
+                log.debug(
+                    "Close one.  Doctor [{}] modified between updates and being disconnected.",
+                    savedDoctor.getGmcReferenceNumber());
+              }
+            },
+            () -> log.warn("Ignoring 'stale' record no longer found for GMC Number: [{}]",
+                d.getGmcReferenceNumber())
+        );
+      });
+    } finally {
+      staleDoctorsTimer.stop(Timer.builder(STALE_DOCTORS_METRIC)
+          .tag(DESIGNATED_BODY_TAG, designatedBodyCode).register(meterRegistry));
+    }
+    traineeSummaryCache.evictDesignatedBodies(List.of(designatedBodyCode));
   }
 
   public TraineeSummaryDto getDoctorsByGmcIds(final List<String> gmcIds) {
     final Iterable<DoctorsForDB> doctorsForDb = doctorsRepository.findAllById(gmcIds);
-    final var doctorsForDbs = IterableUtils.toList(doctorsForDb);
-    final var traineeInfoDtos = doctorsForDbs.stream().map(doctorsForDbMapper::toTraineeInfoDto)
-        .toList();
-    return TraineeSummaryDto.builder().countTotal(traineeInfoDtos.size())
-        .totalResults(traineeInfoDtos.size()).traineeInfo(traineeInfoDtos).build();
+    return doctorsForDbMapper.toTraineeSummaryDto(IterableUtils.toList(doctorsForDb));
   }
 
   private Page<RecommendationView> getSortedAndFilteredDoctorsByPageNumber(
       final TraineeRequestDto requestDTO, final List<String> hiddenGmcIds) {
-    final var hiddenGmcIdsNotNull = (hiddenGmcIds == null) ? new ArrayList<String>() : hiddenGmcIds;
+    final var pageableAndSortable = of(requestDTO.getPageNumber(), pageSize, getSort(requestDTO));
+    return recommendationElasticSearchService.searchPage(requestDTO, hiddenGmcIds,
+        pageableAndSortable);
+  }
 
+  private Sort getSort(final TraineeRequestDto requestDTO) {
     List<Order> orders = new ArrayList<>();
     final var customSortColumn = requestDTO.getSortColumn();
     Order customOrder = new Order("asc".equalsIgnoreCase(requestDTO.getSortOrder()) ? ASC : DESC,
-        customSortColumn);
+        SORT_FIELDS.getOrDefault(customSortColumn, customSortColumn));
     orders.add(customOrder);
-    if (!customSortColumn.equalsIgnoreCase("doctorLastName")) {
-      Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    if (!customSortColumn.equalsIgnoreCase(DOCTOR_LAST_NAME)) {
+      Order lastNameOrder = new Order(Sort.Direction.ASC, SORT_FIELDS.get(DOCTOR_LAST_NAME));
       orders.add(lastNameOrder);
     }
-    final var pageableAndSortable = of(requestDTO.getPageNumber(), pageSize, by(orders));
-    final var designatedBodyCodes = recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        requestDTO.getDbcs());
-
-    final String programmeName = requestDTO.getProgrammeName();
-    final String gmcStatus = requestDTO.getGmcStatus();
-    final String tisStatus = requestDTO.getTisStatus();
-    final String admin = requestDTO.getAdmin();
-    if (requestDTO.isUnderNotice()) {
-
-      return recommendationElasticSearchRepository.findByUnderNotice(
-          requestDTO.getSearchQuery().toLowerCase(), designatedBodyCodes, programmeName, gmcStatus,
-          tisStatus, admin, pageableAndSortable);
-    }
-
-    return recommendationElasticSearchRepository.findAll(requestDTO.getSearchQuery().toLowerCase(),
-        designatedBodyCodes, hiddenGmcIdsNotNull, programmeName, gmcStatus, tisStatus, admin,
-        pageableAndSortable);
+    return by(orders);
   }
 
-  private void publishConnectionLog(ConnectionLogDto connectionLogDto) {
-    connectionLogPublisher.publishToBroker(connectionLogDto);
+  /**
+   * Record a connection log in the outbox for the relay to publish, rather than calling the broker
+   * from within the sync. The entry is written before the doctor and keyed on the change itself,
+   * so a redelivered sync message rewrites the same entry instead of adding a duplicate. Missing
+   * parts of the change are keyed on explicit placeholders, as a new doctor has no previous
+   * designated body, a disconnection has no new one and a change may have no event time.
+   *
+   * @param connectionLogDto the connection change to be published
+   */
+  private void saveConnectionLogToOutbox(ConnectionLogDto connectionLogDto) {
+    final var eventDateTime = connectionLogDto.getEventDateTime();
+    final var outboxId = String.join("_", requireNonNull(connectionLogDto.getGmcId()),
+        eventDateTime != null ? eventDateTime.toString() : OUTBOX_NO_EVENT_TIME,
+        requireNonNullElse(connectionLogDto.getPreviousDesignatedBodyCode(), OUTBOX_UNCONNECTED),
+        requireNonNullElse(connectionLogDto.getNewDesignatedBodyCode(), OUTBOX_UNCONNECTED));
+    connectionLogOutboxRepository.save(ConnectionLogOutbox.builder().id(outboxId)
+        .connectionLog(connectionLogDto).createdDateTime(LocalDateTime.now()).build());
   }
 
   private LocalDateTime formatLocalDateTimeForConnectionLogsOrNull(LocalDateTime logDateTime) {
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static uk.nhs.hee.tis.revalidation.repository.RevisionStampCallback.REVISION;
+
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Builds weak ETags for the doctor and recommendation read endpoints from the revisions stamped on
+ * the stored documents, so an unchanged resource can be answered with a 304 without assembling it.
+ */
+@Service
+public class EtagService {
+
+  private static final String DOCTORS_COLLECTION = "doctorsForDB";
+  private static final String RECOMMENDATIONS_COLLECTION = "recommendation";
+
+  private final MongoTemplate mongoTemplate;
+
+  public EtagService(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  /**
+   * Get an ETag which changes whenever any of the doctors is saved.
+   *
+   * @param gmcIds the GMC numbers of the doctors
+   * @return a weak ETag
+   */
+  public String getDoctorsEtag(Collection<String> gmcIds) {
+    return toEtag(gmcIds, revisions(DOCTORS_COLLECTION, "_id", gmcIds));
+  }
+
+  /**
+   * Get an ETag which changes whenever any of the doctors or their recommendations are saved,
+   * created or removed. Snapshots are only written alongside a recommendation update, and deferral
+   * reasons are reference data, so neither is looked up.
+   *
+   * @param gmcIds the GMC numbers of the doctors
+   * @return a weak ETag
+   */
+  public String getRecommendationsEtag(Collection<String> gmcIds) {
+    return toEtag(gmcIds, revisions(DOCTORS_COLLECTION, "_id", gmcIds)
+        + revisions(RECOMMENDATIONS_COLLECTION, "gmcNumber", gmcIds));
+  }
+
+  private String revisions(String collection, String gmcIdField, Collection<String> gmcIds) {
+    final var query = new Query(where(gmcIdField).in(gmcIds));
+    query.fields().include(REVISION);
+    return mongoTemplate.find(query, Document.class, collection).stream()
+        .map(document -> document.get("_id") + ":" + document.get(REVISION))
+        .sorted()
+        .collect(Collectors.joining(",", collection + "[", "]"));
+  }
+
+  private static String toEtag(Collection<String> gmcIds, String revisions) {
+    final var key = new TreeSet<>(gmcIds) + revisions;
+    return "W/\"" + DigestUtils.md5DigestAsHex(key.getBytes(UTF_8)) + "\"";
+  }
+}
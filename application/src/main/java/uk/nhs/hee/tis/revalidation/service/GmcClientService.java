@@ -27,6 +27,8 @@ import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.DEFER;
 import static uk.nhs.hee.tis.revalidation.util.DateUtil.convertDateInGmcFormat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -50,6 +52,9 @@ public class GmcClientService {
   private static final String INTERNAL_USER_ID = "InternalUserId";
   private static final String TRY_RECOMMENDATION_V2 = "TryRecommendationV2";
   private static final String CHECK_RECOMMENDATION_STATUS = "CheckRecommendationStatus";
+  static final String GMC_REQUEST_METRIC = "reval.gmc.requests";
+  static final String NO_RETURN_CODE = "none";
+  static final String FAILED_RETURN_CODE = "error";
 
   @Value("${app.gmc.url}")
   private String gmcConnectUrl;
@@ -66,13 +71,17 @@ public class GmcClientService {
 
   private WebServiceTemplate webServiceTemplate;
 
+  private final MeterRegistry meterRegistry;
+
   /**
    * Constructor of GmcClientService.
    */
   public GmcClientService(
-      WebServiceTemplate webServiceTemplate
+      WebServiceTemplate webServiceTemplate,
+      MeterRegistry meterRegistry
   ) {
     this.webServiceTemplate = webServiceTemplate;
+    this.meterRegistry = meterRegistry;
   }
 
   public RecommendationGmcOutcome checkRecommendationStatus(final String gmcNumber,
@@ -85,6 +94,8 @@ public class GmcClientService {
     final var checkRecommendationStatus =
         buildCheckRecommendationStatusRequest(gmcNumber, gmcRecommendationId, recommendationId,
             designatedBody);
+    final var sample = Timer.start(meterRegistry);
+    var returnCode = FAILED_RETURN_CODE;
     try {
       final var checkRecommendationStatusResponse = (CheckRecommendationStatusResponse) webServiceTemplate
           .marshalSendAndReceive(gmcConnectUrl, checkRecommendationStatus,
@@ -93,6 +104,7 @@ public class GmcClientService {
       final var checkRecommendationStatusResult = checkRecommendationStatusResponse
           .getCheckRecommendationStatusResult();
       final var gmcReturnCode = checkRecommendationStatusResult.getReturnCode();
+      returnCode = gmcReturnCode;
       log.info("Check recommendation status return code: {}", gmcReturnCode);
       if (SUCCESS.getCode().equals(gmcReturnCode)) {
         final var status = checkRecommendationStatusResult.getStatus();
@@ -109,6 +121,8 @@ public class GmcClientService {
           .format("Failed to check status with GMC, GmcId: %s, recommendationId: %s", gmcNumber,
               recommendationId);
       log.error(errMessage, e);
+    } finally {
+      recordRequest(sample, CHECK_RECOMMENDATION_STATUS, returnCode);
     }
 
     return UNDER_REVIEW;
@@ -141,18 +155,34 @@ public class GmcClientService {
     tryRecommendation.setUsername(gmcUserName);
     tryRecommendation.setPassword(gmcPassword);
 
+    final var sample = Timer.start(meterRegistry);
+    var returnCode = FAILED_RETURN_CODE;
     try {
       log.info("Submitting recommendation to GMC for gmcId: {}",
           doctorForDB.getGmcReferenceNumber());
-      return (TryRecommendationV2Response) webServiceTemplate
+      final var response = (TryRecommendationV2Response) webServiceTemplate
           .marshalSendAndReceive(gmcConnectUrl, tryRecommendation,
               new SoapActionCallback(gmcSoapBaseAction + TRY_RECOMMENDATION_V2));
+      returnCode = response == null || response.getTryRecommendationV2Result() == null ? null
+          : response.getTryRecommendationV2Result().getReturnCode();
+      return response;
     } catch (Exception e) {
       log.error("Failed to submit to GMC", e);
+    } finally {
+      recordRequest(sample, TRY_RECOMMENDATION_V2, returnCode);
     }
     return new TryRecommendationV2Response();
   }
 
+  /**
+   * Time a GMC call by SOAP action and GMC return code, or "error" if the call itself failed.
+   */
+  private void recordRequest(Timer.Sample sample, String action, String returnCode) {
+    sample.stop(Timer.builder(GMC_REQUEST_METRIC).tag("action", action)
+        .tag("returnCode", returnCode == null ? NO_RETURN_CODE : returnCode)
+        .register(meterRegistry));
+  }
+
   private CheckRecommendationStatus buildCheckRecommendationStatusRequest(final String gmcNumber,
       final String gmcRecommendationId,
       final String recommendationId,
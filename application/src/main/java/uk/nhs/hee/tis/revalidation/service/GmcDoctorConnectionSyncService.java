@@ -21,6 +21,8 @@
 
 package uk.nhs.hee.tis.revalidation.service;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -43,10 +45,13 @@ import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
 @Service
 public class GmcDoctorConnectionSyncService {
 
+  static final String BATCH_SIZE_METRIC = "reval.essync.batch.size";
+
   private final ElasticsearchSyncMessagePublisher elasticsearchSyncMessagePublisher;
   private final DoctorsForDBRepository doctorsForDBRepository;
   private final RecommendationRepository recommendationRepository;
   private final RecommendationService recommendationService;
+  private final DistributionSummary batchSizes;
   @Value("${app.reval.essync.batchsize}")
   private int batchSize;
 
@@ -54,12 +59,15 @@ public class GmcDoctorConnectionSyncService {
       ElasticsearchSyncMessagePublisher elasticsearchSyncMessagePublisher,
       DoctorsForDBRepository doctorsForDBRepository,
       RecommendationRepository recommendationRepository,
-      RecommendationService recommendationService) {
+      RecommendationService recommendationService,
+      MeterRegistry meterRegistry) {
 
     this.elasticsearchSyncMessagePublisher = elasticsearchSyncMessagePublisher;
     this.doctorsForDBRepository = doctorsForDBRepository;
     this.recommendationRepository = recommendationRepository;
     this.recommendationService = recommendationService;
+    this.batchSizes = DistributionSummary.builder(BATCH_SIZE_METRIC).baseUnit("doctors")
+        .register(meterRegistry);
   }
 
   /**
@@ -67,7 +75,8 @@ public class GmcDoctorConnectionSyncService {
    *
    * @param gmcSyncStart - Message to initiate sync process
    */
-  @RabbitListener(queues = "${app.rabbit.reval.queue.recommendation.syncstart}", ackMode = "NONE")
+  @RabbitListener(queues = "${app.rabbit.reval.queue.recommendation.syncstart}", ackMode = "NONE",
+      containerFactory = "syncStartContainerFactory")
   @SchedulerLock(name = "IndexRebuildGetGmcJob")
   public void receiveMessage(final String gmcSyncStart) {
     log.info("Message from integration service to start gmc data sync {}", gmcSyncStart);
@@ -88,6 +97,7 @@ public class GmcDoctorConnectionSyncService {
           .payload(summaryDtos).syncEnd(false)
           .build();
       elasticsearchSyncMessagePublisher.publishToBroker(syncMessage);
+      batchSizes.record(summaryDtos.size());
       pageRequest = pageRequest.next();
     } while (doctors.hasNext());
 
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.indices.TermsLookup;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Stores large lists of hidden GMC ids as documents for a {@code terms} lookup, so that a search
+ * hiding thousands of doctors sends a reference to the list instead of the list itself.
+ *
+ * <p>Documents are keyed on a digest of the sorted ids and the current UTC day, so the same list
+ * is stored once a day and reused by every search hiding it that day. The lookup reads the
+ * document with a real-time get, so a newly stored list is used straight away without a refresh.
+ * A scheduled cleanup deletes the documents stored before yesterday, which no search uses any more.
+ */
+@Slf4j
+@Service
+public class HiddenGmcIdsLookupService {
+
+  static final IndexCoordinates HIDDEN_GMC_IDS_INDEX = IndexCoordinates.of("hidden-gmc-ids");
+  static final String GMC_IDS_FIELD = "gmcIds";
+  static final String STORED_AT_FIELD = "storedAt";
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final int lookupThreshold;
+  private final Clock clock;
+  private volatile boolean indexCreated;
+
+  @Autowired
+  public HiddenGmcIdsLookupService(ElasticsearchOperations elasticsearchOperations,
+      @Value("${app.reval.hiddenGmcIds.lookupThreshold}") int lookupThreshold) {
+    this(elasticsearchOperations, lookupThreshold, Clock.systemUTC());
+  }
+
+  HiddenGmcIdsLookupService(ElasticsearchOperations elasticsearchOperations, int lookupThreshold,
+      Clock clock) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.lookupThreshold = lookupThreshold;
+    this.clock = clock;
+  }
+
+  /**
+   * Store the hidden GMC ids for a terms lookup when there are at least the configured number.
+   *
+   * @param hiddenGmcIds the doctors to exclude from a search, may be null
+   * @return the lookup to exclude them with, or empty if they should be listed in the query
+   */
+  public Optional<TermsLookup> toTermsLookup(List<String> hiddenGmcIds) {
+    if (hiddenGmcIds == null || hiddenGmcIds.size() < lookupThreshold) {
+      return Optional.empty();
+    }
+    final var gmcIds = hiddenGmcIds.stream().distinct().sorted().toList();
+    final var id = digest(gmcIds) + "-" + LocalDate.now(clock);
+    createIndexIfMissing();
+    if (!elasticsearchOperations.exists(id, HIDDEN_GMC_IDS_INDEX)) {
+      final var source = Document.from(
+          Map.of(GMC_IDS_FIELD, gmcIds, STORED_AT_FIELD, clock.millis()));
+      final var indexQuery = new IndexQueryBuilder().withId(id).withSource(source.toJson()).build();
+      elasticsearchOperations.index(indexQuery, HIDDEN_GMC_IDS_INDEX);
+      log.info("Stored {} hidden GMC ids for lookup as {}", gmcIds.size(), id);
+    }
+    return Optional.of(new TermsLookup(HIDDEN_GMC_IDS_INDEX.getIndexName(), id, GMC_IDS_FIELD));
+  }
+
+  /**
+   * Delete the lists stored before yesterday, and any list without a stored time. Lists stored
+   * yesterday are kept for searches that looked them up just before midnight.
+   */
+  @Scheduled(cron = "${app.reval.hiddenGmcIds.cleanupCronExpression}")
+  @SchedulerLock(name = "HiddenGmcIdsCleanupJob")
+  public void deleteExpiredLookups() {
+    if (!elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX).exists()) {
+      return;
+    }
+    final var cutoff = LocalDate.now(clock).minusDays(1).atStartOfDay(ZoneOffset.UTC);
+    final var query = new NativeSearchQueryBuilder()
+        .withQuery(QueryBuilders.boolQuery().mustNot(
+            QueryBuilders.rangeQuery(STORED_AT_FIELD).gte(cutoff.toInstant().toEpochMilli())))
+        .build();
+    final var response = elasticsearchOperations.delete(query, Object.class,
+        HIDDEN_GMC_IDS_INDEX);
+    log.info("Deleted {} hidden GMC id lists stored before {}", response.getDeleted(), cutoff);
+  }
+
+  /**
+   * The lists are only read back by id, so the index does not map or index their contents, only
+   * the time they were stored for the cleanup. The mapping is put on an existing index as well, so
+   * an index created before the stored time was mapped picks it up.
+   */
+  private synchronized void createIndexIfMissing() {
+    if (indexCreated) {
+      return;
+    }
+    final var indexOperations = elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX);
+    if (!indexOperations.exists()) {
+      indexOperations.create();
+      log.info("Created index {}", HIDDEN_GMC_IDS_INDEX.getIndexName());
+    }
+    indexOperations.putMapping(Document.from(Map.of("dynamic", false, "properties",
+        Map.of(STORED_AT_FIELD, Map.of("type", "date", "format", "epoch_millis")))));
+    indexCreated = true;
+  }
+
+  private static String digest(List<String> gmcIds) {
+    try {
+      final var messageDigest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(
+          messageDigest.digest(String.join(",", gmcIds).getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
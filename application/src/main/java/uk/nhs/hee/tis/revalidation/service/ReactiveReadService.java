@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapper;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveDoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveRecommendationRepository;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveSnapshotRepository;
+
+/**
+ * Non-blocking variants of the high fan-in reads, which wait on the reactive Mongo driver rather
+ * than holding a thread per request. The DTOs are built by the same mappers as those of the
+ * blocking endpoints, so they match.
+ *
+ * <p>The deferral reasons and the GMC outcome checks made while mapping legacy snapshots are still
+ * blocking calls, so run on the bounded elastic scheduler.
+ */
+@Slf4j
+@Service
+public class ReactiveReadService {
+
+  private final ReactiveDoctorsForDBRepository doctorsForDBRepository;
+
+  private final ReactiveRecommendationRepository recommendationRepository;
+
+  private final ReactiveSnapshotRepository snapshotRepository;
+
+  private final DeferralReasonService deferralReasonService;
+
+  private final SnapshotService snapshotService;
+
+  private final TraineeRecommendationMapper traineeRecommendationMapper;
+
+  private final DoctorsForDbMapper doctorsForDbMapper;
+
+  @Value("${app.reval.reactive.concurrency}")
+  private int concurrency;
+
+  public ReactiveReadService(ReactiveDoctorsForDBRepository doctorsForDBRepository,
+      ReactiveRecommendationRepository recommendationRepository,
+      ReactiveSnapshotRepository snapshotRepository, DeferralReasonService deferralReasonService,
+      SnapshotService snapshotService, TraineeRecommendationMapper traineeRecommendationMapper,
+      DoctorsForDbMapper doctorsForDbMapper) {
+    this.doctorsForDBRepository = doctorsForDBRepository;
+    this.recommendationRepository = recommendationRepository;
+    this.snapshotRepository = snapshotRepository;
+    this.deferralReasonService = deferralReasonService;
+    this.snapshotService = snapshotService;
+    this.traineeRecommendationMapper = traineeRecommendationMapper;
+    this.doctorsForDbMapper = doctorsForDbMapper;
+  }
+
+  /**
+   * Get trainee information with current and legacy recommendations
+   *
+   * @param gmcId - GMC Identifier/Number of the trainee requested
+   * @return The {@link TraineeRecommendationDto}, or empty if the trainee is not found
+   */
+  public Mono<TraineeRecommendationDto> getTraineeInfo(String gmcId) {
+    log.info("Fetching trainee info for GmcId: {}", gmcId);
+    return Mono.zip(doctorsForDBRepository.findById(gmcId),
+            recommendationRepository.findByGmcNumber(gmcId).collectList(),
+            snapshotRepository.findByGmcNumber(gmcId).collectList(),
+            Mono.fromCallable(deferralReasonService::getAllCurrentDeferralReasons)
+                .subscribeOn(Schedulers.boundedElastic()))
+        .publishOn(Schedulers.boundedElastic())
+        .map(reads -> traineeRecommendationMapper.toTraineeInfo(reads.getT1(), reads.getT2(),
+            snapshotService.toSnapshotRecommendations(reads.getT1(), reads.getT3()),
+            reads.getT4()));
+  }
+
+  /**
+   * Get latest recommendation for each of a list of trainees, reading up to
+   * {@code app.reval.reactive.concurrency} trainees at a time
+   *
+   * @param gmcIds The GMC IDs/Numbers of the Trainees to search for
+   * @return A mapping of input GMC Numbers to the last submitted Recommendation for each which may
+   *     be empty
+   * @throws RecommendationException when a Doctor doesn't exist
+   */
+  public Mono<Map<String, TraineeRecommendationRecordDto>> getLatestRecommendations(
+      List<String> gmcIds) {
+    log.info("Mapping latest recommendation info for GmcIds: {}", gmcIds);
+    return Flux.fromIterable(gmcIds)
+        .flatMap(gmcId -> getLatestRecommendation(gmcId).map(latest -> Map.entry(gmcId, latest)),
+            concurrency)
+        .collectMap(Entry::getKey, Entry::getValue);
+  }
+
+  /**
+   * Get doctors by their GMC Numbers
+   *
+   * @param gmcIds The GMC IDs/Numbers of the doctors
+   * @return A summary of the doctors found
+   */
+  public Mono<TraineeSummaryDto> getDoctorsByGmcIds(List<String> gmcIds) {
+    return doctorsForDBRepository.findAllById(gmcIds)
+        .collectList()
+        .map(doctorsForDbMapper::toTraineeSummaryDto);
+  }
+
+  private Mono<TraineeRecommendationRecordDto> getLatestRecommendation(String gmcId) {
+    return recommendationRepository.findByGmcNumber(gmcId).collectList()
+        .map(traineeRecommendationMapper::toDraftRecommendation)
+        .flatMap(draft -> draft.map(Mono::just).orElseGet(() -> Mono.zip(
+                optional(doctorsForDBRepository.findById(gmcId)),
+                optional(recommendationRepository
+                    .findFirstByGmcNumberOrderByActualSubmissionDateDesc(gmcId)))
+            .map(reads -> traineeRecommendationMapper.toLatestSubmittedRecommendation(gmcId,
+                reads.getT1(), reads.getT2()))));
+  }
+
+  private static <T> Mono<Optional<T>> optional(Mono<T> mono) {
+    return mono.map(Optional::of).defaultIfEmpty(Optional.empty());
+  }
+}
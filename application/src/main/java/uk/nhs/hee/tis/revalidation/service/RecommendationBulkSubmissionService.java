@@ -0,0 +1,238 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static java.lang.String.format;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.QUEUE_FULL_MESSAGE;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.IterableUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.revalidation.dto.BulkRecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionClaim;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionOutcome;
+
+/**
+ * Submits a responsible officer's set of recommendations to GMC in one request.
+ *
+ * <p>The whole set is claimed with one update and read back with one query, the doctors are
+ * loaded with one query, the GMC calls run in parallel on the bounded submission worker pool and
+ * the outcomes are written back with one bulk write per collection. Submissions still running when
+ * the request stops waiting are reported as submitting and record their own outcome when done.
+ */
+@Slf4j
+@Service
+public class RecommendationBulkSubmissionService {
+
+  static final String NOT_SUBMITTABLE_MESSAGE =
+      "Recommendation does not exist or is already being submitted to GMC";
+  static final String DOCTOR_NOT_FOUND_MESSAGE = "Doctor %s does not exist!";
+
+  private final RecommendationRepository recommendationRepository;
+  private final DoctorsForDBRepository doctorsForDBRepository;
+  private final RecommendationService recommendationService;
+  private final SubmissionClaimService submissionClaimService;
+  private final MongoTemplate mongoTemplate;
+  private final TaskExecutor gmcSubmissionExecutor;
+
+  @Value("${app.reval.submission.maxBulkSize}")
+  private int maxBulkSize;
+
+  @Value("${app.reval.submission.bulkTimeoutSeconds}")
+  private long bulkTimeoutSeconds;
+
+  public RecommendationBulkSubmissionService(RecommendationRepository recommendationRepository,
+      DoctorsForDBRepository doctorsForDBRepository, RecommendationService recommendationService,
+      SubmissionClaimService submissionClaimService, MongoTemplate mongoTemplate,
+      @Qualifier("gmcSubmissionExecutor") TaskExecutor gmcSubmissionExecutor) {
+    this.recommendationRepository = recommendationRepository;
+    this.doctorsForDBRepository = doctorsForDBRepository;
+    this.recommendationService = recommendationService;
+    this.submissionClaimService = submissionClaimService;
+    this.mongoTemplate = mongoTemplate;
+    this.gmcSubmissionExecutor = gmcSubmissionExecutor;
+  }
+
+  /**
+   * Submit a set of recommendations to GMC.
+   *
+   * @param bulkSubmission The responsible officer and the recommendations to submit
+   * @return The outcome of each requested recommendation, in request order
+   * @throws RecommendationException when more recommendations are sent than allowed at once
+   */
+  public List<RecommendationSubmissionDto> submitRecommendations(
+      BulkRecommendationSubmissionDto bulkSubmission) {
+    final Map<String, String> gmcNumbers = new LinkedHashMap<>();
+    Objects.requireNonNullElse(bulkSubmission.getRecommendations(),
+        List.<RecommendationSubmissionDto>of()).forEach(
+        r -> gmcNumbers.putIfAbsent(r.getRecommendationId(), r.getGmcNumber()));
+    if (gmcNumbers.size() > maxBulkSize) {
+      throw new RecommendationException(
+          format("No more than %d recommendations can be submitted at once", maxBulkSize));
+    }
+    log.info("Submitting {} recommendations to gmc", gmcNumbers.size());
+
+    final Map<String, RecommendationSubmissionDto> results = new LinkedHashMap<>();
+    final var claimed = submissionClaimService.claimAll(gmcNumbers);
+    reportUnclaimed(gmcNumbers, claimed, results);
+
+    final var doctors = IterableUtils.toList(doctorsForDBRepository.findAllById(
+            claimed.values().stream().map(claim -> claim.recommendation().getGmcNumber())
+                .distinct().toList()))
+        .stream().collect(toMap(DoctorsForDB::getGmcReferenceNumber, identity()));
+    final var submissions = new LinkedHashMap<SubmissionClaim,
+        CompletableFuture<SubmissionOutcome>>();
+    claimed.values().forEach(claim -> {
+      final var gmcNumber = claim.recommendation().getGmcNumber();
+      final var doctor = doctors.get(gmcNumber);
+      submissions.put(claim, doctor == null
+          ? CompletableFuture.completedFuture(
+              SubmissionOutcome.failed(claim, format(DOCTOR_NOT_FOUND_MESSAGE, gmcNumber)))
+          : submitToGmc(doctor, claim, bulkSubmission.getUserProfile()));
+    });
+
+    if (submissions.isEmpty()) {
+      return gmcNumbers.keySet().stream().map(results::get).toList();
+    }
+    awaitSubmissions(submissions.values());
+    final var recommendationUpdates = mongoTemplate
+        .bulkOps(BulkMode.UNORDERED, Recommendation.class);
+    final var submittedGmcNumbers = new LinkedHashSet<String>();
+    var pendingUpdates = 0;
+    for (final var entry : submissions.entrySet()) {
+      final var recommendation = entry.getKey().recommendation();
+      final var submission = entry.getValue();
+      if (!submission.isDone()) {
+        log.warn("Submission of recommendation {} to GMC is still in progress",
+            recommendation.getId());
+        submission.thenAccept(this::completeLate);
+        results.put(recommendation.getId(), submissionClaimService.toSubmissionDto(recommendation));
+        continue;
+      }
+      final var outcome = submission.join();
+      if (outcome.held()) {
+        recommendationUpdates.updateOne(submissionClaimService.claimQuery(outcome.claim()),
+            submissionClaimService.completionUpdate(outcome));
+        pendingUpdates++;
+      }
+      if (outcome.isSubmitted()) {
+        submittedGmcNumbers.add(recommendation.getGmcNumber());
+      }
+      results.put(recommendation.getId(), submissionClaimService.toSubmissionDto(outcome));
+    }
+    if (pendingUpdates > 0) {
+      recommendationUpdates.execute();
+    }
+    updateDoctorStatuses(submittedGmcNumbers);
+
+    return gmcNumbers.keySet().stream().map(results::get).toList();
+  }
+
+  private void reportUnclaimed(Map<String, String> gmcNumbers,
+      Map<String, SubmissionClaim> claimed, Map<String, RecommendationSubmissionDto> results) {
+    final var unclaimedIds = gmcNumbers.keySet().stream()
+        .filter(id -> !claimed.containsKey(id)).toList();
+    if (unclaimedIds.isEmpty()) {
+      return;
+    }
+    recommendationRepository.findAllById(unclaimedIds).forEach(recommendation -> {
+      if (Objects.equals(recommendation.getGmcNumber(), gmcNumbers.get(recommendation.getId()))) {
+        results.put(recommendation.getId(),
+            submissionClaimService.toSubmissionDto(recommendation));
+      }
+    });
+    unclaimedIds.stream().filter(id -> !results.containsKey(id)).forEach(id -> results.put(id,
+        RecommendationSubmissionDto.builder().recommendationId(id).gmcNumber(gmcNumbers.get(id))
+            .submissionFailure(NOT_SUBMITTABLE_MESSAGE).build()));
+  }
+
+  private CompletableFuture<SubmissionOutcome> submitToGmc(DoctorsForDB doctor,
+      SubmissionClaim claim, RoUserProfileDto userProfileDto) {
+    try {
+      return CompletableFuture.supplyAsync(
+          () -> submissionClaimService.submit(doctor, claim, userProfileDto),
+          gmcSubmissionExecutor);
+    } catch (TaskRejectedException e) {
+      return CompletableFuture.completedFuture(
+          SubmissionOutcome.failed(claim, QUEUE_FULL_MESSAGE));
+    }
+  }
+
+  /**
+   * Wait, for no longer than the bulk timeout in total, for the GMC calls to finish.
+   */
+  private void awaitSubmissions(Collection<CompletableFuture<SubmissionOutcome>> submissions) {
+    try {
+      CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new))
+          .orTimeout(bulkTimeoutSeconds, TimeUnit.SECONDS).join();
+    } catch (CompletionException e) {
+      log.warn("Not all submissions to GMC finished within {} seconds", bulkTimeoutSeconds);
+    }
+  }
+
+  private void completeLate(SubmissionOutcome outcome) {
+    if (submissionClaimService.complete(outcome)) {
+      updateDoctorStatuses(List.of(outcome.claim().recommendation().getGmcNumber()));
+    }
+  }
+
+  private void updateDoctorStatuses(Collection<String> gmcNumbers) {
+    if (gmcNumbers.isEmpty()) {
+      return;
+    }
+    final var statuses = recommendationService.getRecommendationStatusesForTrainees(gmcNumbers);
+    if (statuses.isEmpty()) {
+      return;
+    }
+    final var doctorUpdates = mongoTemplate.bulkOps(BulkMode.UNORDERED, DoctorsForDB.class);
+    statuses.forEach((gmcNumber, status) -> doctorUpdates.updateOne(
+        query(where("gmcReferenceNumber").is(gmcNumber)),
+        submissionClaimService.doctorStatusUpdate(status)));
+    doctorUpdates.execute();
+  }
+}
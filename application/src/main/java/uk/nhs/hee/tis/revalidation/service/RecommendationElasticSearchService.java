@@ -21,41 +21,168 @@
 
 package uk.nhs.hee.tis.revalidation.service;
 
-import java.util.ArrayList;
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchPhrasePrefixQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.BucketOrder;
+import org.elasticsearch.search.aggregations.bucket.terms.IncludeExclude;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
 import uk.nhs.hee.tis.revalidation.exception.DoctorIndexUpdateException;
-import uk.nhs.hee.tis.revalidation.repository.RecommendationElasticSearchRepository;
+import uk.nhs.hee.tis.revalidation.repository.DoctorSearchQueryBuilder;
 
 @Service
 public class RecommendationElasticSearchService {
 
+  private static final String UNDER_NOTICE = "YES";
+  private static final String REGEX_RESERVED_CHARS = ".?+*|{}[]()\"\\#@&<>~";
+  static final String SEARCH_METRIC = "reval.es.search";
+  private static final Map<String, String> AUTOCOMPLETE_FIELDS = Map.of(
+      "programmeName", "programmeName.keyword");
+
+  @Value("${app.reval.autocomplete.size}")
+  private int autocompleteSize;
+
   @Autowired
-  RecommendationElasticSearchRepository recommendationElasticSearchRepository;
+  ElasticsearchOperations elasticsearchOperations;
 
-  public String formatDesignatedBodyCodesForElasticsearchQuery(List<String> designatedBodyCodes) {
-    List<String> escapedCodes = new ArrayList<>();
-    designatedBodyCodes.forEach(code -> {
-      escapedCodes.add(code.toLowerCase().replace("1-", ""));
-    });
-    return String.join(" ", escapedCodes);
-  }
+  @Autowired
+  HiddenGmcIdsLookupService hiddenGmcIdsLookupService;
 
+  @Autowired
+  MeterRegistry meterRegistry;
+
+  /**
+   * Suggest distinct values of a field for the given input, from a {@code terms} aggregation on
+   * its keyword subfield so that only the values themselves are returned by Elasticsearch.
+   *
+   * @param fieldname the field to suggest values for, only programmeName is supported
+   * @param input     the start of any word in the value, may be empty
+   * @param dbcs      the designated bodies to suggest values from
+   * @return up to the configured number of values in alphabetical order
+   */
   public List<String> getAutocompleteResults(String fieldname, String input, List<String> dbcs) {
-    var results = recommendationElasticSearchRepository.findByFieldNameParameter(fieldname, input,
-        formatDesignatedBodyCodesForElasticsearchQuery(dbcs));
-    return results.stream().map(result -> getFieldValueAsString(fieldname, result))
-        .filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    final var keywordField = AUTOCOMPLETE_FIELDS.get(fieldname);
+    if (keywordField == null) {
+      return List.of();
+    }
+    final var query = boolQuery()
+        .filter(termQuery("underNotice", UNDER_NOTICE))
+        .filter(termsQuery("designatedBody", dbcs));
+    final var aggregation = AggregationBuilders.terms(fieldname).field(keywordField)
+        .size(autocompleteSize).order(BucketOrder.key(true));
+    if (StringUtils.hasText(input)) {
+      query.filter(matchPhrasePrefixQuery(fieldname, input));
+      aggregation.includeExclude(new IncludeExclude(toWordPrefixRegex(input), null));
+    }
+
+    final var searchQuery = new NativeSearchQueryBuilder().withQuery(query)
+        .addAggregation(aggregation).withMaxResults(0).build();
+    final Terms terms = timeSearch("autocomplete",
+        () -> elasticsearchOperations.search(searchQuery, RecommendationView.class))
+        .getAggregations().get(fieldname);
+    return terms.getBuckets().stream().map(Terms.Bucket::getKeyAsString).toList();
   }
 
-  private String getFieldValueAsString(String fieldName, RecommendationView result) {
-    if (fieldName.equals("programmeName")) {
-      return result.getProgrammeName();
+  /**
+   * Get a page of doctors by page number, sorted and filtered as requested.
+   *
+   * @param requestDto   the search filters
+   * @param hiddenGmcIds doctors to exclude when not filtering by under notice
+   * @param pageable     the page number, size and sort order
+   * @return the requested page of doctors
+   */
+  public Page<RecommendationView> searchPage(final TraineeRequestDto requestDto,
+      final List<String> hiddenGmcIds, final Pageable pageable) {
+    final var nativeSearchQuery = queryBuilder(requestDto, hiddenGmcIds).build(pageable);
+    final var searchHits = timeSearch("page",
+        () -> elasticsearchOperations.search(nativeSearchQuery, RecommendationView.class));
+    return new PageImpl<>(searchHits.get().map(SearchHit::getContent).toList(), pageable,
+        searchHits.getTotalHits());
+  }
+
+  /**
+   * Get a page of doctors following the given sort values, using {@code search_after} so that
+   * deep pages cost the same as the first one. Filters match {@link #searchPage}.
+   *
+   * @param requestDto   the search filters
+   * @param hiddenGmcIds doctors to exclude when not filtering by under notice
+   * @param sort         the sort order, which must end with a unique tiebreaker
+   * @param searchAfter  the sort values of the last hit on the previous page, empty for the first
+   * @param pageSize     the number of hits to return
+   * @return the matching hits, each carrying its sort values
+   */
+  public SearchHits<RecommendationView> searchAfter(final TraineeRequestDto requestDto,
+      final List<String> hiddenGmcIds, final Sort sort, final List<Object> searchAfter,
+      final int pageSize) {
+    final var nativeSearchQuery = queryBuilder(requestDto, hiddenGmcIds)
+        .build(PageRequest.of(0, pageSize, sort));
+    if (!searchAfter.isEmpty()) {
+      nativeSearchQuery.setSearchAfter(searchAfter);
+    }
+    return timeSearch("searchAfter",
+        () -> elasticsearchOperations.search(nativeSearchQuery, RecommendationView.class));
+  }
+
+  private <T> T timeSearch(String variant, Supplier<T> search) {
+    return Timer.builder(SEARCH_METRIC).tag("variant", variant).register(meterRegistry)
+        .record(search);
+  }
+
+  /**
+   * Exclude the hidden doctors by listing them, or from a stored lookup document when there are
+   * too many to send in every query. Under notice searches do not exclude them.
+   */
+  private DoctorSearchQueryBuilder queryBuilder(final TraineeRequestDto requestDto,
+      final List<String> hiddenGmcIds) {
+    final var queryBuilder = DoctorSearchQueryBuilder.forRequest(requestDto)
+        .excludingGmcIds(hiddenGmcIds);
+    if (!requestDto.isUnderNotice()) {
+      hiddenGmcIdsLookupService.toTermsLookup(hiddenGmcIds)
+          .ifPresent(queryBuilder::excludingGmcIdsIn);
     }
-    return null;
+    return queryBuilder;
+  }
+
+  /**
+   * Match values with a word starting with the input, ignoring case, as keyword values are stored
+   * as they are and include patterns cannot be made case-insensitive.
+   */
+  static String toWordPrefixRegex(String input) {
+    final var regex = new StringBuilder("(.* )?");
+    input.trim().chars().forEach(c -> {
+      if (Character.isLetter(c)) {
+        regex.append('[').appendCodePoint(Character.toLowerCase(c))
+            .appendCodePoint(Character.toUpperCase(c)).append(']');
+      } else {
+        if (REGEX_RESERVED_CHARS.indexOf(c) >= 0) {
+          regex.append('\\');
+        }
+        regex.appendCodePoint(c);
+      }
+    });
+    return regex.append(".*").toString();
   }
 }
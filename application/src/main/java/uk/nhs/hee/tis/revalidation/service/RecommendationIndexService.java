@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.reindex.ReindexRequest;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
+import uk.nhs.hee.tis.revalidation.exception.DoctorIndexUpdateException;
+
+/**
+ * Rebuilds the recommendations index with the settings and mapping declared on
+ * {@link RecommendationView}, so that new analyzers and subfields take effect without downtime.
+ * The index is rebuilt at startup when its mapping is out of date, and on request.
+ */
+@Slf4j
+@Service
+public class RecommendationIndexService {
+
+  private static final String PROPERTIES = "properties";
+  private static final String FIELDS = "fields";
+  private static final List<String> MAPPING_PARAMETERS = List.of("type", "analyzer",
+      "search_analyzer", "normalizer");
+  private static final String LAST_UPDATED_DATE = "lastUpdatedDate";
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final RestHighLevelClient restHighLevelClient;
+
+  public RecommendationIndexService(ElasticsearchOperations elasticsearchOperations,
+      RestHighLevelClient restHighLevelClient) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.restHighLevelClient = restHighLevelClient;
+  }
+
+  /**
+   * Bring the index up to date once the application has started. Only one instance does so when
+   * several start together. A failure is logged rather than stopping the application, as searches
+   * on an out of date index still return results and the index can be rebuilt on request.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @SchedulerLock(name = "RecommendationIndexMigration")
+  public void migrateOnStartup() {
+    try {
+      migrateToCurrentMapping();
+    } catch (RuntimeException e) {
+      log.error("Unable to bring the recommendations index up to date", e);
+    }
+  }
+
+  /**
+   * Rebuild the index if it is missing, or if its mapping lacks a field, subfield, analyzer or
+   * normalizer declared on {@link RecommendationView}.
+   *
+   * @return true if the index was rebuilt
+   */
+  public boolean migrateToCurrentMapping() {
+    final var aliasOperations = elasticsearchOperations.indexOps(RecommendationView.class);
+    if (aliasOperations.exists()
+        && containsMapping(aliasOperations.getMapping(), aliasOperations.createMapping())) {
+      log.info("Recommendations index mapping is up to date");
+      return false;
+    }
+    log.info("Recommendations index is missing or its mapping is out of date, rebuilding it");
+    reindexToCurrentMapping();
+    return true;
+  }
+
+  /**
+   * Create a new timestamped index with the current mapping, copy the existing documents into it
+   * and atomically point the recommendations alias at it. The previous index is removed in the
+   * same alias update, including a concrete index created before the alias existed.
+   *
+   * <p>Documents written while the copy runs are copied again before the alias is moved, found by
+   * their {@code lastUpdatedDate}. That date has no time, so every document updated since the day
+   * the copy started is copied again.
+   *
+   * @return the name of the index now behind the alias
+   */
+  public String reindexToCurrentMapping() {
+    final var aliasOperations = elasticsearchOperations.indexOps(RecommendationView.class);
+    final var alias = aliasOperations.getIndexCoordinates().getIndexName();
+    final var newIndex = alias + "-" + System.currentTimeMillis();
+
+    elasticsearchOperations.indexOps(IndexCoordinates.of(newIndex))
+        .create(aliasOperations.createSettings(), aliasOperations.createMapping());
+    log.info("Created index {} with the current recommendations mapping", newIndex);
+
+    final var aliasActions = new AliasActions(new AliasAction.Add(
+        AliasActionParameters.builder().withIndices(newIndex).withAliases(alias).build()));
+    if (aliasOperations.exists()) {
+      final var copyStarted = LocalDate.now();
+      copyDocuments(alias, newIndex, null);
+      copyDocuments(alias, newIndex, rangeQuery(LAST_UPDATED_DATE).gte(copyStarted.toString()));
+      final Map<String, Set<AliasData>> previousIndices = aliasOperations.getAliases(alias);
+      final var indicesToRemove = previousIndices.isEmpty() ? new String[]{alias}
+          : previousIndices.keySet().toArray(String[]::new);
+      aliasActions.add(new AliasAction.RemoveIndex(
+          AliasActionParameters.builder().withIndices(indicesToRemove).build()));
+    }
+    aliasOperations.alias(aliasActions);
+    log.info("Alias {} now points to index {}", alias, newIndex);
+    return newIndex;
+  }
+
+  private void copyDocuments(String sourceIndex, String destinationIndex, QueryBuilder query) {
+    final var reindexRequest = new ReindexRequest().setSourceIndices(sourceIndex)
+        .setDestIndex(destinationIndex).setRefresh(true);
+    if (query != null) {
+      reindexRequest.setSourceQuery(query);
+    }
+    try {
+      final var response = restHighLevelClient.reindex(reindexRequest, RequestOptions.DEFAULT);
+      log.info("Copied {} new and {} changed documents from {} to {}", response.getCreated(),
+          response.getUpdated(), sourceIndex, destinationIndex);
+      if (!response.getBulkFailures().isEmpty()) {
+        throw new DoctorIndexUpdateException(String.format("Reindex into %s failed for %d documents",
+            destinationIndex, response.getBulkFailures().size()), null);
+      }
+    } catch (IOException e) {
+      throw new DoctorIndexUpdateException("Unable to reindex into " + destinationIndex, e);
+    }
+  }
+
+  /**
+   * Check that a live mapping has every property of the expected one, with the same type,
+   * analyzers and normalizer, and every subfield of those properties.
+   */
+  @SuppressWarnings("unchecked")
+  static boolean containsMapping(Map<String, Object> live, Map<String, Object> expected) {
+    final var liveProperties = (Map<String, Object>) live.getOrDefault(PROPERTIES, Map.of());
+    final var expectedProperties = (Map<String, Object>) expected.getOrDefault(PROPERTIES,
+        Map.of());
+    for (final var entry : expectedProperties.entrySet()) {
+      final var expectedProperty = (Map<String, Object>) entry.getValue();
+      final var liveProperty = (Map<String, Object>) liveProperties.get(entry.getKey());
+      if (liveProperty == null || MAPPING_PARAMETERS.stream().anyMatch(
+          parameter -> !Objects.equals(expectedProperty.get(parameter),
+              liveProperty.get(parameter)))) {
+        return false;
+      }
+      if (!containsMapping(asProperties(liveProperty), asProperties(expectedProperty))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<String, Object> asProperties(Map<String, Object> property) {
+    return property.containsKey(PROPERTIES) ? property
+        : Map.of(PROPERTIES, property.getOrDefault(FIELDS, Map.of()));
+  }
+}
@@ -22,6 +22,7 @@
 package uk.nhs.hee.tis.revalidation.service;
 
 import uk.nhs.hee.tis.revalidation.dto.RecommendationStatusCheckDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
 import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
@@ -29,6 +30,7 @@ import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
 import uk.nhs.hee.tis.revalidation.entity.Recommendation;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,6 +48,14 @@ public interface RecommendationService {
     boolean submitRecommendation(String recommendationId, String gmcNumber,
                                          RoUserProfileDto userProfileDto);
 
+    //accept a recommendation for submission to gmc on the submission worker pool
+    RecommendationSubmissionDto submitRecommendationAsync(String recommendationId,
+                                                          String gmcNumber,
+                                                          RoUserProfileDto userProfileDto);
+
+    //get the progress of a recommendation submission to gmc
+    RecommendationSubmissionDto getSubmissionStatus(String recommendationId, String gmcNumber);
+
     //get latest recommendations of a trainee
     TraineeRecommendationRecordDto getLatestRecommendation(String gmcId);
 
@@ -55,6 +65,10 @@ public interface RecommendationService {
 
     RecommendationStatus getRecommendationStatusForTrainee(String gmcId);
 
+    //get the recommendation status of each of a list of trainees
+    Map<String, RecommendationStatus> getRecommendationStatusesForTrainees(
+            Collection<String> gmcIds);
+
     // get a list of recommendation status Dto
     List<RecommendationStatusCheckDto> getRecommendationStatusCheckDtos();
 
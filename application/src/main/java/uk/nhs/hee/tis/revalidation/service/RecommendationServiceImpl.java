@@ -22,47 +22,54 @@
 package uk.nhs.hee.tis.revalidation.service;
 
 import static java.lang.String.format;
-import static java.time.LocalDate.now;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
-import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.SUCCESS;
-import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
-import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
-import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.YES;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.NO_RESPONSE_MESSAGE;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.QUEUE_FULL_MESSAGE;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.nhs.hee.tis.revalidation.dto.RecommendationStatusCheckDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
 import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
-import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto.TraineeRecommendationDtoBuilder;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
 import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
-import uk.nhs.hee.tis.revalidation.entity.GmcResponseCode;
 import uk.nhs.hee.tis.revalidation.entity.Recommendation;
-import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
 import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapper;
+import uk.nhs.hee.tis.revalidation.messages.publisher.BatchingMessagePublisher;
+import uk.nhs.hee.tis.revalidation.messages.publisher.RecommendationStatusCheckPublisher;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
 import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionOutcome;
 
 @Slf4j
 @Transactional
@@ -72,6 +79,10 @@ public class RecommendationServiceImpl implements RecommendationService {
   private static final int MIN_DAYS_FROM_SUBMISSION_DATE = 60;
   private static final int MAX_DAYS_FROM_SUBMISSION_DATE = 365;
   private static final String DOCTOR_NOT_FOUND_MESSAGE = "Doctor %s does not exist!";
+  private static final String RECOMMENDATION_NOT_FOUND_MESSAGE =
+      "Recommendation %s does not exist for Doctor %s";
+  private static final String SUBMISSION_IN_PROGRESS_MESSAGE =
+      "Recommendation %s is already being submitted to GMC";
 
   private final DoctorsForDBRepository doctorsForDBRepository;
 
@@ -81,26 +92,45 @@ public class RecommendationServiceImpl implements RecommendationService {
 
   private final DeferralReasonService deferralReasonService;
 
-  private final GmcClientService gmcClientService;
+  private final RecommendationStatusCheckPublisher recommendationStatusCheckPublisher;
 
-  private final RabbitTemplate rabbitTemplate;
+  private final MongoTemplate mongoTemplate;
 
-  @Value("${app.rabbit.reval.exchange}")
-  private String revalExchange;
+  private final SubmissionClaimService submissionClaimService;
 
-  @Value("${app.rabbit.reval.routingKey.recommendationstatuscheck.requested}")
-  private String revalRoutingKeyRecommendationStatus;
+  private final TraineeRecommendationMapper traineeRecommendationMapper;
+
+  private final TaskExecutor gmcSubmissionExecutor;
+
+  private final TaskExecutor traineeInfoExecutor;
+
+  @Value("${app.reval.publisher.batchsize}")
+  private int publisherBatchSize;
+
+  @Value("${app.reval.publisher.maxBufferMillis}")
+  private long publisherMaxBufferMillis;
+
+  @Value("${app.reval.publisher.confirmTimeout}")
+  private long publisherConfirmTimeout;
 
   public RecommendationServiceImpl(DoctorsForDBRepository doctorsForDBRepository,
       SnapshotService snapshotService, RecommendationRepository recommendationRepository,
-      DeferralReasonService deferralReasonService, GmcClientService gmcClientService,
-      RabbitTemplate rabbitTemplate) {
+      DeferralReasonService deferralReasonService,
+      RecommendationStatusCheckPublisher recommendationStatusCheckPublisher,
+      MongoTemplate mongoTemplate, SubmissionClaimService submissionClaimService,
+      TraineeRecommendationMapper traineeRecommendationMapper,
+      @Qualifier("gmcSubmissionExecutor") TaskExecutor gmcSubmissionExecutor,
+      @Qualifier("traineeInfoExecutor") TaskExecutor traineeInfoExecutor) {
     this.doctorsForDBRepository = doctorsForDBRepository;
     this.snapshotService = snapshotService;
     this.recommendationRepository = recommendationRepository;
     this.deferralReasonService = deferralReasonService;
-    this.gmcClientService = gmcClientService;
-    this.rabbitTemplate = rabbitTemplate;
+    this.recommendationStatusCheckPublisher = recommendationStatusCheckPublisher;
+    this.mongoTemplate = mongoTemplate;
+    this.submissionClaimService = submissionClaimService;
+    this.traineeRecommendationMapper = traineeRecommendationMapper;
+    this.gmcSubmissionExecutor = gmcSubmissionExecutor;
+    this.traineeInfoExecutor = traineeInfoExecutor;
   }
 
   /**
@@ -110,9 +140,21 @@ public class RecommendationServiceImpl implements RecommendationService {
   @SchedulerLock(name = "RecommendationStatusCheckJob")
   public void sendRecommendationStatusRequestToRabbit() {
     log.info("Start cron job: sendRecommendationStatusRequestToRabbit()");
-    getRecommendationStatusCheckDtos().forEach(
-        recommendation -> rabbitTemplate
-            .convertAndSend(revalExchange, revalRoutingKeyRecommendationStatus, recommendation));
+    final var batchingPublisher = new BatchingMessagePublisher<>(
+        recommendationStatusCheckPublisher, publisherBatchSize, publisherMaxBufferMillis,
+        publisherConfirmTimeout);
+    try (batchingPublisher) {
+      getRecommendationStatusCheckDtos().forEach(batchingPublisher::add);
+    }
+
+    final var failed = batchingPublisher.getFailedMessages();
+    if (!failed.isEmpty()) {
+      log.warn("{} recommendation status check requests were not confirmed and will be retried "
+          + "on the next run, GmcIds: {}", failed.size(),
+          failed.stream().map(RecommendationStatusCheckDto::getGmcReferenceNumber).toList());
+    }
+    log.info("Finished cron job: sendRecommendationStatusRequestToRabbit(), {} requests sent",
+        batchingPublisher.getConfirmedCount());
   }
 
   /**
@@ -124,25 +166,21 @@ public class RecommendationServiceImpl implements RecommendationService {
   public TraineeRecommendationDto getTraineeInfo(String gmcId) {
     log.info("Fetching trainee info for GmcId: {}", gmcId);
     final var optionalDoctorsForDB = doctorsForDBRepository.findById(gmcId);
-
-    if (optionalDoctorsForDB.isPresent()) {
-      final var doctorsForDb = optionalDoctorsForDB.get();
-      TraineeRecommendationDtoBuilder builder = TraineeRecommendationDto.builder()
-          .fullName(format("%s %s",
-              doctorsForDb.getDoctorFirstName(), doctorsForDb.getDoctorLastName()))
-          .gmcNumber(doctorsForDb.getGmcReferenceNumber())
-          .designatedBody(doctorsForDb.getDesignatedBodyCode())
-          .gmcSubmissionDate(doctorsForDb.getSubmissionDate())
-          .revalidations(getCurrentAndLegacyRecommendation(doctorsForDb))
-          .deferralReasons(deferralReasonService.getAllCurrentDeferralReasons());
-      if (doctorsForDb.getUnderNotice() != null) {
-        builder.underNotice(doctorsForDb.getUnderNotice().value());
-      }
-
-      return builder.build();
+    if (optionalDoctorsForDB.isEmpty()) {
+      return null;
     }
 
-    return null;
+    // the reads are independent, so the page waits for the slowest of them rather than their sum
+    final var recommendations = supplyAsync(
+        () -> recommendationRepository.findByGmcNumber(gmcId), traineeInfoExecutor);
+    final var snapshots = supplyAsync(
+        () -> snapshotService.findSnapshots(gmcId), traineeInfoExecutor);
+    final var deferralReasons = supplyAsync(
+        deferralReasonService::getAllCurrentDeferralReasons, traineeInfoExecutor);
+    final var doctorsForDB = optionalDoctorsForDB.get();
+    return traineeRecommendationMapper.toTraineeInfo(doctorsForDB, join(recommendations),
+        snapshotService.toSnapshotRecommendations(doctorsForDB, join(snapshots)),
+        join(deferralReasons));
   }
 
   /**
@@ -155,7 +193,8 @@ public class RecommendationServiceImpl implements RecommendationService {
   public Recommendation saveRecommendation(TraineeRecommendationRecordDto recordDTO) {
     isSaveRecommendationPermitted(recordDTO.getGmcNumber(), recordDTO.getRecommendationId());
 
-    final var doctorsForDB = doctorsForDBRepository.findById(recordDTO.getGmcNumber());
+    final var doctorsForDB = RecommendationUnitOfWork.findDoctor(recordDTO.getGmcNumber(),
+        doctorsForDBRepository::findById);
     if (doctorsForDB.isEmpty()) {
       throw new RecommendationException(
           format(DOCTOR_NOT_FOUND_MESSAGE, recordDTO.getGmcNumber()));
@@ -211,6 +250,7 @@ public class RecommendationServiceImpl implements RecommendationService {
     }
 
     Recommendation savedRecommendation = recommendationRepository.save(recommendation);
+    RecommendationUnitOfWork.recommendationSaved(savedRecommendation);
     doctor.setDoctorStatus(
         getRecommendationStatusForTrainee(recordDTO.getGmcNumber())
     );
@@ -241,43 +281,78 @@ public class RecommendationServiceImpl implements RecommendationService {
       RoUserProfileDto userProfileDto) {
     log.info("submitting request to gmc for recommendation: {} and gmcNumber: {}", recommendationId,
         gmcNumber);
-    final var doctorsForDB = doctorsForDBRepository.findById(gmcNumber);
-    final var recommendation = recommendationRepository
-        .findByIdAndGmcNumber(recommendationId, gmcNumber);
+    final var doctor = doctorsForDBRepository.findById(gmcNumber).orElseThrow(
+        () -> new RecommendationException(format(DOCTOR_NOT_FOUND_MESSAGE, gmcNumber)));
 
-    if (doctorsForDB.isEmpty()) {
-      throw new RecommendationException(format(DOCTOR_NOT_FOUND_MESSAGE, gmcNumber));
+    final var claim = submissionClaimService.claim(recommendationId, gmcNumber);
+    if (claim == null) {
+      getSubmissionStatus(recommendationId, gmcNumber);
+      throw new RecommendationException(format(SUBMISSION_IN_PROGRESS_MESSAGE, recommendationId));
     }
-    final var doctor = doctorsForDB.get();
+    final var outcome = submissionClaimService.submit(doctor, claim, userProfileDto);
+    if (completeSubmission(outcome)) {
+      return true;
+    }
+    if (!outcome.held() || outcome.isSubmitted()) {
+      throw new RecommendationException(format(SUBMISSION_IN_PROGRESS_MESSAGE, recommendationId));
+    }
+    if (NO_RESPONSE_MESSAGE.equals(outcome.failure())) {
+      return false;
+    }
+    throw new RecommendationException(
+        format("Fail to submit recommendation: %s", outcome.failure()));
+  }
 
-    final var tryRecommendationV2Response = gmcClientService.submitToGmc(doctor, recommendation,
-        userProfileDto);
-    final var tryRecommendationResponseCT = tryRecommendationV2Response
-        .getTryRecommendationV2Result();
-    if (tryRecommendationResponseCT != null) {
-      log.info("Receive response for submit request for gmcId: {} with return code: {}",
-          doctor.getGmcReferenceNumber(), tryRecommendationResponseCT.getReturnCode());
-      final var returnCode = tryRecommendationResponseCT.getReturnCode();
-      if (SUCCESS.getCode().equals(returnCode)) {
-        recommendation.setRecommendationStatus(SUBMITTED_TO_GMC);
-        recommendation.setOutcome(UNDER_REVIEW);
-        recommendation.setActualSubmissionDate(now());
-        recommendation.setGmcRevalidationId(tryRecommendationResponseCT.getRecommendationID());
-        recommendationRepository.save(recommendation);
-        doctor.setDoctorStatus(getRecommendationStatusForTrainee(gmcNumber)
-        );
-        doctorsForDBRepository.save(doctor);
-        return true;
-      } else {
-        final var responseCode = GmcResponseCode.fromCode(returnCode);
-        log.error(
-            "Submission of recommendation to GMC failed for GmcId: {} and RecommendationId: {}. Gmc response is: {}",
-            gmcNumber, recommendation.getId(), responseCode.getMessage());
-        throw new RecommendationException(
-            format("Fail to submit recommendation: %s", responseCode.getMessage()));
-      }
+  /**
+   * Accept a recommendation for submission to GMC and make the GMC call on the submission worker
+   * pool. The recommendation id is the clientRequestID sent to GMC, so a recommendation which is
+   * already being submitted, or has been submitted, is reported rather than sent again.
+   *
+   * @param recommendationId The persistence id for the Recommendation to be submitted
+   * @param gmcNumber        The Doctor's GMC ID/Number
+   * @param userProfileDto   The details of the Responsible Officer to submit on behalf of.
+   * @return The submission progress, to be polled through {@link #getSubmissionStatus}
+   * @throws RecommendationException when the Doctor or Recommendation is unknown to TIS
+   * @throws TaskRejectedException   when the submission worker pool is saturated
+   */
+  public RecommendationSubmissionDto submitRecommendationAsync(String recommendationId,
+      String gmcNumber, RoUserProfileDto userProfileDto) {
+    log.info("Queueing request to gmc for recommendation: {} and gmcNumber: {}", recommendationId,
+        gmcNumber);
+    final var doctor = doctorsForDBRepository.findById(gmcNumber).orElseThrow(
+        () -> new RecommendationException(format(DOCTOR_NOT_FOUND_MESSAGE, gmcNumber)));
+
+    final var claim = submissionClaimService.claim(recommendationId, gmcNumber);
+    if (claim == null) {
+      return getSubmissionStatus(recommendationId, gmcNumber);
     }
-    return false;
+    try {
+      gmcSubmissionExecutor.execute(() -> completeSubmission(
+          submissionClaimService.submit(doctor, claim, userProfileDto)));
+    } catch (TaskRejectedException e) {
+      submissionClaimService.release(claim, QUEUE_FULL_MESSAGE);
+      throw e;
+    }
+    return submissionClaimService.toSubmissionDto(claim.recommendation());
+  }
+
+  /**
+   * Get the progress of a recommendation submission to GMC.
+   *
+   * @param recommendationId The persistence id for the submitted Recommendation
+   * @param gmcNumber        The Doctor's GMC ID/Number
+   * @return The recommendation status, with the reason of the last failed asynchronous submission
+   * @throws RecommendationException when the Recommendation is unknown to TIS
+   */
+  public RecommendationSubmissionDto getSubmissionStatus(String recommendationId,
+      String gmcNumber) {
+    final var recommendation = recommendationRepository
+        .findByIdAndGmcNumber(recommendationId, gmcNumber);
+    if (recommendation == null) {
+      throw new RecommendationException(
+          format(RECOMMENDATION_NOT_FOUND_MESSAGE, recommendationId, gmcNumber));
+    }
+    return submissionClaimService.toSubmissionDto(recommendation);
   }
 
   /**
@@ -288,35 +363,20 @@ public class RecommendationServiceImpl implements RecommendationService {
    */
   public TraineeRecommendationRecordDto getLatestRecommendation(String gmcId) {
     log.info("Fetching latest recommendation info for GmcId: {}", gmcId);
-    final var recommendations = recommendationRepository.findByGmcNumber(gmcId);
-    final var draftRecommendations = recommendations.stream().filter(
-            recommendation -> recommendation.getRecommendationStatus().name().equals("READY_TO_REVIEW"))
-        .collect(Collectors.toList());
+    final var recommendations = RecommendationUnitOfWork.findRecommendations(gmcId,
+        recommendationRepository::findByGmcNumber);
+    final var draftRecommendation = traineeRecommendationMapper.toDraftRecommendation(
+        recommendations);
     //Check draft recommendation: if yes return draft else normal original flow
-    if (!draftRecommendations.isEmpty()) {
-      final var draftRecommendation = draftRecommendations.get(0);
-      return buildTraineeRecommendationRecordDto(draftRecommendation.getGmcNumber(),
-          draftRecommendation.getGmcSubmissionDate(), draftRecommendation);
+    if (draftRecommendation.isPresent()) {
+      return draftRecommendation.get();
     } else {
-      final var optionalDoctorsForDB = doctorsForDBRepository.findById(gmcId);
+      final var optionalDoctorsForDB = RecommendationUnitOfWork.findDoctor(gmcId,
+          doctorsForDBRepository::findById);
       final var optionalRecommendation = recommendationRepository
           .findFirstByGmcNumberOrderByActualSubmissionDateDesc(gmcId);
-      if (!optionalDoctorsForDB.isPresent()) {
-        throw new RecommendationException(format(DOCTOR_NOT_FOUND_MESSAGE, gmcId));
-      }
-
-      if (optionalRecommendation.isPresent()) {
-        final Recommendation recommendation = optionalRecommendation.get();
-
-        final boolean isPastCompletedRecommendation =
-            checkIfPastCompletedRecommendation(recommendation, optionalDoctorsForDB.get());
-
-        if (!isPastCompletedRecommendation) {
-          return buildTraineeRecommendationRecordDto(recommendation.getGmcNumber(),
-              recommendation.getGmcSubmissionDate(), recommendation);
-        }
-      }
-      return new TraineeRecommendationRecordDto();
+      return traineeRecommendationMapper.toLatestSubmittedRecommendation(gmcId,
+          optionalDoctorsForDB, optionalRecommendation);
     }
   }
 
@@ -334,19 +394,26 @@ public class RecommendationServiceImpl implements RecommendationService {
   }
 
   public RecommendationStatus getRecommendationStatusForTrainee(String gmcId) {
-    TraineeRecommendationRecordDto recommendation = getLatestRecommendation(gmcId);
-    String outcome = recommendation.getGmcOutcome();
-    String type = recommendation.getRecommendationType();
-
-    if (outcome == null && type == null) {
-      return RecommendationStatus.NOT_STARTED;
-    } else if (APPROVED.getOutcome().equals(outcome) || REJECTED.getOutcome().equals(outcome)) {
-      return RecommendationStatus.COMPLETED;
-    } else if (UNDER_REVIEW.getOutcome().equals(outcome)) {
-      return RecommendationStatus.SUBMITTED_TO_GMC;
-    } else {
-      return RecommendationStatus.DRAFT;
-    }
+    return traineeRecommendationMapper.toDoctorStatus(getLatestRecommendation(gmcId));
+  }
+
+  /**
+   * Get the recommendation status of each of a list of trainees, reading all of their
+   * recommendations and all of the trainees once rather than several times per trainee.
+   *
+   * @param gmcIds The GMC IDs/Numbers of the Trainees
+   * @return The status of each Trainee found, keyed by GMC Number
+   */
+  public Map<String, RecommendationStatus> getRecommendationStatusesForTrainees(
+      Collection<String> gmcIds) {
+    final var recommendations = recommendationRepository.findAllByGmcNumberIn(gmcIds).stream()
+        .collect(groupingBy(Recommendation::getGmcNumber));
+    final var statuses = new HashMap<String, RecommendationStatus>();
+    doctorsForDBRepository.findAllById(gmcIds).forEach(doctor -> statuses.put(
+        doctor.getGmcReferenceNumber(), traineeRecommendationMapper.toDoctorStatus(
+            traineeRecommendationMapper.toLatestRecommendation(doctor, recommendations
+                .getOrDefault(doctor.getGmcReferenceNumber(), List.of())))));
+    return statuses;
   }
 
   /**
@@ -381,45 +448,21 @@ public class RecommendationServiceImpl implements RecommendationService {
    */
   public boolean checkIfPastCompletedRecommendation(Recommendation recommendation,
       DoctorsForDB doctor) {
-    final boolean approved = APPROVED.equals(recommendation.getOutcome());
-    final boolean underNotice = YES.equals(doctor.getUnderNotice());
-    //TODO find more empirical timeframe
-    final boolean notRecent = recommendation.getActualSubmissionDate() != null
-        && recommendation.getActualSubmissionDate()
-        .isBefore(LocalDate.now().minusMonths(1));
-
-    return approved && underNotice && notRecent;
+    return traineeRecommendationMapper.isPastCompletedRecommendation(recommendation, doctor);
   }
 
   /**
-   * Get all Recommendations for a Doctor
-   *
-   * @param doctorsForDB The Doctor to search for
-   * @return A list of all Recommendations for the Doctor
+   * Wait for a concurrent read, rethrowing its failure as it would have been thrown in sequence.
    */
-  private List<TraineeRecommendationRecordDto> getCurrentAndLegacyRecommendation(
-      final DoctorsForDB doctorsForDB) {
-    final var gmcNumber = doctorsForDB.getGmcReferenceNumber();
-
-    log.info("Fetching snapshot record for GmcId: {}", gmcNumber);
-    final var recommendations = recommendationRepository.findByGmcNumber(gmcNumber);
-    final var currentRecommendations = recommendations.stream().map(rec ->
-        buildTraineeRecommendationRecordDto(gmcNumber, doctorsForDB.getSubmissionDate(), rec)
-    ).collect(toList());
-
-    final var snapshotRecommendations = snapshotService.getSnapshotRecommendations(doctorsForDB);
-    currentRecommendations.addAll(snapshotRecommendations);
-
-    //sort most recent first (note nulls are typically drafts and will be first due to reversed())
-    currentRecommendations.sort(
-        Comparator.comparing(TraineeRecommendationRecordDto::getActualSubmissionDate,
-            Comparator.nullsFirst(Comparator.reverseOrder()))
-    );
-    return currentRecommendations;
-  }
-
-  private String getOutcome(RecommendationGmcOutcome outcome) {
-    return Objects.nonNull(outcome) ? outcome.getOutcome() : null;
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
   /**
@@ -470,8 +513,17 @@ public class RecommendationServiceImpl implements RecommendationService {
    */
   private void isSaveRecommendationPermitted(final String gmcNumber,
       final String recommendationId) {
+    final var recommendations = RecommendationUnitOfWork.findRecommendations(gmcNumber,
+        recommendationRepository::findByGmcNumber);
+    recommendations.stream()
+        .filter(r -> r.getId().equals(recommendationId))
+        .filter(r -> SUBMITTING == r.getRecommendationStatus())
+        .findFirst().ifPresent(r -> {
+          throw new RecommendationException(
+              format(SUBMISSION_IN_PROGRESS_MESSAGE, recommendationId));
+        });
     final var inProgressFilter = new InProgressPredicate(recommendationId);
-    recommendationRepository.findByGmcNumber(gmcNumber).stream()
+    recommendations.stream()
         .filter(inProgressFilter)
         .findFirst().ifPresent(r -> {
           throw new RecommendationException(
@@ -479,28 +531,23 @@ public class RecommendationServiceImpl implements RecommendationService {
         });
   }
 
-  private TraineeRecommendationRecordDto buildTraineeRecommendationRecordDto(String gmcNumber,
-      LocalDate submissionDate, Recommendation rec) {
-    return TraineeRecommendationRecordDto.builder()
-        .gmcNumber(gmcNumber)
-        .recommendationId(rec.getId())
-        .deferralDate(rec.getDeferralDate())
-        .deferralReason(rec.getDeferralReason())
-        .deferralSubReason(rec.getDeferralSubReason())
-        .gmcOutcome(getOutcome(rec.getOutcome()))
-        .recommendationStatus(
-            (rec.getRecommendationStatus() != null) ? rec.getRecommendationStatus().name() : null)
-        .recommendationType(
-            (rec.getRecommendationType() != null) ? rec.getRecommendationType().name() : null)
-        .gmcSubmissionDate(submissionDate)
-        .actualSubmissionDate(rec.getActualSubmissionDate())
-        .admin(rec.getAdmin())
-        .comments(rec.getComments())
-        .build();
+  /**
+   * Record the outcome of a submission and, once the recommendation is recorded as submitted,
+   * the doctor's new status. Only the submission fields are written, under the claim.
+   *
+   * @return true if the recommendation was recorded as submitted to GMC
+   */
+  private boolean completeSubmission(final SubmissionOutcome outcome) {
+    if (!submissionClaimService.complete(outcome)) {
+      return false;
+    }
+    final var gmcNumber = outcome.claim().recommendation().getGmcNumber();
+    mongoTemplate.updateFirst(query(where("gmcReferenceNumber").is(gmcNumber)),
+        submissionClaimService.doctorStatusUpdate(getRecommendationStatusForTrainee(gmcNumber)),
+        DoctorsForDB.class);
+    return true;
   }
 
-
-
   /**
    * This predicate evaluates whether a recommendation is "In Progress".  This includes those with a
    * `COMPLETED` status of {@link RecommendationStatus} and excludes a {@link Recommendation} with
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+
+/**
+ * The doctors and recommendation lists read by one recommendation operation, such as validating
+ * and saving a recommendation, so each is loaded from Mongo once however many steps need it.
+ *
+ * <p>A unit of work is bound to the current thread from {@link #begin()} until it is closed.
+ * Lookups outside a unit of work go straight to the loader, so callers behave as before when no
+ * operation has begun one. Recommendations saved during the operation must be reported through
+ * {@link #recommendationSaved(Recommendation)} to keep the cached lists current.
+ */
+public final class RecommendationUnitOfWork implements AutoCloseable {
+
+  private static final ThreadLocal<RecommendationUnitOfWork> CURRENT = new ThreadLocal<>();
+
+  private final Map<String, Optional<DoctorsForDB>> doctors = new HashMap<>();
+  private final Map<String, List<Recommendation>> recommendations = new HashMap<>();
+  private final boolean outermost;
+
+  private RecommendationUnitOfWork(boolean outermost) {
+    this.outermost = outermost;
+  }
+
+  /**
+   * Begin a unit of work on the current thread, or join the one already begun.
+   *
+   * @return the unit of work, to be closed when the operation ends
+   */
+  public static RecommendationUnitOfWork begin() {
+    if (CURRENT.get() != null) {
+      return new RecommendationUnitOfWork(false);
+    }
+    final var unitOfWork = new RecommendationUnitOfWork(true);
+    CURRENT.set(unitOfWork);
+    return unitOfWork;
+  }
+
+  /**
+   * Find a doctor, loading it once per unit of work.
+   *
+   * @param gmcNumber the doctor's GMC number
+   * @param loader    the repository lookup
+   * @return the doctor, if found
+   */
+  public static Optional<DoctorsForDB> findDoctor(String gmcNumber,
+      Function<String, Optional<DoctorsForDB>> loader) {
+    final var unitOfWork = CURRENT.get();
+    if (unitOfWork == null) {
+      return loader.apply(gmcNumber);
+    }
+    return unitOfWork.doctors.computeIfAbsent(gmcNumber, loader);
+  }
+
+  /**
+   * Find a doctor's recommendations, loading them once per unit of work.
+   *
+   * @param gmcNumber the doctor's GMC number
+   * @param loader    the repository lookup
+   * @return the doctor's recommendations
+   */
+  public static List<Recommendation> findRecommendations(String gmcNumber,
+      Function<String, List<Recommendation>> loader) {
+    final var unitOfWork = CURRENT.get();
+    if (unitOfWork == null) {
+      return loader.apply(gmcNumber);
+    }
+    return unitOfWork.recommendations.computeIfAbsent(gmcNumber,
+        key -> new ArrayList<>(loader.apply(key)));
+  }
+
+  /**
+   * Replace or add a saved recommendation in the doctor's cached list, if it has been loaded.
+   *
+   * @param saved the recommendation as saved
+   */
+  public static void recommendationSaved(Recommendation saved) {
+    final var unitOfWork = CURRENT.get();
+    if (unitOfWork == null || saved == null) {
+      return;
+    }
+    final var cached = unitOfWork.recommendations.get(saved.getGmcNumber());
+    if (cached != null) {
+      for (int i = 0; i < cached.size(); i++) {
+        if (Objects.equals(cached.get(i).getId(), saved.getId())) {
+          cached.set(i, saved);
+          return;
+        }
+      }
+      cached.add(saved);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (outermost) {
+      CURRENT.remove();
+    }
+  }
+}
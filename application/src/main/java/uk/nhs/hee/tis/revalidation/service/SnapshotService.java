@@ -83,10 +83,20 @@ public class SnapshotService {
     return snapshotRepository.save(snapshot);
   }
 
-  public List<TraineeRecommendationRecordDto> getSnapshotRecommendations(
-      final DoctorsForDB doctorsForDB) {
+  public List<Snapshot> findSnapshots(final String gmcId) {
+    return snapshotRepository.findByGmcNumber(gmcId);
+  }
+
+  /**
+   * Map a Doctor's legacy snapshots to recommendation records, checking the GMC outcome of each.
+   *
+   * @param doctorsForDB The Doctor the snapshots belong to
+   * @param snapshots    The Doctor's snapshots, as found by {@link #findSnapshots(String)}
+   * @return A recommendation record for each snapshot
+   */
+  public List<TraineeRecommendationRecordDto> toSnapshotRecommendations(
+      final DoctorsForDB doctorsForDB, final List<Snapshot> snapshots) {
     final var gmcId = doctorsForDB.getGmcReferenceNumber();
-    final var snapshots = snapshotRepository.findByGmcNumber(gmcId);
     return snapshots.stream().map(snapshot -> {
       final var snapshotRecommendation = snapshot.getRevalidation();
       return TraineeRecommendationRecordDto.builder()
@@ -0,0 +1,335 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static java.time.LocalDate.now;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.SUCCESS;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.COMPLETED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
+import static uk.nhs.hee.tis.revalidation.repository.RevisionStampCallback.REVISION;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.GmcResponseCode;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+
+/**
+ * Claims recommendations for submission to GMC, sends them and records the outcome.
+ *
+ * <p>A claim moves a recommendation into the SUBMITTING state and stamps it with a revision
+ * unique to the claim. The claim time and revision are renewed when the GMC call starts, and the
+ * outcome is only written while that revision is still held, so a claim which went stale and was
+ * taken over can never overwrite the newer claimant's submission.
+ */
+@Slf4j
+@Service
+public class SubmissionClaimService {
+
+  static final String QUEUE_FULL_MESSAGE = "GMC submission queue is full";
+  static final String NO_RESPONSE_MESSAGE = "No response received from GMC";
+  static final String SUBMISSION_FAILED_MESSAGE = "Submission to GMC failed";
+
+  private final MongoTemplate mongoTemplate;
+  private final GmcClientService gmcClientService;
+
+  @Value("${app.reval.submission.staleAfterMinutes}")
+  private long submissionStaleAfterMinutes;
+
+  public SubmissionClaimService(MongoTemplate mongoTemplate, GmcClientService gmcClientService) {
+    this.mongoTemplate = mongoTemplate;
+    this.gmcClientService = gmcClientService;
+  }
+
+  /**
+   * Atomically move a recommendation which has not been submitted, or whose submission was
+   * interrupted, into the SUBMITTING state.
+   *
+   * @param recommendationId The persistence id for the Recommendation to be submitted
+   * @param gmcNumber        The Doctor's GMC ID/Number
+   * @return The claim, or null if the recommendation is missing or already submitting/submitted
+   */
+  public SubmissionClaim claim(String recommendationId, String gmcNumber) {
+    final var now = LocalDateTime.now();
+    final var revision = new ObjectId();
+    final var requested = where("id").is(recommendationId).and("gmcNumber").is(gmcNumber);
+    final var recommendation = mongoTemplate.findAndModify(
+        query(new Criteria().andOperator(requested, claimable(now))), claimUpdate(now, revision),
+        options().returnNew(true), Recommendation.class);
+    return recommendation == null ? null : new SubmissionClaim(recommendation, revision);
+  }
+
+  /**
+   * Move every requested recommendation which has not been submitted, or whose submission was
+   * interrupted, into the SUBMITTING state with one update, and read the claimed set back.
+   *
+   * @param gmcNumbers The Doctor's GMC ID/Number of each requested recommendation id
+   * @return The claims, keyed by recommendation id
+   */
+  public Map<String, SubmissionClaim> claimAll(Map<String, String> gmcNumbers) {
+    if (gmcNumbers.isEmpty()) {
+      return Map.of();
+    }
+    final var now = LocalDateTime.now();
+    final var revision = new ObjectId();
+    final var requested = new Criteria().orOperator(gmcNumbers.entrySet().stream()
+        .map(e -> where("id").is(e.getKey()).and("gmcNumber").is(e.getValue()))
+        .toArray(Criteria[]::new));
+    mongoTemplate.updateMulti(query(new Criteria().andOperator(requested, claimable(now))),
+        claimUpdate(now, revision), Recommendation.class);
+    return mongoTemplate.find(query(where("id").in(gmcNumbers.keySet()).and(REVISION)
+            .is(revision)), Recommendation.class).stream()
+        .map(recommendation -> new SubmissionClaim(recommendation, revision))
+        .collect(toMap(claim -> claim.recommendation().getId(), identity()));
+  }
+
+  /**
+   * Send a claimed recommendation to GMC. Nothing is written other than the renewed claim, so
+   * the outcome can be recorded on its own or together with others.
+   *
+   * @param doctor         The Doctor the recommendation is for
+   * @param claim          The claim on the recommendation
+   * @param userProfileDto The details of the Responsible Officer to submit on behalf of
+   * @return The outcome, which is not held if the claim was taken over before the GMC call
+   */
+  public SubmissionOutcome submit(DoctorsForDB doctor, SubmissionClaim claim,
+      RoUserProfileDto userProfileDto) {
+    final var recommendation = claim.recommendation();
+    final var gmcNumber = recommendation.getGmcNumber();
+    final var started = start(claim);
+    if (started == null) {
+      log.warn("Submission of recommendation {} for GmcId: {} was claimed again before it started",
+          recommendation.getId(), gmcNumber);
+      return SubmissionOutcome.lost(claim);
+    }
+    try {
+      final var tryRecommendationResponseCT = gmcClientService
+          .submitToGmc(doctor, recommendation, userProfileDto).getTryRecommendationV2Result();
+      if (tryRecommendationResponseCT == null) {
+        return SubmissionOutcome.failed(started, NO_RESPONSE_MESSAGE);
+      }
+      final var returnCode = tryRecommendationResponseCT.getReturnCode();
+      log.info("Receive response for submit request for gmcId: {} with return code: {}",
+          gmcNumber, returnCode);
+      if (SUCCESS.getCode().equals(returnCode)) {
+        return SubmissionOutcome.submitted(started,
+            tryRecommendationResponseCT.getRecommendationID());
+      }
+      final var responseCode = GmcResponseCode.fromCode(returnCode);
+      log.error(
+          "Submission of recommendation to GMC failed for GmcId: {} and RecommendationId: {}. Gmc response is: {}",
+          gmcNumber, recommendation.getId(), responseCode.getMessage());
+      return SubmissionOutcome.failed(started, responseCode.getMessage());
+    } catch (RuntimeException e) {
+      log.error("Submission of recommendation to GMC failed for GmcId: {} and RecommendationId: {}",
+          gmcNumber, recommendation.getId(), e);
+      return SubmissionOutcome.failed(started, SUBMISSION_FAILED_MESSAGE);
+    }
+  }
+
+  /**
+   * Record the outcome of a submission, if its claim is still held.
+   *
+   * @param outcome The outcome of the submission
+   * @return true if the recommendation was recorded as submitted to GMC
+   */
+  public boolean complete(SubmissionOutcome outcome) {
+    if (!outcome.held()) {
+      return false;
+    }
+    final var recommendation = outcome.claim().recommendation();
+    final var completed = mongoTemplate.updateFirst(claimQuery(outcome.claim()),
+        completionUpdate(outcome), Recommendation.class);
+    if (completed.getModifiedCount() == 0) {
+      log.warn("Submission claim of recommendation {} for GmcId: {} was lost before it completed",
+          recommendation.getId(), recommendation.getGmcNumber());
+      return false;
+    }
+    return outcome.isSubmitted();
+  }
+
+  /**
+   * Return a claimed recommendation which could not be sent to GMC to review, if its claim is
+   * still held.
+   *
+   * @param claim   The claim on the recommendation
+   * @param failure The reason the recommendation could not be sent
+   */
+  public void release(SubmissionClaim claim, String failure) {
+    complete(SubmissionOutcome.failed(claim, failure));
+  }
+
+  /**
+   * Get the query matching a recommendation only while the claim on it is held.
+   */
+  public Query claimQuery(SubmissionClaim claim) {
+    return query(where("id").is(claim.recommendation().getId()).and(REVISION)
+        .is(claim.revision()));
+  }
+
+  /**
+   * Get the update recording a submission outcome, which changes only the submission fields.
+   */
+  public Update completionUpdate(SubmissionOutcome outcome) {
+    final var update = outcome.isSubmitted()
+        ? new Update()
+        .set("recommendationStatus", SUBMITTED_TO_GMC)
+        .set("outcome", UNDER_REVIEW)
+        .set("actualSubmissionDate", now())
+        .set("gmcRevalidationId", outcome.gmcRevalidationId())
+        .unset("submissionFailure")
+        : new Update()
+            .set("recommendationStatus", READY_TO_REVIEW)
+            .set("submissionFailure", outcome.failure());
+    return update.unset("submissionStartedDateTime").set(REVISION, new ObjectId());
+  }
+
+  /**
+   * Get the update setting a doctor's status once one of their recommendations is submitted.
+   */
+  public Update doctorStatusUpdate(RecommendationStatus doctorStatus) {
+    return new Update()
+        .set("doctorStatus", doctorStatus)
+        .set("lastUpdatedDate", now())
+        .set(REVISION, new ObjectId());
+  }
+
+  /**
+   * Report the submission progress of a recommendation as stored.
+   */
+  public RecommendationSubmissionDto toSubmissionDto(Recommendation recommendation) {
+    return RecommendationSubmissionDto.builder()
+        .gmcNumber(recommendation.getGmcNumber())
+        .recommendationId(recommendation.getId())
+        .recommendationStatus(recommendation.getRecommendationStatus() != null
+            ? recommendation.getRecommendationStatus().name() : null)
+        .gmcOutcome(recommendation.getOutcome() != null
+            ? recommendation.getOutcome().getOutcome() : null)
+        .gmcRevalidationId(recommendation.getGmcRevalidationId())
+        .submissionFailure(recommendation.getSubmissionFailure())
+        .build();
+  }
+
+  /**
+   * Report the submission progress of a recommendation once the outcome is recorded.
+   */
+  public RecommendationSubmissionDto toSubmissionDto(SubmissionOutcome outcome) {
+    final var submission = toSubmissionDto(outcome.claim().recommendation());
+    if (!outcome.held()) {
+      return submission;
+    }
+    if (outcome.isSubmitted()) {
+      submission.setRecommendationStatus(SUBMITTED_TO_GMC.name());
+      submission.setGmcOutcome(UNDER_REVIEW.getOutcome());
+      submission.setGmcRevalidationId(outcome.gmcRevalidationId());
+      submission.setSubmissionFailure(null);
+    } else {
+      submission.setRecommendationStatus(READY_TO_REVIEW.name());
+      submission.setSubmissionFailure(outcome.failure());
+    }
+    return submission;
+  }
+
+  /**
+   * Renew the claim time and revision once the GMC call is about to be made, so time spent
+   * waiting for a worker does not count towards the claim going stale.
+   *
+   * @return The renewed claim, or null if the claim was taken over while waiting
+   */
+  private SubmissionClaim start(SubmissionClaim claim) {
+    final var revision = new ObjectId();
+    final var started = mongoTemplate.updateFirst(claimQuery(claim), new Update()
+        .set("submissionStartedDateTime", LocalDateTime.now())
+        .set(REVISION, revision), Recommendation.class);
+    return started.getModifiedCount() == 0 ? null
+        : new SubmissionClaim(claim.recommendation(), revision);
+  }
+
+  private Criteria claimable(LocalDateTime now) {
+    return new Criteria().orOperator(
+        where("recommendationStatus").nin(SUBMITTING, SUBMITTED_TO_GMC, COMPLETED),
+        where("recommendationStatus").is(SUBMITTING).and("submissionStartedDateTime")
+            .lt(now.minusMinutes(submissionStaleAfterMinutes)));
+  }
+
+  private Update claimUpdate(LocalDateTime now, ObjectId revision) {
+    return new Update()
+        .set("recommendationStatus", SUBMITTING)
+        .set("submissionStartedDateTime", now)
+        .unset("submissionFailure")
+        .set(REVISION, revision);
+  }
+
+  /**
+   * A recommendation held in the SUBMITTING state, and the revision which proves it is held.
+   */
+  public record SubmissionClaim(Recommendation recommendation, ObjectId revision) {
+
+  }
+
+  /**
+   * The outcome of sending a claimed recommendation to GMC.
+   *
+   * @param claim             The claim the outcome is recorded under
+   * @param held              false if the claim was taken over before the GMC call was made
+   * @param gmcRevalidationId The id GMC gave the recommendation, when it was submitted
+   * @param failure           The reason the submission failed, or null if it was submitted
+   */
+  public record SubmissionOutcome(SubmissionClaim claim, boolean held, String gmcRevalidationId,
+                                  String failure) {
+
+    static SubmissionOutcome submitted(SubmissionClaim claim, String gmcRevalidationId) {
+      return new SubmissionOutcome(claim, true, gmcRevalidationId, null);
+    }
+
+    static SubmissionOutcome failed(SubmissionClaim claim, String failure) {
+      return new SubmissionOutcome(claim, true, null, failure);
+    }
+
+    static SubmissionOutcome lost(SubmissionClaim claim) {
+      return new SubmissionOutcome(claim, false, null, null);
+    }
+
+    public boolean isSubmitted() {
+      return held && failure == null;
+    }
+  }
+}
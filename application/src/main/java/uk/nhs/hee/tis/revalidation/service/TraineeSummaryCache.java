@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+
+/**
+ * A bounded, short-lived cache of doctor listings, so that admins opening the same page with the
+ * same filters do not each run the search and counts again.
+ *
+ * <p>Entries expire after the configured time to live and the least recently used entry is
+ * dropped once the cache is full. Entries for a designated body are evicted when one of its
+ * doctors changes through the sync or a connection update; the overall counts in other entries
+ * are refreshed when those entries expire. A time to live of zero disables the cache.
+ */
+@Slf4j
+@Component
+public class TraineeSummaryCache {
+
+  static final String CACHE_METRIC = "reval.trainee.summary.cache";
+
+  private final Duration timeToLive;
+  private final Clock clock;
+  private final Counter hits;
+  private final Counter misses;
+  private final Map<CacheKey, CacheEntry> entries;
+  private long evictionCount;
+
+  @Autowired
+  public TraineeSummaryCache(MeterRegistry meterRegistry,
+      @Value("${app.reval.summaryCache.ttlMillis}") long timeToLiveMillis,
+      @Value("${app.reval.summaryCache.maxSize}") int maxSize) {
+    this(meterRegistry, timeToLiveMillis, maxSize, Clock.systemUTC());
+  }
+
+  TraineeSummaryCache(MeterRegistry meterRegistry, long timeToLiveMillis, int maxSize,
+      Clock clock) {
+    this.timeToLive = Duration.ofMillis(timeToLiveMillis);
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+        return size() > maxSize;
+      }
+    };
+    this.hits = meterRegistry.counter(CACHE_METRIC, "result", "hit");
+    this.misses = meterRegistry.counter(CACHE_METRIC, "result", "miss");
+    meterRegistry.gaugeMapSize(CACHE_METRIC + ".size", List.of(), entries);
+  }
+
+  /**
+   * Get the cached listing for the request, loading and caching it if absent or expired.
+   *
+   * @param requestDto   the search filters, normalised to build the cache key
+   * @param hiddenGmcIds doctors excluded from the listing
+   * @param loader       loads the listing on a miss
+   * @return the cached or loaded listing
+   */
+  public TraineeSummaryDto get(TraineeRequestDto requestDto, List<String> hiddenGmcIds,
+      Supplier<TraineeSummaryDto> loader) {
+    if (timeToLive.isZero()) {
+      return loader.get();
+    }
+    final var key = CacheKey.of(requestDto, hiddenGmcIds);
+    final long evictionsBeforeLoad;
+    synchronized (this) {
+      final var entry = entries.get(key);
+      if (entry != null && clock.instant().isBefore(entry.expiresAt())) {
+        hits.increment();
+        return entry.summary();
+      }
+      misses.increment();
+      evictionsBeforeLoad = evictionCount;
+    }
+
+    final var summary = loader.get();
+    synchronized (this) {
+      // a listing loaded while its designated body was evicted may already be stale
+      if (evictionCount == evictionsBeforeLoad) {
+        entries.put(key, new CacheEntry(summary, clock.instant().plus(timeToLive)));
+      }
+    }
+    return summary;
+  }
+
+  /**
+   * Evict every listing that includes any of the given designated bodies.
+   *
+   * @param designatedBodyCodes the designated bodies whose doctors have changed, nulls ignored
+   */
+  public void evictDesignatedBodies(Collection<String> designatedBodyCodes) {
+    final var codes = designatedBodyCodes.stream().filter(Objects::nonNull).toList();
+    if (codes.isEmpty()) {
+      return;
+    }
+    synchronized (this) {
+      evictionCount++;
+      entries.keySet().removeIf(key -> key.dbcs().stream().anyMatch(codes::contains));
+    }
+    log.debug("Evicted cached doctor listings for designated bodies {}", codes);
+  }
+
+  record CacheKey(List<String> dbcs, String sortColumn, String sortOrder, boolean underNotice,
+                  int pageNumber, String searchQuery, String programmeName, String gmcStatus,
+                  String tisStatus, String admin, String cursor, List<String> hiddenGmcIds) {
+
+    static CacheKey of(TraineeRequestDto requestDto, List<String> hiddenGmcIds) {
+      return new CacheKey(sorted(requestDto.getDbcs()), requestDto.getSortColumn(),
+          normalise(requestDto.getSortOrder()), requestDto.isUnderNotice(),
+          requestDto.getPageNumber(), normalise(requestDto.getSearchQuery()),
+          requestDto.getProgrammeName(), requestDto.getGmcStatus(), requestDto.getTisStatus(),
+          requestDto.getAdmin(), requestDto.getCursor(), sorted(hiddenGmcIds));
+    }
+
+    private static List<String> sorted(List<String> values) {
+      return values == null ? List.of() : values.stream().distinct().sorted().toList();
+    }
+
+    private static String normalise(String value) {
+      return value == null ? "" : value.trim().toLowerCase();
+    }
+  }
+
+  private record CacheEntry(TraineeSummaryDto summary, Instant expiresAt) {
+
+  }
+}
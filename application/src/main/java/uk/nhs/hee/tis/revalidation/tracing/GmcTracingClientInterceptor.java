@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.tracing;
+
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.propagation.Propagator;
+import org.springframework.ws.client.WebServiceClientException;
+import org.springframework.ws.client.support.interceptor.ClientInterceptor;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.HeadersAwareSenderWebServiceConnection;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+/**
+ * Client interceptor wrapping each GMC Connect SOAP call in a span named after the SOAP action,
+ * e.g. {@code gmc TryRecommendationV2}, and sending the trace context in the HTTP headers.
+ */
+@Slf4j
+public class GmcTracingClientInterceptor implements ClientInterceptor {
+
+  static final String SPAN_PROPERTY = GmcTracingClientInterceptor.class.getName() + ".span";
+  static final String REMOTE_SERVICE = "gmc";
+  static final String SOAP_ACTION_TAG = "soap.action";
+
+  private final Tracer tracer;
+  private final Propagator propagator;
+
+  public GmcTracingClientInterceptor(Tracer tracer, Propagator propagator) {
+    this.tracer = tracer;
+    this.propagator = propagator;
+  }
+
+  @Override
+  public boolean handleRequest(MessageContext messageContext) throws WebServiceClientException {
+    final var action = soapAction(messageContext);
+    final var span = tracer.nextSpan().name(REMOTE_SERVICE + " " + action)
+        .remoteServiceName(REMOTE_SERVICE).tag(SOAP_ACTION_TAG, action).start();
+    messageContext.setProperty(SPAN_PROPERTY, span);
+
+    final var transportContext = TransportContextHolder.getTransportContext();
+    if (transportContext != null && transportContext
+        .getConnection() instanceof HeadersAwareSenderWebServiceConnection connection) {
+      propagator.inject(span.context(), connection, GmcTracingClientInterceptor::addHeader);
+    }
+    return true;
+  }
+
+  @Override
+  public boolean handleResponse(MessageContext messageContext) throws WebServiceClientException {
+    return true;
+  }
+
+  @Override
+  public boolean handleFault(MessageContext messageContext) throws WebServiceClientException {
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(MessageContext messageContext, Exception ex)
+      throws WebServiceClientException {
+    if (messageContext.getProperty(SPAN_PROPERTY) instanceof Span span) {
+      // SOAP faults are resolved to exceptions, so arrive here too
+      if (ex != null) {
+        span.error(ex);
+      }
+      span.end();
+    }
+  }
+
+  /**
+   * The action without the GMC namespace, e.g. {@code TryRecommendationV2}.
+   */
+  private static String soapAction(MessageContext messageContext) {
+    if (messageContext.getRequest() instanceof SoapMessage soapMessage
+        && soapMessage.getSoapAction() != null) {
+      final var action = soapMessage.getSoapAction().replace("\"", "");
+      final var name = action.substring(action.lastIndexOf('/') + 1);
+      if (!name.isEmpty()) {
+        return name;
+      }
+    }
+    return "unknown";
+  }
+
+  private static void addHeader(HeadersAwareSenderWebServiceConnection connection, String name,
+      String value) {
+    try {
+      connection.addRequestHeader(name, value);
+    } catch (IOException e) {
+      log.debug("Unable to add trace header {} to the GMC request", name, e);
+    }
+  }
+}
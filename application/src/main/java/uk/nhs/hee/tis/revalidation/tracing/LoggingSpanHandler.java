@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes each finished span to the log, for environments without a trace collector. The lines
+ * carry the trace id, so the per-request latency breakdown can be pieced together from the logs.
+ */
+@Slf4j
+public class LoggingSpanHandler extends SpanHandler {
+
+  @Override
+  public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+    if (cause == Cause.FINISHED && log.isInfoEnabled()) {
+      final var durationMicros = span.finishTimestamp() - span.startTimestamp();
+      if (span.error() != null) {
+        log.info("Span {} trace={} span={} took {}us tags={} error={}", span.name(),
+            span.traceId(), span.id(), durationMicros, span.tags(), span.error().toString());
+      } else {
+        log.info("Span {} trace={} span={} took {}us tags={}", span.name(), span.traceId(),
+            span.id(), durationMicros, span.tags());
+      }
+    }
+    return true;
+  }
+}
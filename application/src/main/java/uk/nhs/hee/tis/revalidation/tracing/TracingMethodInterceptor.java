@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.cloud.sleuth.Tracer;
+
+/**
+ * Advice wrapping each call to a repository or to the Elasticsearch operations in a span named
+ * after the component and method, e.g. {@code DoctorsForDBRepository.findById}, so that a slow
+ * request can be broken down by the data store calls it made.
+ */
+public class TracingMethodInterceptor implements MethodInterceptor {
+
+  static final String DB_SYSTEM_TAG = "db.system";
+
+  private final Tracer tracer;
+  private final String component;
+  private final String dbSystem;
+
+  public TracingMethodInterceptor(Tracer tracer, String component, String dbSystem) {
+    this.tracer = tracer;
+    this.component = component;
+    this.dbSystem = dbSystem;
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    final var method = invocation.getMethod();
+    if (method.getDeclaringClass() == Object.class) {
+      return invocation.proceed();
+    }
+    final var span = tracer.nextSpan().name(component + "." + method.getName())
+        .tag(DB_SYSTEM_TAG, dbSystem).start();
+    try (var ignored = tracer.withSpan(span)) {
+      return invocation.proceed();
+    } catch (Throwable t) {
+      span.error(t);
+      throw t;
+    } finally {
+      span.end();
+    }
+  }
+}
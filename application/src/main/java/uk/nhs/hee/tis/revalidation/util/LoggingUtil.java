@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.util;
+
+/**
+ * Names of the MDC fields written to the structured logs, and a guard against stringifying large
+ * payloads on hot paths.
+ */
+public final class LoggingUtil {
+
+  public static final String GMC_ID = "gmcId";
+  public static final String DESIGNATED_BODY = "designatedBody";
+  public static final String SYNC_RUN_ID = "syncRunId";
+
+  static final int MAX_PAYLOAD_LENGTH = 1000;
+
+  private LoggingUtil() {
+  }
+
+  /**
+   * Wrap a payload for logging, so that it is only converted to a string if the message is
+   * logged, and is cut to {@value #MAX_PAYLOAD_LENGTH} characters when it is.
+   *
+   * @param payload the payload to log
+   * @return a log argument printing the abbreviated payload
+   */
+  public static Object abbreviate(Object payload) {
+    return new Abbreviated(payload);
+  }
+
+  private record Abbreviated(Object payload) {
+
+    @Override
+    public String toString() {
+      final var value = String.valueOf(payload);
+      return value.length() <= MAX_PAYLOAD_LENGTH ? value
+          : value.substring(0, MAX_PAYLOAD_LENGTH) + "... (" + value.length() + " chars)";
+    }
+  }
+}
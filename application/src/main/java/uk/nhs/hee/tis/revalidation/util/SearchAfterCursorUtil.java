@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+
+/**
+ * Encodes Elasticsearch {@code search_after} sort values as an opaque, URL safe cursor.
+ */
+public class SearchAfterCursorUtil {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private SearchAfterCursorUtil() {
+  }
+
+  public static String encode(final List<Object> sortValues) {
+    try {
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(OBJECT_MAPPER.writeValueAsBytes(sortValues));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unable to encode search cursor", e);
+    }
+  }
+
+  /**
+   * Decode a cursor into the sort values of the last hit on the previous page.
+   *
+   * @param cursor the cursor returned with the previous page
+   * @return the sort values, or an empty list to start from the first page
+   * @throws RecommendationException if the cursor is malformed
+   */
+  public static List<Object> decode(final String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return List.of();
+    }
+    try {
+      final byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.UTF_8));
+      return OBJECT_MAPPER.readValue(json, new TypeReference<>() {
+      });
+    } catch (IllegalArgumentException | IOException e) {
+      throw new RecommendationException("Invalid cursor: " + cursor);
+    }
+  }
+}
@@ -33,6 +33,7 @@ import org.springframework.validation.Validator;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.service.RecommendationUnitOfWork;
 
 @Component
 public class TraineeRecommendationRecordDTOValidator implements Validator {
@@ -99,7 +100,8 @@ public class TraineeRecommendationRecordDTOValidator implements Validator {
     if (!StringUtils.hasLength(recordDto.getGmcNumber())) {
       return;
     }
-    final var doctorsForDb = doctorsForDBRepository.findById(recordDto.getGmcNumber());
+    final var doctorsForDb = RecommendationUnitOfWork.findDoctor(recordDto.getGmcNumber(),
+        doctorsForDBRepository::findById);
     if (doctorsForDb.isEmpty()) {
       errors.reject("DoctorForDB", format(DOCTOR_NOT_FOUND_MESSAGE, recordDto.getGmcNumber()));
     } else {
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.aopalliance.aop.Advice;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.nhs.hee.tis.revalidation.messages.ListenerTimingInterceptor;
+
+@ExtendWith(MockitoExtension.class)
+class RabbitListenerConfigTest {
+
+  @Mock
+  SimpleRabbitListenerContainerFactoryConfigurer configurer;
+
+  @Mock
+  ConnectionFactory connectionFactory;
+
+  @Test
+  void shouldApplyListenerPropertiesToContainers() {
+    final var properties = new ListenerContainerProperties();
+    properties.setConcurrency(2);
+    properties.setMaxConcurrency(8);
+    properties.setPrefetch(50);
+    properties.setBatchSize(10);
+    properties.setConsumerTimeout(60000L);
+
+    final var factory =
+        RabbitListenerConfig.createContainerFactory(configurer, connectionFactory, properties);
+    final SimpleMessageListenerContainer container = factory.createListenerContainer();
+
+    verify(configurer).configure(factory, connectionFactory);
+    assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers"), is(2));
+    assertThat(ReflectionTestUtils.getField(container, "maxConcurrentConsumers"), is(8));
+    assertThat(ReflectionTestUtils.getField(container, "prefetchCount"), is(50));
+    assertThat(ReflectionTestUtils.getField(container, "batchSize"), is(10));
+    assertThat(ReflectionTestUtils.getField(container, "consumerArgs"),
+        is(Map.of(RabbitListenerConfig.CONSUMER_TIMEOUT_ARGUMENT, 60000L)));
+  }
+
+  @Test
+  void shouldNotLetMaxConcurrencyDropBelowConcurrencyOrSetTimeoutWhenDisabled() {
+    final var properties = new ListenerContainerProperties();
+    properties.setConcurrency(3);
+
+    final var factory =
+        RabbitListenerConfig.createContainerFactory(configurer, connectionFactory, properties);
+    final SimpleMessageListenerContainer container = factory.createListenerContainer();
+
+    assertThat(ReflectionTestUtils.getField(container, "maxConcurrentConsumers"), is(3));
+    assertThat((Map<?, ?>) ReflectionTestUtils.getField(container, "consumerArgs"),
+        is(anEmptyMap()));
+  }
+
+  @Test
+  void shouldTimeListenersInsideRetryAdvice() {
+    final var timing = new ListenerTimingInterceptor(new SimpleMeterRegistry());
+    final var retry = new RetryOperationsInterceptor();
+
+    final var factory = new RabbitListenerConfig()
+        .connectionContainerFactory(configurer, connectionFactory, timing, retry);
+
+    assertThat(factory.getAdviceChain(), is(new Advice[]{retry, timing}));
+  }
+}
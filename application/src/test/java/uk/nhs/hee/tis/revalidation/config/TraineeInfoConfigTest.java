@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class TraineeInfoConfigTest {
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  void shouldRunReadsWithCallersLogContext() throws Exception {
+    final var executor = new TraineeInfoConfig().traineeInfoExecutor(1, 1);
+    executor.initialize();
+    try {
+      MDC.put("gmcId", "1234567");
+
+      final var gmcId = CompletableFuture.supplyAsync(() -> MDC.get("gmcId"), executor)
+          .get(5, TimeUnit.SECONDS);
+
+      assertThat(gmcId, is("1234567"));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void shouldRestoreThreadsLogContextAfterRead() {
+    MDC.put("gmcId", "1234567");
+    final var task = TraineeInfoConfig.withLogContext(() -> MDC.put("designatedBody", "1-AIIDR8"));
+    MDC.clear();
+
+    task.run();
+
+    assertThat(MDC.get("gmcId"), is(nullValue()));
+    assertThat(MDC.get("designatedBody"), is(nullValue()));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.config;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+class VirtualThreadConfigTest {
+
+  private final VirtualThreadConfig config = new VirtualThreadConfig();
+
+  @Test
+  void shouldReportVirtualThreadSupportFromRuntimeVersion() {
+    assertThat(VirtualThreads.isSupported(), is(Runtime.version().feature() >= 21));
+  }
+
+  @Test
+  void shouldFailToStartWithoutVirtualThreadSupport() {
+    assumeFalse(VirtualThreads.isSupported());
+    assertThrows(IllegalStateException.class, config::applicationTaskExecutor);
+    assertThat(VirtualThreads.isVirtual(Thread.currentThread()), is(false));
+  }
+
+  @Test
+  void shouldRunTasksOnNamedVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    final var thread = new CompletableFuture<Thread>();
+    config.applicationTaskExecutor().execute(() -> thread.complete(Thread.currentThread()));
+
+    final var taskThread = thread.get(5, TimeUnit.SECONDS);
+    assertThat(VirtualThreads.isVirtual(taskThread), is(true));
+    assertThat(taskThread.getName(), startsWith("task-"));
+  }
+
+  @Test
+  void shouldRunListenerConsumersOnVirtualThreads() {
+    assumeTrue(VirtualThreads.isSupported());
+    final var factory = mock(SimpleRabbitListenerContainerFactory.class);
+
+    VirtualThreadConfig.virtualThreadListenerContainerPostProcessor()
+        .postProcessAfterInitialization(factory, "connectionContainerFactory");
+
+    verify(factory).setTaskExecutor(any(SimpleAsyncTaskExecutor.class));
+  }
+}
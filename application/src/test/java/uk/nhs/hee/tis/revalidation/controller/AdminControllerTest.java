@@ -2,8 +2,10 @@ package uk.nhs.hee.tis.revalidation.controller;
 
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.Test;
@@ -14,7 +16,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.nhs.hee.tis.revalidation.messages.retry.ParkingLotReplayService;
 import uk.nhs.hee.tis.revalidation.service.GmcDoctorNightlySyncService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationIndexService;
 
 @ExtendWith(MockitoExtension.class)
 @WebMvcTest(AdminController.class)
@@ -26,6 +30,12 @@ class AdminControllerTest {
   @MockBean
   private GmcDoctorNightlySyncService gmcDoctorNightlySyncService;
 
+  @MockBean
+  private ParkingLotReplayService parkingLotReplayService;
+
+  @MockBean
+  private RecommendationIndexService recommendationIndexService;
+
   @InjectMocks
   private AdminController adminController;
 
@@ -37,4 +47,24 @@ class AdminControllerTest {
     verify(gmcDoctorNightlySyncService, times(1)).startNightlyGmcDoctorSync();
 
   }
+
+  @Test
+  void shouldReplayParkedMessages() throws Exception {
+    when(parkingLotReplayService.replay(50)).thenReturn(3);
+
+    this.mockMvc.perform(post("/api/admin/parking-lot/replay").param("limit", "50"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("Replayed 3 messages"));
+    verify(parkingLotReplayService).replay(50);
+  }
+
+  @Test
+  void shouldReindexRecommendations() throws Exception {
+    when(recommendationIndexService.reindexToCurrentMapping()).thenReturn("recommendations-1");
+
+    this.mockMvc.perform(post("/api/admin/reindex-recommendations"))
+        .andExpect(status().isOk())
+        .andExpect(content().string("Recommendations now served from recommendations-1"));
+    verify(recommendationIndexService).reindexToCurrentMapping();
+  }
 }
@@ -23,14 +23,20 @@ package uk.nhs.hee.tis.revalidation.controller;
 
 import static java.time.LocalDate.now;
 import static java.util.List.of;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.ADMIN_PARAM;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.ASC;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.AUTOCOMPLETE_FIELD;
+import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.CURSOR_PARAM;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.DESC;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.DESIGNATED_BODY_CODES;
 import static uk.nhs.hee.tis.revalidation.controller.DoctorsForDBController.EMPTY_STRING;
@@ -61,6 +67,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -74,6 +81,7 @@ import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
 import uk.nhs.hee.tis.revalidation.service.DoctorsForDBService;
+import uk.nhs.hee.tis.revalidation.service.EtagService;
 import uk.nhs.hee.tis.revalidation.service.RecommendationElasticSearchService;
 
 @ExtendWith(MockitoExtension.class)
@@ -101,6 +109,9 @@ class DoctorsForDBControllerTest {
   @MockBean
   private RecommendationElasticSearchService recommendationElasticSearchService;
 
+  @MockBean
+  private EtagService etagService;
+
   private String gmcRef1, gmcRef2;
   private String firstName1, firstName2;
   private String lastName1, lastName2;
@@ -169,6 +180,27 @@ class DoctorsForDBControllerTest {
         .andExpect(content().json(mapper.writeValueAsString(gmcDoctorDTO)));
   }
 
+  @Test
+  void shouldPassCursorToServiceForSearchAfterPaging() throws Exception {
+    final var gmcDoctorDTO = prepareGmcDoctor();
+    gmcDoctorDTO.setNextCursor("bmV4dA");
+    final var requestDTO = TraineeRequestDto.builder().sortOrder(ASC)
+        .sortColumn(SUBMISSION_DATE).searchQuery(EMPTY_STRING)
+        .dbcs(List.of(designatedBody1, designatedBody2)).programmeName(EMPTY_STRING)
+        .gmcStatus(EMPTY_STRING).tisStatus(EMPTY_STRING).admin(EMPTY_STRING)
+        .cursor("Y3Vyc29y").build();
+    when(doctorsForDBService.getAllTraineeDoctorDetails(requestDTO, List.of()))
+        .thenReturn(gmcDoctorDTO);
+    final var dbcString = String.format("%s,%s", designatedBody1, designatedBody2);
+    this.mockMvc.perform(get(DOCTORS_API_URL)
+            .param(SORT_ORDER, ASC)
+            .param(SORT_COLUMN, SUBMISSION_DATE)
+            .param(DESIGNATED_BODY_CODES, dbcString)
+            .param(CURSOR_PARAM, "Y3Vyc29y"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextCursor").value("bmV4dA"));
+  }
+
   @Test
   void shouldReturnDataWhenSortOrderAndSortColumnAreEmpty() throws Exception {
     final var gmcDoctorDTO = prepareGmcDoctor();
@@ -280,6 +312,17 @@ class DoctorsForDBControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  void shouldReturnNotModifiedWhenDoctorsByGmcIdUnchanged() throws Exception {
+    final var etag = "W/\"0cc175b9c0f1b6a831c399e269772661\"";
+    when(etagService.getDoctorsEtag(List.of(gmcRef1, gmcRef2))).thenReturn(etag);
+    final var url = String.format("%s/%s,%s", DOCTORS_API_URL_BY_GMC_ID, gmcRef1, gmcRef2);
+    mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+    verify(doctorsForDBService, never()).getDoctorsByGmcIds(any());
+  }
+
   @ParameterizedTest(name = "Should Return Autocomplete Results for Input [{0}]")
   @CsvSource({"general prac"})
   @NullSource
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.GMC_ID;
+
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+class LogContextInterceptorTest {
+
+  private final LogContextInterceptor interceptor = new LogContextInterceptor();
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  @Test
+  void shouldAddGmcIdFromPathToLogContextUntilRequestCompletes() {
+    request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+        Map.of(GMC_ID, "1234567", "recommendationId", "rec1"));
+
+    assertThat(interceptor.preHandle(request, response, new Object()), is(true));
+    assertThat(MDC.get(GMC_ID), is("1234567"));
+
+    interceptor.afterCompletion(request, response, new Object(), null);
+    assertThat(MDC.get(GMC_ID), nullValue());
+  }
+
+  @Test
+  void shouldRemoveGmcIdFromLogContextWhenRequestContinuesOnAnotherThread() {
+    request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+        Map.of(GMC_ID, "1234567"));
+
+    interceptor.preHandle(request, response, new Object());
+    interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+    assertThat(MDC.get(GMC_ID), nullValue());
+  }
+
+  @Test
+  void shouldLeaveLogContextAloneWithoutGmcIdInPath() {
+    request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+        Map.of("gmcIds", "1234567,7654321"));
+
+    assertThat(interceptor.preHandle(request, response, new Object()), is(true));
+    assertThat(MDC.get(GMC_ID), nullValue());
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.javafaker.Faker;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Mono;
+import uk.nhs.hee.tis.revalidation.dto.TraineeInfoDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.service.ReactiveReadService;
+
+@WebMvcTest(ReactiveReadController.class)
+class ReactiveReadControllerTest {
+
+  private static final String RECOMMENDATION_URL = "/api/reactive/recommendation";
+  private static final String DOCTORS_URL = "/api/reactive/doctors/gmcIds";
+
+  private final Faker faker = new Faker();
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper mapper;
+
+  @MockBean
+  private ReactiveReadService reactiveReadService;
+
+  @Test
+  void shouldReturnTraineeInfo() throws Exception {
+    final var gmcId = faker.number().digits(7);
+    final var traineeInfo = TraineeRecommendationDto.builder().gmcNumber(gmcId)
+        .fullName(faker.name().fullName())
+        .revalidations(List.of(TraineeRecommendationRecordDto.builder().gmcNumber(gmcId)
+            .recommendationId(faker.number().digits(10)).build()))
+        .build();
+    when(reactiveReadService.getTraineeInfo(gmcId)).thenReturn(Mono.just(traineeInfo));
+
+    performAsync(get(RECOMMENDATION_URL + "/" + gmcId))
+        .andExpect(status().isOk())
+        .andExpect(content().json(mapper.writeValueAsString(traineeInfo)));
+  }
+
+  @Test
+  void shouldReturnEmptyBodyForUnknownTrainee() throws Exception {
+    final var gmcId = faker.number().digits(7);
+    when(reactiveReadService.getTraineeInfo(gmcId)).thenReturn(Mono.empty());
+
+    performAsync(get(RECOMMENDATION_URL + "/" + gmcId))
+        .andExpect(status().isOk())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void shouldReturnLatestRecommendations() throws Exception {
+    final var gmcId1 = faker.number().digits(7);
+    final var gmcId2 = faker.number().digits(7);
+    final var latest = Map.of(
+        gmcId1, TraineeRecommendationRecordDto.builder().gmcNumber(gmcId1).build(),
+        gmcId2, new TraineeRecommendationRecordDto());
+    when(reactiveReadService.getLatestRecommendations(List.of(gmcId1, gmcId2)))
+        .thenReturn(Mono.just(latest));
+
+    performAsync(get(RECOMMENDATION_URL + "/latest/" + gmcId1 + "," + gmcId2))
+        .andExpect(status().isOk())
+        .andExpect(content().json(mapper.writeValueAsString(latest)));
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenLatestRecommendationsFail() throws Exception {
+    final var gmcId = faker.number().digits(7);
+    when(reactiveReadService.getLatestRecommendations(List.of(gmcId)))
+        .thenReturn(Mono.error(new RecommendationException("Doctor does not exist!")));
+
+    performAsync(get(RECOMMENDATION_URL + "/latest/" + gmcId))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturnDoctorsByGmcIds() throws Exception {
+    final var gmcId = faker.number().digits(7);
+    final var doctors = TraineeSummaryDto.builder().countTotal(1).totalResults(1)
+        .traineeInfo(List.of(TraineeInfoDto.builder().gmcReferenceNumber(gmcId).build()))
+        .build();
+    when(reactiveReadService.getDoctorsByGmcIds(List.of(gmcId))).thenReturn(Mono.just(doctors));
+
+    performAsync(get(DOCTORS_URL + "/" + gmcId))
+        .andExpect(status().isOk())
+        .andExpect(content().json(mapper.writeValueAsString(doctors)));
+  }
+
+  private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+    final var result = mockMvc.perform(requestBuilder)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    return mockMvc.perform(asyncDispatch(result));
+  }
+}
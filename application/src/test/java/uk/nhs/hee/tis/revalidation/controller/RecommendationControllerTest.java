@@ -25,13 +25,19 @@ import static java.lang.String.format;
 import static java.time.LocalDate.now;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.DEFER;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.NON_ENGAGEMENT;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.REVALIDATE;
@@ -51,9 +57,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.validation.Errors;
+import uk.nhs.hee.tis.revalidation.dto.BulkRecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
 import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
@@ -61,6 +71,8 @@ import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
 import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.service.EtagService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationBulkSubmissionService;
 import uk.nhs.hee.tis.revalidation.service.RecommendationService;
 import uk.nhs.hee.tis.revalidation.validator.TraineeRecommendationRecordDTOValidator;
 
@@ -72,6 +84,7 @@ class RecommendationControllerTest {
   private static final String RECOMMENDATION_API_GMCID_PATH_VARIABLE = "{gmcId}";
   private static final String RECOMMENDATION_API_SUBMIT_PATH_VARIABLE = "/{gmcId}/submit/{recommendationId}";
   private static final String RECOMMENDATION_API_LATEST_GMCIDS_PATH_VARIABLE = "latest/{gmcIds}";
+  private static final String TRAINEE_ETAG = "W/\"5d41402abc4b2a76b9719d911017c592\"";
   private final static LocalDate today = now();
   private final Faker faker = new Faker();
   private final LocalDate curriculumEndDate = now();
@@ -101,6 +114,10 @@ class RecommendationControllerTest {
   private RecommendationService service;
   @MockBean
   private TraineeRecommendationRecordDTOValidator traineeRecommendationRecordDTOValidator;
+  @MockBean
+  private EtagService etagService;
+  @MockBean
+  private RecommendationBulkSubmissionService bulkSubmissionService;
 
   private static Stream<Arguments> gmcSubmissionDateProvider() {
     return Stream.of(
@@ -124,6 +141,27 @@ class RecommendationControllerTest {
 
   }
 
+  @Test
+  void shouldReturnTraineeRecommendationWithEtag() throws Exception {
+    when(etagService.getRecommendationsEtag(List.of(gmcId))).thenReturn(TRAINEE_ETAG);
+    when(service.getTraineeInfo(gmcId)).thenReturn(prepareRecommendationDTO());
+    final var url = format("%s/%s", RECOMMENDATION_API_URL, RECOMMENDATION_API_GMCID_PATH_VARIABLE);
+    this.mockMvc.perform(get(url, gmcId).header(IF_NONE_MATCH, "W/\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, TRAINEE_ETAG));
+  }
+
+  @Test
+  void shouldReturnNotModifiedWhenTraineeRecommendationUnchanged() throws Exception {
+    when(etagService.getRecommendationsEtag(List.of(gmcId))).thenReturn(TRAINEE_ETAG);
+    final var url = format("%s/%s", RECOMMENDATION_API_URL, RECOMMENDATION_API_GMCID_PATH_VARIABLE);
+    this.mockMvc.perform(get(url, gmcId).header(IF_NONE_MATCH, TRAINEE_ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, TRAINEE_ETAG))
+        .andExpect(content().string(""));
+    verify(service, never()).getTraineeInfo(any());
+  }
+
   @Test
   void shouldSaveRevalidateRecommendation() throws Exception {
     final var recordDTO = TraineeRecommendationRecordDto.builder()
@@ -284,6 +322,88 @@ class RecommendationControllerTest {
         .andExpect(status().isOk());
   }
 
+  @Test
+  void shouldAcceptRecommendationForAsyncSubmission() throws Exception {
+    final var submission = RecommendationSubmissionDto.builder().gmcNumber(gmcId)
+        .recommendationId(recommendationId).recommendationStatus(SUBMITTING.name()).build();
+    when(service.submitRecommendationAsync(any(), any(), any())).thenReturn(submission);
+    final var url = format("%s/%s", RECOMMENDATION_API_URL,
+        RECOMMENDATION_API_SUBMIT_PATH_VARIABLE);
+    this.mockMvc.perform(post(url, gmcId, recommendationId)
+        .header("Prefer", "respond-async, wait=10")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(RoUserProfileDto.builder().build())))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string(HttpHeaders.LOCATION,
+            format("http://localhost%s/%s/submission/%s", RECOMMENDATION_API_URL, gmcId,
+                recommendationId)))
+        .andExpect(jsonPath("$.recommendationStatus").value(SUBMITTING.name()));
+    verify(service, never()).submitRecommendation(any(), any(), any());
+  }
+
+  @Test
+  void shouldIncludeContextPathInAsyncSubmissionLocation() throws Exception {
+    final var submission = RecommendationSubmissionDto.builder().gmcNumber(gmcId)
+        .recommendationId(recommendationId).recommendationStatus(SUBMITTING.name()).build();
+    when(service.submitRecommendationAsync(any(), any(), any())).thenReturn(submission);
+    final var url = format("/revalidation%s/%s", RECOMMENDATION_API_URL,
+        RECOMMENDATION_API_SUBMIT_PATH_VARIABLE);
+    this.mockMvc.perform(post(url, gmcId, recommendationId)
+        .contextPath("/revalidation")
+        .header("Prefer", "respond-async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(RoUserProfileDto.builder().build())))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string(HttpHeaders.LOCATION,
+            format("http://localhost/revalidation/api/recommendation/%s/submission/%s", gmcId,
+                recommendationId)));
+  }
+
+  @Test
+  void shouldReturnServiceUnavailableWhenSubmissionPoolIsFull() throws Exception {
+    when(service.submitRecommendationAsync(any(), any(), any()))
+        .thenThrow(new TaskRejectedException("full"));
+    final var url = format("%s/%s", RECOMMENDATION_API_URL,
+        RECOMMENDATION_API_SUBMIT_PATH_VARIABLE);
+    this.mockMvc.perform(post(url, gmcId, recommendationId)
+        .header("Prefer", "respond-async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(RoUserProfileDto.builder().build())))
+        .andExpect(status().isServiceUnavailable());
+  }
+
+  @Test
+  void shouldReturnSubmissionStatus() throws Exception {
+    final var submission = RecommendationSubmissionDto.builder().gmcNumber(gmcId)
+        .recommendationId(recommendationId).recommendationStatus(READY_TO_REVIEW.name())
+        .submissionFailure("Invalid Recommendation").build();
+    when(service.getSubmissionStatus(recommendationId, gmcId)).thenReturn(submission);
+    final var url = format("%s/{gmcId}/submission/{recommendationId}", RECOMMENDATION_API_URL);
+    this.mockMvc.perform(get(url, gmcId, recommendationId))
+        .andExpect(status().isOk())
+        .andExpect(content().json(mapper.writeValueAsString(submission)));
+  }
+
+  @Test
+  void shouldSubmitRecommendationsInBulk() throws Exception {
+    final var submitted = RecommendationSubmissionDto.builder().gmcNumber(gmcId)
+        .recommendationId(recommendationId)
+        .recommendationStatus(RecommendationStatus.SUBMITTED_TO_GMC.name()).build();
+    final var rejected = RecommendationSubmissionDto.builder().gmcNumber(gmcId)
+        .recommendationId("other").recommendationStatus(READY_TO_REVIEW.name())
+        .submissionFailure("Invalid Recommendation").build();
+    final var bulkSubmission = BulkRecommendationSubmissionDto.builder()
+        .userProfile(RoUserProfileDto.builder().build())
+        .recommendations(List.of(submitted, rejected)).build();
+    when(bulkSubmissionService.submitRecommendations(bulkSubmission))
+        .thenReturn(List.of(submitted, rejected));
+    this.mockMvc.perform(post(format("%s/submit", RECOMMENDATION_API_URL))
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(bulkSubmission)))
+        .andExpect(status().isOk())
+        .andExpect(content().json(mapper.writeValueAsString(List.of(submitted, rejected))));
+  }
+
   @Test
   void shouldThrowExceptionWhenRecommendationIsDeferralAndSubmitEarly() throws Exception {
     final var url = format("%s/%s", RECOMMENDATION_API_URL,
@@ -365,6 +485,16 @@ class RecommendationControllerTest {
 
   }
 
+  @Test
+  void shouldReturnNotModifiedWhenLatestTraineeRecommendationsUnchanged() throws Exception {
+    when(etagService.getRecommendationsEtag(List.of(gmcId))).thenReturn(TRAINEE_ETAG);
+    final var url = format("%s/%s", RECOMMENDATION_API_URL,
+        RECOMMENDATION_API_LATEST_GMCIDS_PATH_VARIABLE);
+    this.mockMvc.perform(get(url, gmcId).header(IF_NONE_MATCH, TRAINEE_ETAG))
+        .andExpect(status().isNotModified());
+    verify(service, never()).getLatestRecommendations(any());
+  }
+
   private TraineeRecommendationDto prepareRecommendationDTO() {
     return TraineeRecommendationDto.builder()
         .fullName(firstName + " " + lastName)
@@ -0,0 +1,286 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.gmc;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+import uk.nhs.hee.tis.revalidation.entity.GmcResponseCode;
+
+/**
+ * An embeddable stand-in for the GMC Connect SOAP service, answering
+ * {@code TryRecommendationV2} and {@code CheckRecommendationStatus} on a local port.
+ *
+ * <p>Latency, GMC error return codes and timeouts can be injected to exercise the concurrency,
+ * timeout and retry behaviour of the GMC integration without the {@code gmcmock} container.
+ * Settings may be changed while the stub is running. Point {@code app.gmc.url} at
+ * {@link #getUrl()} and close the stub when done.
+ */
+@Slf4j
+public class GmcConnectStub implements AutoCloseable {
+
+  public static final String TRY_RECOMMENDATION_V2 = "TryRecommendationV2";
+  public static final String CHECK_RECOMMENDATION_STATUS = "CheckRecommendationStatus";
+  public static final List<GmcResponseCode> DEFAULT_ERROR_CODES = Arrays.stream(
+          GmcResponseCode.values())
+      .filter(code -> code.getCode().length() == 2 && code.getCode().startsWith("9")).toList();
+
+  private static final String PATH = "/GMCWebServices";
+  private static final String NAMESPACE = "https://webcache.gmc-uk.org/GMCWebServices/";
+  private static final String ENVELOPE = """
+      <soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/"><soap:Body>%s\
+      </soap:Body></soap:Envelope>""";
+  private static final String TRY_RECOMMENDATION_RESPONSE = """
+      <TryRecommendationV2Response xmlns="%s"><TryRecommendationV2Result>\
+      <ReturnCode>%s</ReturnCode><RecommendationID>%s</RecommendationID>\
+      </TryRecommendationV2Result></TryRecommendationV2Response>""";
+  private static final String CHECK_STATUS_RESPONSE = """
+      <CheckRecommendationStatusResponse xmlns="%s"><CheckRecommendationStatusResult>\
+      <ReturnCode>%s</ReturnCode><Status>%s</Status>\
+      </CheckRecommendationStatusResult></CheckRecommendationStatusResponse>""";
+  private static final String FAULT = """
+      <soap:Fault><faultcode>soap:Client</faultcode><faultstring>%s</faultstring></soap:Fault>""";
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+  private final AtomicLong recommendationIds = new AtomicLong(1_000_000);
+
+  private volatile Random random = new Random();
+  private volatile LatencyDistribution latency = LatencyDistribution.none();
+  private volatile double errorRate;
+  private volatile List<GmcResponseCode> errorCodes = DEFAULT_ERROR_CODES;
+  private volatile double timeoutRate;
+  private volatile Duration timeoutHold = Duration.ofMinutes(5);
+  private volatile String recommendationStatus = "Approved";
+
+  private GmcConnectStub(HttpServer server) {
+    this.server = server;
+    server.createContext(PATH, this::handle);
+    server.setExecutor(executor);
+  }
+
+  /**
+   * Start a stub on a free local port, answering every request successfully and at once.
+   *
+   * @return the running stub
+   * @throws IOException if the port cannot be bound
+   */
+  public static GmcConnectStub start() throws IOException {
+    final var stub = new GmcConnectStub(
+        HttpServer.create(new InetSocketAddress("localhost", 0), 0));
+    stub.server.start();
+    return stub;
+  }
+
+  public String getUrl() {
+    return String.format("http://localhost:%d%s", server.getAddress().getPort(), PATH);
+  }
+
+  /**
+   * Delay every response by a time drawn from the given distribution.
+   */
+  public GmcConnectStub withLatency(LatencyDistribution latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  /**
+   * Answer the given proportion of requests with one of the given GMC return codes, chosen at
+   * random, or with one of the 90 to 99 codes if none are given.
+   */
+  public GmcConnectStub withErrors(double rate, GmcResponseCode... codes) {
+    this.errorCodes = codes.length == 0 ? DEFAULT_ERROR_CODES : List.of(codes);
+    this.errorRate = rate;
+    return this;
+  }
+
+  /**
+   * Hold the given proportion of requests open without answering, until the client times out or
+   * the hold ends and the connection is closed.
+   */
+  public GmcConnectStub withTimeouts(double rate, Duration hold) {
+    this.timeoutHold = hold;
+    this.timeoutRate = rate;
+    return this;
+  }
+
+  /**
+   * Set the status returned by successful recommendation status checks, e.g. "Under Review".
+   */
+  public GmcConnectStub withRecommendationStatus(String status) {
+    this.recommendationStatus = status;
+    return this;
+  }
+
+  /**
+   * Seed the random choices of latency, errors and timeouts so a run can be repeated.
+   */
+  public GmcConnectStub withSeed(long seed) {
+    this.random = new Random(seed);
+    return this;
+  }
+
+  /**
+   * Answer every request successfully and at once again, and clear the request counts.
+   */
+  public GmcConnectStub reset() {
+    latency = LatencyDistribution.none();
+    errorRate = 0;
+    errorCodes = DEFAULT_ERROR_CODES;
+    timeoutRate = 0;
+    recommendationStatus = "Approved";
+    requestCounts.clear();
+    return this;
+  }
+
+  /**
+   * Get the number of requests received for a SOAP operation, including failed ones.
+   */
+  public long getRequestCount(String operation) {
+    final var count = requestCounts.get(operation);
+    return count == null ? 0 : count.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      final String operation;
+      try {
+        operation = readOperation(exchange.getRequestBody());
+      } catch (ParserConfigurationException | SAXException e) {
+        log.warn("Unreadable request to the GMC stub", e);
+        respond(exchange, 500, String.format(FAULT, "Unreadable request"));
+        return;
+      }
+      requestCounts.computeIfAbsent(operation, key -> new AtomicLong()).incrementAndGet();
+      final var random = this.random;
+
+      if (random.nextDouble() < timeoutRate) {
+        log.debug("Holding {} request for {}", operation, timeoutHold);
+        TimeUnit.MILLISECONDS.sleep(timeoutHold.toMillis());
+        return;
+      }
+      TimeUnit.MILLISECONDS.sleep(latency.sample(random).toMillis());
+
+      final var codes = errorCodes;
+      final var returnCode = random.nextDouble() < errorRate
+          ? codes.get(random.nextInt(codes.size())).getCode() : GmcResponseCode.SUCCESS.getCode();
+      switch (operation) {
+        case TRY_RECOMMENDATION_V2 -> respond(exchange, 200,
+            String.format(TRY_RECOMMENDATION_RESPONSE, NAMESPACE, returnCode,
+                GmcResponseCode.SUCCESS.getCode().equals(returnCode)
+                    ? recommendationIds.incrementAndGet() : ""));
+        case CHECK_RECOMMENDATION_STATUS -> respond(exchange, 200,
+            String.format(CHECK_STATUS_RESPONSE, NAMESPACE, returnCode, recommendationStatus));
+        default -> respond(exchange, 500,
+            String.format(FAULT, "Unsupported operation " + operation));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static String readOperation(InputStream body)
+      throws IOException, ParserConfigurationException, SAXException {
+    final var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    final var envelope = documentBuilderFactory.newDocumentBuilder().parse(body);
+    final var soapBody = firstChildElement(envelope.getDocumentElement(), "Body");
+    final var operation = soapBody == null ? null : firstChildElement(soapBody, null);
+    return operation == null ? "" : operation.getLocalName();
+  }
+
+  private static Element firstChildElement(Element parent, String localName) {
+    for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child instanceof Element element
+          && (localName == null || localName.equals(element.getLocalName()))) {
+        return element;
+      }
+    }
+    return null;
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    final var bytes = String.format(ENVELOPE, body).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "text/xml; charset=utf-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  /**
+   * A distribution of response delays.
+   */
+  @FunctionalInterface
+  public interface LatencyDistribution {
+
+    Duration sample(Random random);
+
+    static LatencyDistribution none() {
+      return random -> Duration.ZERO;
+    }
+
+    static LatencyDistribution fixed(Duration delay) {
+      return random -> delay;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+      final var rangeMillis = max.toMillis() - min.toMillis();
+      return random -> min.plusMillis((long) (random.nextDouble() * rangeMillis));
+    }
+
+    /**
+     * A long-tailed distribution, as seen from GMC around submission deadlines.
+     *
+     * @param median the median delay
+     * @param sigma  the spread, where 1.0 puts the 99th percentile at about ten times the median
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+      return random -> Duration.ofMillis(
+          Math.round(median.toMillis() * Math.exp(sigma * random.nextGaussian())));
+    }
+  }
+}
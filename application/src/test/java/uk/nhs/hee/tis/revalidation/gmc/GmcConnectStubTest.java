@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.gmc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub.CHECK_RECOMMENDATION_STATUS;
+import static uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub.TRY_RECOMMENDATION_V2;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.revalidation.entity.GmcResponseCode;
+import uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub.LatencyDistribution;
+
+class GmcConnectStubTest {
+
+  private static final String REQUEST = """
+      <soapenv:Envelope xmlns:soapenv="http://schemas.xmlsoap.org/soap/envelope/"
+        xmlns:gmc="https://webcache.gmc-uk.org/GMCWebServices/"><soapenv:Body>
+      <gmc:%s><gmc:Username>guest</gmc:Username></gmc:%1$s>
+      </soapenv:Body></soapenv:Envelope>""";
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private GmcConnectStub stub;
+
+  @BeforeEach
+  void setup() throws IOException {
+    stub = GmcConnectStub.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    stub.close();
+  }
+
+  @Test
+  void shouldAnswerRecommendationStatusCheck() throws Exception {
+    stub.withRecommendationStatus("Under Review");
+
+    final var response = send(CHECK_RECOMMENDATION_STATUS, Duration.ofSeconds(5));
+
+    assertThat(response.statusCode(), is(200));
+    assertThat(response.body(), containsString(
+        "<ReturnCode>0</ReturnCode><Status>Under Review</Status>"));
+    assertThat(stub.getRequestCount(CHECK_RECOMMENDATION_STATUS), is(1L));
+  }
+
+  @Test
+  void shouldAnswerRecommendationSubmissionWithRecommendationId() throws Exception {
+    final var response = send(TRY_RECOMMENDATION_V2, Duration.ofSeconds(5));
+
+    assertThat(response.body(), containsString(
+        "<ReturnCode>0</ReturnCode><RecommendationID>1000001</RecommendationID>"));
+    assertThat(stub.getRequestCount(TRY_RECOMMENDATION_V2), is(1L));
+  }
+
+  @Test
+  void shouldInjectGivenErrorCode() throws Exception {
+    stub.withErrors(1.0, GmcResponseCode.OPEN_RECOMMENDATION_EXISTS);
+
+    final var response = send(TRY_RECOMMENDATION_V2, Duration.ofSeconds(5));
+
+    assertThat(response.body(), containsString(
+        "<ReturnCode>91</ReturnCode><RecommendationID></RecommendationID>"));
+  }
+
+  @Test
+  void shouldDefaultInjectedErrorsToNinetiesCodes() {
+    assertThat(GmcConnectStub.DEFAULT_ERROR_CODES.size(), is(10));
+    assertThat(GmcConnectStub.DEFAULT_ERROR_CODES.get(0),
+        is(GmcResponseCode.DOCTOR_NOT_SUBJECT_TO_REVALIDATION));
+    assertThat(GmcConnectStub.DEFAULT_ERROR_CODES.get(9), is(GmcResponseCode.INVALID_CREDENTIALS));
+  }
+
+  @Test
+  void shouldDelayResponsesByLatency() throws Exception {
+    stub.withLatency(LatencyDistribution.fixed(Duration.ofMillis(200)));
+
+    final var start = System.nanoTime();
+    send(CHECK_RECOMMENDATION_STATUS, Duration.ofSeconds(5));
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(),
+        greaterThanOrEqualTo(200L));
+  }
+
+  @Test
+  void shouldHoldRequestsUntilClientTimesOut() {
+    stub.withTimeouts(1.0, Duration.ofSeconds(30));
+
+    assertThrows(HttpTimeoutException.class,
+        () -> send(CHECK_RECOMMENDATION_STATUS, Duration.ofMillis(200)));
+    assertThat(stub.getRequestCount(CHECK_RECOMMENDATION_STATUS), is(1L));
+  }
+
+  @Test
+  void shouldReturnSoapFaultForUnsupportedOperation() throws Exception {
+    final var response = send("GetDoctorDetails", Duration.ofSeconds(5));
+
+    assertThat(response.statusCode(), is(500));
+    assertThat(response.body(), containsString("Unsupported operation GetDoctorDetails"));
+  }
+
+  @Test
+  void shouldKeepLogNormalLatencyAroundMedian() {
+    final var latency = LatencyDistribution.logNormal(Duration.ofMillis(100), 0.5);
+    final var random = new Random(1);
+    long belowMedian = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (latency.sample(random).toMillis() < 100) {
+        belowMedian++;
+      }
+    }
+    assertThat(belowMedian > 400 && belowMedian < 600, is(true));
+  }
+
+  private HttpResponse<String> send(String operation, Duration timeout)
+      throws IOException, InterruptedException {
+    final var request = HttpRequest.newBuilder(URI.create(stub.getUrl()))
+        .timeout(timeout)
+        .header("Content-Type", "text/xml; charset=utf-8")
+        .POST(BodyPublishers.ofString(String.format(REQUEST, operation)))
+        .build();
+    return httpClient.send(request, BodyHandlers.ofString());
+  }
+}
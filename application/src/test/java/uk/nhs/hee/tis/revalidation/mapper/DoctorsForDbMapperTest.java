@@ -33,6 +33,7 @@ import com.github.javafaker.Faker;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -152,4 +153,19 @@ class DoctorsForDbMapperTest {
     assertTrue(doctorsForDb.getExistsInGmc());
     assertEquals(RecommendationStatus.NOT_STARTED, doctorsForDb.getDoctorStatus());
   }
+
+  @Test
+  void shouldMapDoctorsToTraineeSummary() {
+    final var doctor1 = DoctorsForDB.builder().gmcReferenceNumber(gmcNumber)
+        .designatedBodyCode(dbc).build();
+    final var doctor2 = DoctorsForDB.builder().gmcReferenceNumber(faker.number().digits(7))
+        .build();
+
+    final var summary = testObj.toTraineeSummaryDto(List.of(doctor1, doctor2));
+
+    assertThat(summary.getCountTotal(), is(2L));
+    assertThat(summary.getTotalResults(), is(2L));
+    assertThat(summary.getTraineeInfo(),
+        is(List.of(testObj.toTraineeInfoDto(doctor1), testObj.toTraineeInfoDto(doctor2))));
+  }
 }
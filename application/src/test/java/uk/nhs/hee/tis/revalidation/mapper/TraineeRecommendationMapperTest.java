@@ -0,0 +1,196 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.mapper;
+
+import static java.time.LocalDate.now;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.COMPLETED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.DRAFT;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.NOT_STARTED;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
+
+import com.github.javafaker.Faker;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.revalidation.dto.DeferralReasonDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
+import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+
+class TraineeRecommendationMapperTest {
+
+  private final Faker faker = new Faker();
+  private final String gmcNumber = faker.number().digits(7);
+  private final LocalDate submissionDate = now().plusMonths(3);
+  private TraineeRecommendationMapper testObj;
+  private DoctorsForDB doctor;
+
+  @BeforeEach
+  void setup() {
+    testObj = new TraineeRecommendationMapperImpl();
+    doctor = DoctorsForDB.builder().gmcReferenceNumber(gmcNumber)
+        .doctorFirstName("First").doctorLastName("Last").designatedBodyCode("1-AIIDWA")
+        .submissionDate(submissionDate).underNotice(UnderNotice.YES).build();
+  }
+
+  @Test
+  void shouldMapRecommendationToRecordDto() {
+    final var recommendation = Recommendation.builder().id("rec1").gmcNumber("other")
+        .gmcSubmissionDate(now()).outcome(UNDER_REVIEW)
+        .recommendationType(RecommendationType.DEFER).recommendationStatus(SUBMITTED_TO_GMC)
+        .actualSubmissionDate(now().minusDays(1)).gmcRevalidationId("gmcRev1")
+        .deferralDate(now().plusDays(90)).deferralReason("1").deferralSubReason("2")
+        .comments(List.of("comment")).admin("admin").build();
+
+    final var record = testObj.toRecordDto(gmcNumber, submissionDate, recommendation);
+
+    assertThat(record.getGmcNumber(), is(gmcNumber));
+    assertThat(record.getGmcSubmissionDate(), is(submissionDate));
+    assertThat(record.getRecommendationId(), is("rec1"));
+    assertThat(record.getGmcOutcome(), is(UNDER_REVIEW.getOutcome()));
+    assertThat(record.getRecommendationType(), is("DEFER"));
+    assertThat(record.getRecommendationStatus(), is("SUBMITTED_TO_GMC"));
+    assertThat(record.getActualSubmissionDate(), is(now().minusDays(1)));
+    assertThat(record.getDeferralDate(), is(now().plusDays(90)));
+    assertThat(record.getDeferralReason(), is("1"));
+    assertThat(record.getDeferralSubReason(), is("2"));
+    assertThat(record.getComments(), is(List.of("comment")));
+    assertThat(record.getAdmin(), is("admin"));
+    assertThat(record.getGmcRevalidationId(), is(nullValue()));
+  }
+
+  @Test
+  void shouldBuildTraineeInfoWithMostRecentRecommendationFirst() {
+    final var draft = Recommendation.builder().id("draft").recommendationStatus(READY_TO_REVIEW)
+        .build();
+    final var submitted = Recommendation.builder().id("submitted")
+        .recommendationStatus(SUBMITTED_TO_GMC).actualSubmissionDate(now().minusYears(1))
+        .build();
+    final var snapshot = TraineeRecommendationRecordDto.builder().recommendationId("snapshot")
+        .actualSubmissionDate(now().minusYears(3)).build();
+    final var deferralReasons = List.of(DeferralReasonDto.builder().code("1").build());
+
+    final var traineeInfo = testObj.toTraineeInfo(doctor, List.of(submitted, draft),
+        List.of(snapshot), deferralReasons);
+
+    assertThat(traineeInfo.getFullName(), is("First Last"));
+    assertThat(traineeInfo.getGmcNumber(), is(gmcNumber));
+    assertThat(traineeInfo.getDesignatedBody(), is("1-AIIDWA"));
+    assertThat(traineeInfo.getGmcSubmissionDate(), is(submissionDate));
+    assertThat(traineeInfo.getUnderNotice(), is(UnderNotice.YES.value()));
+    assertThat(traineeInfo.getDeferralReasons(), is(deferralReasons));
+    assertThat(traineeInfo.getRevalidations().stream()
+            .map(TraineeRecommendationRecordDto::getRecommendationId).toList(),
+        contains("draft", "submitted", "snapshot"));
+    assertThat(traineeInfo.getRevalidations().get(0).getGmcNumber(), is(gmcNumber));
+  }
+
+  @Test
+  void shouldReturnDraftRecommendation() {
+    final var submitted = Recommendation.builder().id("submitted")
+        .recommendationStatus(SUBMITTED_TO_GMC).build();
+    final var draft = Recommendation.builder().id("draft").gmcNumber(gmcNumber)
+        .recommendationStatus(READY_TO_REVIEW).build();
+
+    assertThat(testObj.toDraftRecommendation(List.of(submitted, draft)).orElseThrow()
+        .getRecommendationId(), is("draft"));
+    assertThat(testObj.toDraftRecommendation(List.of(submitted)).isPresent(), is(false));
+  }
+
+  @Test
+  void shouldReturnLatestSubmittedRecommendationUnlessPastCompleted() {
+    final var recent = Recommendation.builder().id("recent").outcome(APPROVED)
+        .actualSubmissionDate(now().minusDays(1)).build();
+    final var past = Recommendation.builder().id("past").outcome(APPROVED)
+        .actualSubmissionDate(now().minusMonths(2)).build();
+
+    assertThat(testObj.toLatestSubmittedRecommendation(gmcNumber, Optional.of(doctor),
+        Optional.of(recent)).getRecommendationId(), is("recent"));
+    assertThat(testObj.toLatestSubmittedRecommendation(gmcNumber, Optional.of(doctor),
+        Optional.of(past)), is(new TraineeRecommendationRecordDto()));
+    assertThat(testObj.toLatestSubmittedRecommendation(gmcNumber, Optional.of(doctor),
+        Optional.empty()), is(new TraineeRecommendationRecordDto()));
+  }
+
+  @Test
+  void shouldFailLatestSubmittedRecommendationForUnknownDoctor() {
+    final Optional<DoctorsForDB> noDoctor = Optional.empty();
+    final Optional<Recommendation> noRecommendation = Optional.empty();
+
+    assertThrows(RecommendationException.class, () -> testObj.toLatestSubmittedRecommendation(
+        gmcNumber, noDoctor, noRecommendation));
+  }
+
+  @Test
+  void shouldReturnDraftAsLatestRecommendationOverCompletedOnes() {
+    final var approvedDraft = Recommendation.builder().id("approved").outcome(APPROVED)
+        .recommendationStatus(READY_TO_REVIEW).actualSubmissionDate(now()).build();
+    final var draft = Recommendation.builder().id("draft").recommendationStatus(READY_TO_REVIEW)
+        .build();
+
+    assertThat(testObj.toLatestRecommendation(doctor, List.of(approvedDraft, draft))
+        .getRecommendationId(), is("draft"));
+  }
+
+  @Test
+  void shouldReturnLatestSubmittedAsLatestRecommendationWithoutDraft() {
+    final var unsubmitted = Recommendation.builder().id("unsubmitted").outcome(REJECTED)
+        .recommendationStatus(COMPLETED).build();
+    final var older = Recommendation.builder().id("older").outcome(APPROVED)
+        .recommendationStatus(COMPLETED).actualSubmissionDate(now().minusDays(10)).build();
+    final var latest = Recommendation.builder().id("latest").outcome(UNDER_REVIEW)
+        .recommendationStatus(SUBMITTED_TO_GMC).actualSubmissionDate(now().minusDays(1))
+        .build();
+
+    assertThat(testObj.toLatestRecommendation(doctor, List.of(unsubmitted, latest, older))
+        .getRecommendationId(), is("latest"));
+    assertThat(testObj.toLatestRecommendation(doctor, List.of()),
+        is(new TraineeRecommendationRecordDto()));
+  }
+
+  @Test
+  void shouldMapLatestRecommendationToDoctorStatus() {
+    assertThat(testObj.toDoctorStatus(new TraineeRecommendationRecordDto()), is(NOT_STARTED));
+    assertThat(testObj.toDoctorStatus(TraineeRecommendationRecordDto.builder()
+        .gmcOutcome(APPROVED.getOutcome()).build()), is(COMPLETED));
+    assertThat(testObj.toDoctorStatus(TraineeRecommendationRecordDto.builder()
+        .gmcOutcome(REJECTED.getOutcome()).build()), is(COMPLETED));
+    assertThat(testObj.toDoctorStatus(TraineeRecommendationRecordDto.builder()
+        .gmcOutcome(UNDER_REVIEW.getOutcome()).build()), is(SUBMITTED_TO_GMC));
+    assertThat(testObj.toDoctorStatus(TraineeRecommendationRecordDto.builder()
+        .recommendationType("REVALIDATE").build()), is(DRAFT));
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.messages.ListenerTimingInterceptor.LISTENER_METRIC;
+import static uk.nhs.hee.tis.revalidation.messages.ListenerTimingInterceptor.UNKNOWN_QUEUE;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+@ExtendWith(MockitoExtension.class)
+class ListenerTimingInterceptorTest {
+
+  private static final String QUEUE = "reval.queue.connection";
+
+  @Mock
+  private MethodInvocation invocation;
+
+  @Mock
+  private Channel channel;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final ListenerTimingInterceptor interceptor = new ListenerTimingInterceptor(
+      meterRegistry);
+
+  @Test
+  void shouldTimeSuccessfulDeliveryByQueue() throws Throwable {
+    when(invocation.getArguments()).thenReturn(new Object[]{channel, message(QUEUE)});
+    when(invocation.proceed()).thenReturn("done");
+
+    assertThat(interceptor.invoke(invocation), is("done"));
+
+    assertThat(meterRegistry.get(LISTENER_METRIC).tags("queue", QUEUE, "result", "success")
+        .timer().count(), is(1L));
+  }
+
+  @Test
+  void shouldTimeFailedBatchByQueueOfFirstMessage() throws Throwable {
+    final var failure = new AmqpRejectAndDontRequeueException("failed");
+    when(invocation.getArguments())
+        .thenReturn(new Object[]{channel, List.of(message(QUEUE), message(QUEUE))});
+    when(invocation.proceed()).thenThrow(failure);
+
+    assertThrows(AmqpRejectAndDontRequeueException.class, () -> interceptor.invoke(invocation));
+
+    assertThat(meterRegistry.get(LISTENER_METRIC).tags("queue", QUEUE, "result", "failure")
+        .timer().count(), is(1L));
+  }
+
+  @Test
+  void shouldTimeDeliveryWithoutConsumerQueueAsUnknown() throws Throwable {
+    when(invocation.getArguments()).thenReturn(new Object[]{channel, List.of()});
+
+    interceptor.invoke(invocation);
+
+    assertThat(meterRegistry.get(LISTENER_METRIC).tag("queue", UNKNOWN_QUEUE).timer().count(),
+        is(1L));
+  }
+
+  private static Message message(String queue) {
+    final var properties = new MessageProperties();
+    properties.setConsumerQueue(queue);
+    return new Message(new byte[0], properties);
+  }
+}
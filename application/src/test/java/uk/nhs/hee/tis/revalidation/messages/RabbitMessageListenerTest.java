@@ -22,16 +22,23 @@
 package uk.nhs.hee.tis.revalidation.messages;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.DESIGNATED_BODY;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.GMC_ID;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.SYNC_RUN_ID;
 
 import com.github.javafaker.Faker;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -39,6 +46,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionMessageDto;
 import uk.nhs.hee.tis.revalidation.dto.RecommendationStatusCheckDto;
@@ -111,6 +119,40 @@ class RabbitMessageListenerTest {
         .handleDoctorsForDbCollectedEvent(event);
   }
 
+  @Test
+  void shouldAddDesignatedBodyAndSyncRunToLogContextWhileHandlingDoctorsForDbCollected() {
+    DoctorsForDbCollectedEvent event = new DoctorsForDbCollectedEvent(designatedBody,
+        requestDateTime, null);
+    final Map<String, String> logContext = new HashMap<>();
+    doAnswer(invocation -> {
+      logContext.putAll(MDC.getCopyOfContextMap());
+      return null;
+    }).when(doctorsForDBService).handleDoctorsForDbCollectedEvent(event);
+
+    rabbitMessageListener.handleDoctorsForDbCollectedMessage(event);
+
+    assertThat(logContext.get(DESIGNATED_BODY), is(designatedBody));
+    assertThat(logContext.get(SYNC_RUN_ID), is(requestDateTime.toString()));
+    assertThat(MDC.get(DESIGNATED_BODY), nullValue());
+    assertThat(MDC.get(SYNC_RUN_ID), nullValue());
+  }
+
+  @Test
+  void shouldAddGmcIdToLogContextWhileHandlingDoctorConnectionMessage() {
+    final var message = ConnectionMessageDto.builder().gmcId(gmcNumber)
+        .designatedBodyCode(designatedBody).build();
+    final Map<String, String> logContext = new HashMap<>();
+    doAnswer(invocation -> {
+      logContext.putAll(MDC.getCopyOfContextMap());
+      return null;
+    }).when(doctorsForDBService).updateDoctorConnection(message);
+
+    rabbitMessageListener.receiveUpdateDoctorConnectionMessage(message);
+
+    assertThat(logContext.get(GMC_ID), is(gmcNumber));
+    assertThat(MDC.get(GMC_ID), nullValue());
+  }
+
   @Test
   void shouldHandleDoctorConnectionMessage() {
     final var message = ConnectionMessageDto.builder()
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.converter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
+import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
+import uk.nhs.hee.tis.revalidation.messages.converter.CompressingMessageConverter.Compression;
+
+class CompressingMessageConverterTest {
+
+  private final Jackson2JsonMessageConverter jsonConverter =
+      new Jackson2JsonMessageConverter(new ObjectMapper().findAndRegisterModules());
+  private final SmileMessageConverter smileConverter = new SmileMessageConverter(
+      new ObjectMapper(new SmileFactory()).findAndRegisterModules());
+
+  private final DoctorsForDbCollectedEvent event = new DoctorsForDbCollectedEvent("1-AIIDR8",
+      LocalDateTime.of(2026, 1, 1, 2, 0), Collections.nCopies(100, DoctorsForDbDto.builder()
+      .gmcReferenceNumber("1234567").doctorFirstName("first").doctorLastName("last")
+      .designatedBodyCode("1-AIIDR8").build()));
+
+  @Test
+  void shouldCompressOutgoingMessageAndSetContentEncoding() {
+    final var uncompressed = jsonConverter.toMessage(event, new MessageProperties());
+    final var converter = new CompressingMessageConverter(jsonConverter, Compression.GZIP);
+
+    final var message = converter.toMessage(event, new MessageProperties());
+
+    assertThat(message.getMessageProperties().getContentEncoding(), is("gzip, UTF-8"));
+    assertThat(message.getBody().length, lessThan(uncompressed.getBody().length));
+  }
+
+  @Test
+  void shouldDecompressIncomingMessageBasedOnContentEncoding() {
+    final var writer = new CompressingMessageConverter(jsonConverter, Compression.DEFLATE);
+    final var reader = new CompressingMessageConverter(jsonConverter, Compression.NONE);
+
+    final var result = reader.fromMessage(writer.toMessage(event, new MessageProperties()));
+
+    assertThat(result, is(event));
+  }
+
+  @Test
+  void shouldPassThroughUncompressedMessage() {
+    final var converter = new CompressingMessageConverter(jsonConverter, Compression.NONE);
+
+    final var message = converter.toMessage(event, new MessageProperties());
+
+    assertThat(message.getMessageProperties().getContentEncoding(), is("UTF-8"));
+    assertThat(converter.fromMessage(message), is(event));
+  }
+
+  @Test
+  void shouldReadCompressedSmileOrJsonThroughContentTypeDelegation() {
+    final var contentTypeConverter = new ContentTypeDelegatingMessageConverter(jsonConverter);
+    contentTypeConverter.addDelegate(SmileMessageConverter.CONTENT_TYPE_SMILE, smileConverter);
+    final var reader = new CompressingMessageConverter(contentTypeConverter, Compression.NONE);
+    final var smileWriter = new CompressingMessageConverter(smileConverter, Compression.GZIP);
+    final var jsonWriter = new CompressingMessageConverter(jsonConverter, Compression.GZIP);
+
+    final var smileMessage = smileWriter.toMessage(event, new MessageProperties());
+    final var jsonMessage = jsonWriter.toMessage(event, new MessageProperties());
+
+    assertThat(smileMessage.getMessageProperties().getContentType(),
+        is(SmileMessageConverter.CONTENT_TYPE_SMILE));
+    assertThat(smileMessage.getMessageProperties().getContentEncoding(), is("gzip"));
+    assertThat(reader.fromMessage(smileMessage), is(event));
+    assertThat(reader.fromMessage(jsonMessage), is(event));
+  }
+
+  @Test
+  void shouldWriteSmileSmallerThanJson() {
+    final var json = jsonConverter.toMessage(List.of(event), new MessageProperties());
+    final var smile = smileConverter.toMessage(List.of(event), new MessageProperties());
+
+    assertThat(smile.getBody().length, lessThan(json.getBody().length));
+    assertThat(smile.getMessageProperties().getContentEncoding(), is(nullValue()));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.publisher;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+
+@ExtendWith(MockitoExtension.class)
+class BatchingMessagePublisherTest {
+
+  private static final long CONFIRM_TIMEOUT = 1000L;
+
+  @Mock
+  RabbitMqMessagePublisher<String> publisher;
+
+  @Mock
+  Clock clock;
+
+  @Test
+  void shouldPublishWhenBatchSizeIsReached() {
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+    final var batchingPublisher =
+        new BatchingMessagePublisher<>(publisher, 2, 60000L, CONFIRM_TIMEOUT, clock);
+
+    batchingPublisher.add("one");
+    verify(publisher, never()).publishToBrokerWithConfirms(any(), anyLong());
+    batchingPublisher.add("two");
+
+    verify(publisher).publishToBrokerWithConfirms(List.of("one", "two"), CONFIRM_TIMEOUT);
+    assertThat(batchingPublisher.getConfirmedCount(), is(2));
+  }
+
+  @Test
+  void shouldPublishWhenBufferTimeHasElapsed() {
+    when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH, Instant.EPOCH.plusMillis(500));
+    final var batchingPublisher =
+        new BatchingMessagePublisher<>(publisher, 100, 500L, CONFIRM_TIMEOUT, clock);
+
+    batchingPublisher.add("one");
+    batchingPublisher.add("two");
+
+    verify(publisher).publishToBrokerWithConfirms(List.of("one", "two"), CONFIRM_TIMEOUT);
+  }
+
+  @Test
+  void shouldPublishRemainingMessagesOnClose() {
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+    try (var batchingPublisher =
+        new BatchingMessagePublisher<>(publisher, 100, 60000L, CONFIRM_TIMEOUT, clock)) {
+      batchingPublisher.add("one");
+    }
+
+    verify(publisher).publishToBrokerWithConfirms(List.of("one"), CONFIRM_TIMEOUT);
+  }
+
+  @Test
+  void shouldReportUnconfirmedMessagesAndContinue() {
+    when(clock.instant()).thenReturn(Instant.EPOCH);
+    doThrow(new AmqpTimeoutException("not confirmed")).when(publisher)
+        .publishToBrokerWithConfirms(eq(List.of("one")), anyLong());
+    final var batchingPublisher =
+        new BatchingMessagePublisher<>(publisher, 1, 60000L, CONFIRM_TIMEOUT, clock);
+
+    batchingPublisher.add("one");
+    batchingPublisher.add("two");
+
+    assertThat(batchingPublisher.getFailedMessages(), is(List.of("one")));
+    assertThat(batchingPublisher.getConfirmedCount(), is(1));
+  }
+
+  @Test
+  void shouldNotPublishWhenNothingIsBuffered() {
+    final var batchingPublisher =
+        new BatchingMessagePublisher<>(publisher, 1, 60000L, CONFIRM_TIMEOUT, clock);
+
+    batchingPublisher.close();
+
+    verify(publisher, never()).publishToBrokerWithConfirms(any(), anyLong());
+    assertThat(batchingPublisher.getFailedMessages(), is(empty()));
+  }
+
+  @Test
+  void shouldRejectBatchSizeLessThanOne() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchingMessagePublisher<>(publisher, 0, 1000L, CONFIRM_TIMEOUT));
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.nhs.hee.tis.revalidation.dto.ConnectionLogDto;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
+import uk.nhs.hee.tis.revalidation.repository.ConnectionLogOutboxRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionLogOutboxRelayTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final long CONFIRM_TIMEOUT = 1000L;
+
+  @InjectMocks
+  ConnectionLogOutboxRelay connectionLogOutboxRelay;
+
+  @Mock
+  ConnectionLogOutboxRepository connectionLogOutboxRepository;
+
+  @Mock
+  ConnectionLogPublisher connectionLogPublisher;
+
+  private final ConnectionLogOutbox outbox1 = buildOutbox("1111111");
+  private final ConnectionLogOutbox outbox2 = buildOutbox("2222222");
+  private final ConnectionLogOutbox outbox3 = buildOutbox("3333333");
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(connectionLogOutboxRelay, "batchSize", BATCH_SIZE);
+    ReflectionTestUtils.setField(connectionLogOutboxRelay, "confirmTimeout", CONFIRM_TIMEOUT);
+  }
+
+  @Test
+  void shouldPublishAndRemoveEachBatchUntilOutboxIsDrained() {
+    when(connectionLogOutboxRepository.findAllByOrderByCreatedDateTimeAsc(
+        PageRequest.of(0, BATCH_SIZE)))
+        .thenReturn(List.of(outbox1, outbox2))
+        .thenReturn(List.of(outbox3));
+
+    connectionLogOutboxRelay.relayConnectionLogs();
+
+    verify(connectionLogPublisher).publishToBrokerWithConfirms(
+        List.of(outbox1.getConnectionLog(), outbox2.getConnectionLog()), CONFIRM_TIMEOUT);
+    verify(connectionLogOutboxRepository).deleteAll(List.of(outbox1, outbox2));
+    verify(connectionLogPublisher).publishToBrokerWithConfirms(
+        List.of(outbox3.getConnectionLog()), CONFIRM_TIMEOUT);
+    verify(connectionLogOutboxRepository).deleteAll(List.of(outbox3));
+  }
+
+  @Test
+  void shouldNotPublishWhenOutboxIsEmpty() {
+    when(connectionLogOutboxRepository.findAllByOrderByCreatedDateTimeAsc(any()))
+        .thenReturn(List.of());
+
+    connectionLogOutboxRelay.relayConnectionLogs();
+
+    verify(connectionLogPublisher, never()).publishToBrokerWithConfirms(any(), anyLong());
+  }
+
+  @Test
+  void shouldKeepBatchInOutboxWhenBrokerDoesNotConfirm() {
+    when(connectionLogOutboxRepository.findAllByOrderByCreatedDateTimeAsc(any()))
+        .thenReturn(List.of(outbox1));
+    doThrow(new AmqpTimeoutException("not confirmed")).when(connectionLogPublisher)
+        .publishToBrokerWithConfirms(any(), anyLong());
+
+    assertThrows(AmqpTimeoutException.class,
+        () -> connectionLogOutboxRelay.relayConnectionLogs());
+
+    verify(connectionLogOutboxRepository, never()).deleteAll(any());
+  }
+
+  private static ConnectionLogOutbox buildOutbox(String gmcId) {
+    return ConnectionLogOutbox.builder().id(gmcId)
+        .connectionLog(ConnectionLogDto.builder().gmcId(gmcId).newDesignatedBodyCode("1-AIIDR8")
+            .updatedBy("Updated by GMC").eventDateTime(LocalDateTime.now()).build())
+        .createdDateTime(LocalDateTime.now()).build();
+  }
+}
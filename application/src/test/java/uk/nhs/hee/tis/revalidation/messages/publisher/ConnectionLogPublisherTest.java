@@ -23,9 +23,12 @@ package uk.nhs.hee.tis.revalidation.messages.publisher;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -33,6 +36,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionLogDto;
@@ -46,6 +51,9 @@ class ConnectionLogPublisherTest {
   @Mock
   RabbitTemplate rabbitTemplate;
 
+  @Mock
+  RabbitOperations rabbitOperations;
+
   @Captor
   ArgumentCaptor<ConnectionLogDto> messageCaptor;
 
@@ -86,5 +94,16 @@ class ConnectionLogPublisherTest {
     assertThat(routingKeyNameCaptor.getValue(), is(routingKeyName));
     assertThat(exchangeNameCaptor.getValue(), is(exchangeName));
   }
-}
 
+  @Test
+  void shouldPublishBatchOnOneChannelAndWaitForConfirms() {
+    when(rabbitTemplate.invoke(any())).thenAnswer(
+        invocation -> invocation.<OperationsCallback<Object>>getArgument(0)
+            .doInRabbit(rabbitOperations));
+
+    connectionLogPublisher.publishToBrokerWithConfirms(List.of(connectionLogDto), 1000L);
+
+    verify(rabbitOperations).convertAndSend(null, null, connectionLogDto);
+    verify(rabbitOperations).waitForConfirmsOrDie(1000L);
+  }
+}
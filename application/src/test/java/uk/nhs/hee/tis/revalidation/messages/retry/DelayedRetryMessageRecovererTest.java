@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.retry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.EXCEPTION_MESSAGE_HEADER;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.ORIGINAL_QUEUE_HEADER;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.RETRY_ATTEMPT_HEADER;
+
+import com.rabbitmq.client.AMQP.BasicProperties;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Return;
+import com.rabbitmq.client.ReturnCallback;
+import com.rabbitmq.client.ReturnListener;
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+@ExtendWith(MockitoExtension.class)
+class DelayedRetryMessageRecovererTest {
+
+  private static final String ERROR_EXCHANGE = "ex.error";
+  private static final String PARKING_LOT = "reval.queue.parkinglot";
+  private static final String SOURCE_QUEUE = "reval.queue.connection";
+  private static final long CONFIRM_TIMEOUT = 1000L;
+
+  @Mock
+  RabbitTemplate rabbitTemplate;
+
+  @Mock
+  Channel channel;
+
+  @Mock
+  ReturnListener returnListener;
+
+  private DelayedRetryMessageRecoverer recoverer;
+
+  @BeforeEach
+  void setup() {
+    recoverer = new DelayedRetryMessageRecoverer(rabbitTemplate, ERROR_EXCHANGE, PARKING_LOT,
+        true, 3, 1000L, 4.0, 10000L, CONFIRM_TIMEOUT);
+    lenient().when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+        invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+    lenient().when(rabbitTemplate.execute(any())).thenAnswer(invocation -> {
+      try {
+        return invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel);
+      } catch (Exception e) {
+        throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+      }
+    });
+    lenient().when(channel.addReturnListener(any(ReturnCallback.class)))
+        .thenReturn(returnListener);
+  }
+
+  @Test
+  void shouldSendFirstFailureToRetryQueueWithInitialDelay() throws Exception {
+    final var message = buildMessage(null);
+
+    recoverer.recover(message, failure(new IllegalStateException("mongo down")));
+
+    verifyPublished(SOURCE_QUEUE + ".retry.1000");
+    final var properties = message.getMessageProperties();
+    assertThat(properties.getHeader(RETRY_ATTEMPT_HEADER), is(1));
+    assertThat(properties.getHeader(ORIGINAL_QUEUE_HEADER), is(SOURCE_QUEUE));
+    assertThat(properties.getHeader(EXCEPTION_MESSAGE_HEADER), is("mongo down"));
+    assertThat(properties.getExpiration(), is(nullValue()));
+    assertThat(properties.getDeliveryMode(), is(MessageDeliveryMode.PERSISTENT));
+  }
+
+  @Test
+  void shouldBackOffExponentiallyOnLaterAttempts() throws Exception {
+    recoverer.recover(buildMessage(1), failure(new IllegalStateException()));
+
+    verifyPublished(SOURCE_QUEUE + ".retry.4000");
+  }
+
+  @Test
+  void shouldCapDelayAtMaxInterval() {
+    assertThat(recoverer.getDelay(2), is(4000L));
+    assertThat(recoverer.getDelay(3), is(10000L));
+  }
+
+  @Test
+  void shouldNeedRetryLevelPerAttemptThatCanBeRetried() {
+    assertThat(recoverer.getRetryLevels(), is(2));
+  }
+
+  @Test
+  void shouldNeedRetryLevelPerDistinctDelayWhenRetriesAreNotLimited() {
+    recoverer = new DelayedRetryMessageRecoverer(rabbitTemplate, ERROR_EXCHANGE, PARKING_LOT,
+        false, 3, 1000L, 4.0, 10000L, CONFIRM_TIMEOUT);
+
+    assertThat(recoverer.getRetryLevels(), is(3));
+  }
+
+  @Test
+  void shouldParkMessageWhenAttemptsAreUsedUp() throws Exception {
+    final var message = buildMessage(2);
+
+    recoverer.recover(message, failure(new IllegalStateException()));
+
+    verifyPublished(PARKING_LOT);
+    final var properties = message.getMessageProperties();
+    assertThat(properties.getHeader(RETRY_ATTEMPT_HEADER), is(3));
+    assertThat(properties.getExpiration(), is(nullValue()));
+  }
+
+  @Test
+  void shouldParkUnconvertibleMessageWithoutRetrying() throws Exception {
+    recoverer.recover(buildMessage(null),
+        failure(new MessageConversionException("cannot convert")));
+
+    verifyPublished(PARKING_LOT);
+    verify(channel, never()).basicPublish(anyString(), startsWith(SOURCE_QUEUE + ".retry"),
+        anyBoolean(), any(BasicProperties.class), any(byte[].class));
+  }
+
+  @Test
+  void shouldKeepRetryingWhenRetriesAreNotLimited() throws Exception {
+    recoverer = new DelayedRetryMessageRecoverer(rabbitTemplate, ERROR_EXCHANGE, PARKING_LOT,
+        false, 3, 1000L, 4.0, 10000L, CONFIRM_TIMEOUT);
+
+    recoverer.recover(buildMessage(10), failure(new IllegalStateException()));
+
+    verifyPublished(SOURCE_QUEUE + ".retry.10000");
+  }
+
+  @Test
+  void shouldWaitForConfirmAfterPublishing() throws Exception {
+    recoverer.recover(buildMessage(null), failure(new IllegalStateException()));
+
+    final var inOrder = inOrder(channel);
+    inOrder.verify(channel).basicPublish(eq(ERROR_EXCHANGE), eq(SOURCE_QUEUE + ".retry.1000"),
+        eq(true), any(BasicProperties.class), any(byte[].class));
+    inOrder.verify(channel).waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+    inOrder.verify(channel).removeReturnListener(returnListener);
+  }
+
+  @Test
+  void shouldThrowWhenPublishIsNotConfirmed() throws Exception {
+    doThrow(new TimeoutException("no confirm")).when(channel)
+        .waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+    final var failure = failure(new IllegalStateException());
+    final var message = buildMessage(null);
+
+    assertThrows(AmqpException.class, () -> recoverer.recover(message, failure));
+
+    verify(channel).removeReturnListener(returnListener);
+  }
+
+  @Test
+  void shouldThrowWhenPublishIsNacked() throws Exception {
+    doThrow(new IOException("nack")).when(channel).waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+    final var failure = failure(new IllegalStateException());
+    final var message = buildMessage(1);
+
+    assertThrows(AmqpException.class, () -> recoverer.recover(message, failure));
+  }
+
+  @Test
+  void shouldThrowWhenPublishIsReturnedAsUnroutable() throws Exception {
+    final var routingKey = SOURCE_QUEUE + ".retry.1000";
+    when(channel.addReturnListener(any(ReturnCallback.class))).thenAnswer(invocation -> {
+      final ReturnCallback callback = invocation.getArgument(0);
+      doAnswer(publish -> {
+        callback.handle(new Return(312, "NO_ROUTE", ERROR_EXCHANGE, routingKey,
+            publish.getArgument(3), publish.getArgument(4)));
+        return null;
+      }).when(channel).basicPublish(eq(ERROR_EXCHANGE), eq(routingKey), eq(true),
+          any(BasicProperties.class), any(byte[].class));
+      return returnListener;
+    });
+    final var failure = failure(new IllegalStateException());
+    final var message = buildMessage(null);
+
+    final var exception = assertThrows(AmqpException.class,
+        () -> recoverer.recover(message, failure));
+
+    assertThat(exception.getMessage().contains("NO_ROUTE"), is(true));
+    verify(channel).removeReturnListener(returnListener);
+  }
+
+  private void verifyPublished(String routingKey) throws Exception {
+    verify(channel).basicPublish(eq(ERROR_EXCHANGE), eq(routingKey), eq(true),
+        any(BasicProperties.class), any(byte[].class));
+    verify(channel).waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+  }
+
+  private static Message buildMessage(Integer attempt) {
+    final var properties = new MessageProperties();
+    properties.setConsumerQueue(SOURCE_QUEUE);
+    properties.setDeliveryMode(null);
+    if (attempt != null) {
+      properties.setHeader(RETRY_ATTEMPT_HEADER, attempt);
+    }
+    return new Message("{}".getBytes(), properties);
+  }
+
+  private static Throwable failure(Throwable cause) {
+    return new ListenerExecutionFailedException("Listener threw exception", cause);
+  }
+}
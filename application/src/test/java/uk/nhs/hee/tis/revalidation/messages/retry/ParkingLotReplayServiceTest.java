@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.messages.retry;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.ORIGINAL_QUEUE_HEADER;
+import static uk.nhs.hee.tis.revalidation.messages.retry.DelayedRetryMessageRecoverer.RETRY_ATTEMPT_HEADER;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import java.util.HashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotReplayServiceTest {
+
+  private static final String PARKING_LOT = "reval.queue.parkinglot";
+  private static final long CONFIRM_TIMEOUT = 1000L;
+
+  @Mock
+  RabbitTemplate rabbitTemplate;
+
+  @Mock
+  Channel channel;
+
+  @Captor
+  ArgumentCaptor<Message> messageCaptor;
+
+  private ParkingLotReplayService parkingLotReplayService;
+
+  @BeforeEach
+  void setup() {
+    parkingLotReplayService = new ParkingLotReplayService(rabbitTemplate, PARKING_LOT,
+        CONFIRM_TIMEOUT);
+    when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+        invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(rabbitTemplate));
+    when(rabbitTemplate.execute(any())).thenAnswer(invocation ->
+        invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+  }
+
+  @Test
+  void shouldReplayParkedMessagesToOriginalQueueWithAttemptsReset() throws Exception {
+    when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1, "queue.one"),
+        parked(2, "queue.two"), null);
+
+    final int replayed = parkingLotReplayService.replay(10);
+
+    assertThat(replayed, is(2));
+    verify(rabbitTemplate).send(eq(""), eq("queue.one"), messageCaptor.capture());
+    verify(rabbitTemplate).send(eq(""), eq("queue.two"), any(Message.class));
+    assertThat(messageCaptor.getValue().getMessageProperties().getHeader(RETRY_ATTEMPT_HEADER),
+        is(nullValue()));
+    verify(channel).basicAck(1, false);
+    verify(channel).basicAck(2, false);
+  }
+
+  @Test
+  void shouldAcknowledgeParkedMessageOnlyOnceReplayIsConfirmed() throws Exception {
+    when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1, "queue.one"), null);
+
+    parkingLotReplayService.replay(10);
+
+    final var inOrder = inOrder(rabbitTemplate, channel);
+    inOrder.verify(rabbitTemplate).send(eq(""), eq("queue.one"), any(Message.class));
+    inOrder.verify(rabbitTemplate).waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+    inOrder.verify(channel).basicAck(1, false);
+  }
+
+  @Test
+  void shouldLeaveParkedMessageWhenReplayIsNotConfirmed() throws Exception {
+    when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1, "queue.one"));
+    doThrow(new AmqpTimeoutException("no confirm")).when(rabbitTemplate)
+        .waitForConfirmsOrDie(CONFIRM_TIMEOUT);
+
+    assertThrows(AmqpTimeoutException.class, () -> parkingLotReplayService.replay(10));
+
+    verify(channel).basicNack(1, false, true);
+    verify(channel, never()).basicAck(anyLong(), anyBoolean());
+  }
+
+  @Test
+  void shouldLeaveMessageWithoutOriginalQueueParked() throws Exception {
+    when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1, null),
+        parked(2, "queue.two"), null);
+
+    final int replayed = parkingLotReplayService.replay(10);
+
+    assertThat(replayed, is(1));
+    verify(rabbitTemplate, never()).send(anyString(), eq(null), any(Message.class));
+    verify(channel).basicNack(1, false, true);
+    verify(channel).basicAck(2, false);
+  }
+
+  @Test
+  void shouldStopAtLimit() throws Exception {
+    when(channel.basicGet(PARKING_LOT, false)).thenReturn(parked(1, "queue.one"));
+
+    final int replayed = parkingLotReplayService.replay(3);
+
+    assertThat(replayed, is(3));
+    verify(channel, times(3)).basicGet(PARKING_LOT, false);
+  }
+
+  @Test
+  void shouldReplayNothingWhenParkingLotIsEmpty() throws Exception {
+    final int replayed = parkingLotReplayService.replay(10);
+
+    assertThat(replayed, is(0));
+    verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+  }
+
+  private static GetResponse parked(long deliveryTag, String originalQueue) {
+    final var headers = new HashMap<String, Object>();
+    if (originalQueue != null) {
+      headers.put(ORIGINAL_QUEUE_HEADER, originalQueue);
+    }
+    headers.put(RETRY_ATTEMPT_HEADER, 5);
+    final var properties = new AMQP.BasicProperties.Builder().headers(headers).build();
+    return new GetResponse(new Envelope(deliveryTag, false, "", PARKING_LOT), properties,
+        "{}".getBytes(), 0);
+  }
+}
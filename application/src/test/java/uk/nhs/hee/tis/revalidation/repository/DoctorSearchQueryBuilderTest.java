@@ -0,0 +1,165 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.repository;
+
+import static org.elasticsearch.index.query.QueryBuilders.matchPhraseQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsLookupQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+import static org.elasticsearch.search.sort.SortBuilders.fieldSort;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.Map;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MultiMatchQueryBuilder;
+import org.elasticsearch.indices.TermsLookup;
+import org.elasticsearch.search.sort.SortOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
+
+class DoctorSearchQueryBuilderTest {
+
+  private static final List<String> DBCS = List.of("1-AIIDWQ", "1-AIIDHJ");
+
+  @Test
+  void shouldOnlyFilterOnDesignatedBodyAndGmcWhenNoFiltersSet() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS)
+        .programmeName("").gmcStatus("").tisStatus("").admin("").build();
+
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto).buildQuery();
+
+    assertThat(query.filter(), containsInAnyOrder(termsQuery("designatedBody", DBCS),
+        termQuery("existsInGmc", true)));
+    assertThat(query.mustNot(), empty());
+  }
+
+  @Test
+  void shouldAddClauseForEachFilterSet() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("jo smi").dbcs(DBCS)
+        .programmeName("General Practice").gmcStatus("Approved").tisStatus("SUBMITTED_TO_GMC")
+        .admin("admin@nhs.net").build();
+
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto).buildQuery();
+
+    assertThat(query.filter(), hasSize(7));
+    assertThat(query.filter(), hasItem(instanceOf(MultiMatchQueryBuilder.class)));
+    assertThat(query.filter(), hasItem(matchPhraseQuery("programmeName", "General Practice")));
+    assertThat(query.filter(), hasItem(termQuery("gmcStatus", "Approved")));
+    assertThat(query.filter(), hasItem(termQuery("tisStatus", "SUBMITTED_TO_GMC")));
+    assertThat(query.filter(), hasItem(matchPhraseQuery("admin", "admin@nhs.net")));
+  }
+
+  @Test
+  void shouldExcludeHiddenGmcIdsWhenNotUnderNotice() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS).build();
+
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto)
+        .excludingGmcIds(List.of("1234567", "7654321")).buildQuery();
+
+    assertThat(query.mustNot(), contains(
+        termsQuery("gmcReferenceNumber.sort", List.of("1234567", "7654321"))));
+    assertThat(query.filter(), not(hasItem(termQuery("underNotice", "YES"))));
+  }
+
+  @Test
+  void shouldExcludeHiddenGmcIdsFromLookupInsteadOfListingThem() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS).build();
+    final var lookup = new TermsLookup("hidden-gmc-ids", "digest", "gmcIds");
+
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto)
+        .excludingGmcIds(List.of("1234567")).excludingGmcIdsIn(lookup).buildQuery();
+
+    assertThat(query.mustNot(), contains(termsLookupQuery("gmcReferenceNumber.sort", lookup)));
+  }
+
+  @Test
+  void shouldFilterUnderNoticeInsteadOfExcludingHiddenGmcIds() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS)
+        .underNotice(true).build();
+
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto)
+        .excludingGmcIds(List.of("1234567"))
+        .excludingGmcIdsIn(new TermsLookup("hidden-gmc-ids", "digest", "gmcIds")).buildQuery();
+
+    assertThat(query.filter(), hasItem(termQuery("underNotice", "YES")));
+    assertThat(query.mustNot(), empty());
+  }
+
+  @Test
+  void shouldBuildSearchForPageCountingAllHits() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS).build();
+    final var pageable = PageRequest.of(3, 20);
+
+    final var searchQuery = DoctorSearchQueryBuilder.forRequest(requestDto).excludingGmcIds(null)
+        .build(pageable);
+
+    assertThat(searchQuery.getPageable(), is(pageable));
+    assertThat(searchQuery.getTrackTotalHits(), is(true));
+    assertThat(((BoolQueryBuilder) searchQuery.getQuery()).mustNot(),
+        empty());
+  }
+
+  @Test
+  void shouldSortWithUnmappedTypeSoOlderIndicesDoNotFail() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").dbcs(DBCS).build();
+    final var pageable = PageRequest.of(1, 20, Sort.by(Order.desc("doctorFirstName.sort"),
+        Order.asc("doctorLastName.sort").nullsLast()));
+
+    final var searchQuery = DoctorSearchQueryBuilder.forRequest(requestDto).build(pageable);
+
+    assertThat(searchQuery.getPageable(), is(PageRequest.of(1, 20)));
+    assertThat(searchQuery.getElasticsearchSorts(), contains(
+        fieldSort("doctorFirstName.sort").unmappedType("keyword").order(SortOrder.DESC),
+        fieldSort("doctorLastName.sort").unmappedType("keyword").order(SortOrder.ASC)
+            .missing("_last")));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldFilterOnKeywordFieldsNormalizedToLowercase() {
+    final var mapping = Document.parse(new MappingBuilder(new MappingElasticsearchConverter(
+        new SimpleElasticsearchMappingContext())).buildPropertyMapping(RecommendationView.class));
+    final var properties = (Map<String, Map<String, Object>>) mapping.get("properties");
+
+    for (final var field : List.of("designatedBody", "gmcStatus", "tisStatus", "underNotice")) {
+      assertThat(field, properties.get(field).get("type"), is("keyword"));
+      assertThat(field, properties.get(field).get("normalizer"), is("lowercase_normalizer"));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.repository;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static uk.nhs.hee.tis.revalidation.repository.RevisionStampCallback.REVISION;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+
+class RevisionStampCallbackTest {
+
+  private final RevisionStampCallback callback = new RevisionStampCallback();
+
+  @Test
+  void shouldStampNewRevisionOnEachDoctorSave() {
+    final var doctor = new DoctorsForDB();
+    final var document = new Document();
+
+    assertThat(callback.onBeforeSave(doctor, document, "doctorsForDB"), sameInstance(doctor));
+    final var firstRevision = document.get(REVISION);
+    callback.onBeforeSave(doctor, document, "doctorsForDB");
+
+    assertThat(firstRevision, instanceOf(ObjectId.class));
+    assertThat(document.get(REVISION), not(firstRevision));
+  }
+
+  @Test
+  void shouldStampRecommendation() {
+    final var document = new Document();
+
+    callback.onBeforeSave(new Recommendation(), document, "recommendation");
+
+    assertThat(document.containsKey(REVISION), is(true));
+  }
+
+  @Test
+  void shouldNotStampOtherCollections() {
+    final var document = new Document();
+
+    callback.onBeforeSave(new ConnectionLogOutbox(), document, "connectionLogOutbox");
+
+    assertThat(document.containsKey(REVISION), is(false));
+  }
+}
@@ -25,10 +25,15 @@ import static java.util.Collections.emptyList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -38,6 +43,8 @@ import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.NO;
 import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.YES;
 
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -45,6 +52,8 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,6 +68,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
 import org.springframework.test.util.ReflectionTestUtils;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionLogDto;
 import uk.nhs.hee.tis.revalidation.dto.ConnectionMessageDto;
@@ -67,6 +80,7 @@ import uk.nhs.hee.tis.revalidation.dto.TraineeAdminDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeInfoDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
 import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
 import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
@@ -75,15 +89,17 @@ import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
 import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
 import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapperImpl;
 import uk.nhs.hee.tis.revalidation.mapper.RecommendationViewMapperImpl;
-import uk.nhs.hee.tis.revalidation.messages.publisher.ConnectionLogPublisher;
+import uk.nhs.hee.tis.revalidation.repository.ConnectionLogOutboxRepository;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
-import uk.nhs.hee.tis.revalidation.repository.RecommendationElasticSearchRepository;
+import uk.nhs.hee.tis.revalidation.util.SearchAfterCursorUtil;
 
 @ExtendWith(MockitoExtension.class)
 class DoctorsForDBServiceTest {
 
   private final Faker faker = new Faker();
 
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   private DoctorsForDBService doctorsForDBService;
 
   @Mock
@@ -96,16 +112,16 @@ class DoctorsForDBServiceTest {
   private RecommendationElasticSearchService recommendationElasticSearchService;
 
   @Mock
-  private RecommendationElasticSearchRepository recommendationElasticSearchRepository;
+  private ConnectionLogOutboxRepository connectionLogOutboxRepository;
 
   @Mock
-  private ConnectionLogPublisher connectionLogPublisher;
+  private TraineeSummaryCache traineeSummaryCache;
 
   @Captor
   ArgumentCaptor<DoctorsForDB> doctorCaptor;
 
   @Captor
-  ArgumentCaptor<ConnectionLogDto> connectionLogDtoCaptor;
+  ArgumentCaptor<ConnectionLogOutbox> connectionLogOutboxCaptor;
 
   @Mock
   private Page<RecommendationView> page;
@@ -130,9 +146,12 @@ class DoctorsForDBServiceTest {
   @BeforeEach
   void setup() {
     doctorsForDBService = new DoctorsForDBService(repository, recommendationService,
-        recommendationElasticSearchRepository, recommendationElasticSearchService,
-        new RecommendationViewMapperImpl(), new DoctorsForDbMapperImpl(), connectionLogPublisher);
+        recommendationElasticSearchService,
+        new RecommendationViewMapperImpl(), new DoctorsForDbMapperImpl(), connectionLogOutboxRepository,
+        traineeSummaryCache, meterRegistry);
     ReflectionTestUtils.setField(doctorsForDBService, "pageSize", 20);
+    lenient().when(traineeSummaryCache.get(any(), any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<TraineeSummaryDto>>getArgument(2).get());
     setupData();
   }
 
@@ -141,17 +160,14 @@ class DoctorsForDBServiceTest {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("", formattedDbcs, List.of(), programmeName,
-        outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), eq(List.of()),
+        eq(pageableAndSortable))).thenReturn(page);
 
     when(page.get()).thenReturn(Stream.of(rv1, rv2, rv3, rv4, rv5));
     when(page.getTotalPages()).thenReturn(1);
@@ -186,21 +202,58 @@ class DoctorsForDBServiceTest {
     }
   }
 
+  @Test
+  void shouldReturnFirstPageAndNextCursorInCursorMode() {
+    ReflectionTestUtils.setField(doctorsForDBService, "pageSize", 2);
+    final var expectedSort = by(new Order(Sort.Direction.DESC, "submissionDate"),
+        new Order(Sort.Direction.ASC, "doctorLastName.sort"),
+        new Order(Sort.Direction.ASC, "gmcReferenceNumber.sort"));
+    final var requestDTO = TraineeRequestDto.builder().sortOrder("desc")
+        .sortColumn("submissionDate").searchQuery("").dbcs(List.of(designatedBody1))
+        .cursor("").build();
+    when(recommendationElasticSearchService.searchAfter(requestDTO, List.of(), expectedSort,
+        List.of(), 2)).thenReturn(buildSearchHits(5L, rv1, rv2));
+
+    final var result = doctorsForDBService.getAllTraineeDoctorDetails(requestDTO, List.of());
+
+    assertThat(result.getTraineeInfo(), hasSize(2));
+    assertThat(result.getTraineeInfo().get(1).getGmcReferenceNumber(), is(gmcRef2));
+    assertThat(result.getTotalResults(), is(5L));
+    assertThat(result.getTotalPages(), is(3L));
+    assertThat(SearchAfterCursorUtil.decode(result.getNextCursor()),
+        is(List.of(lname2, gmcRef2)));
+  }
+
+  @Test
+  void shouldContinueFromCursorAndEndWhenPageIsNotFull() {
+    ReflectionTestUtils.setField(doctorsForDBService, "pageSize", 2);
+    final List<Object> searchAfter = List.of(lname2, gmcRef2);
+    final var requestDTO = TraineeRequestDto.builder().sortOrder("asc")
+        .sortColumn("gmcReferenceNumber").searchQuery("").dbcs(List.of(designatedBody1))
+        .cursor(SearchAfterCursorUtil.encode(searchAfter)).build();
+    final var expectedSort = by(new Order(Sort.Direction.ASC, "gmcReferenceNumber.sort"),
+        new Order(Sort.Direction.ASC, "doctorLastName.sort"));
+    when(recommendationElasticSearchService.searchAfter(requestDTO, List.of(), expectedSort,
+        searchAfter, 2)).thenReturn(buildSearchHits(3L, rv3));
+
+    final var result = doctorsForDBService.getAllTraineeDoctorDetails(requestDTO, List.of());
+
+    assertThat(result.getTraineeInfo(), hasSize(1));
+    assertThat(result.getNextCursor(), nullValue());
+  }
+
   @Test
   void shouldReturnListOfDoctorsAttachedToASpecificDbc() {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("", formattedDbcs, List.of(), programmeName,
-        outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), eq(List.of()),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of(rv1));
     when(page.getTotalPages()).thenReturn(1);
     when(repository.countByUnderNoticeIn(YES)).thenReturn(2L);
@@ -232,16 +285,13 @@ class DoctorsForDBServiceTest {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findByUnderNotice("", formattedDbcs, programmeName,
-        outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), eq(List.of()),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of(rv1, rv2));
     when(page.getTotalPages()).thenReturn(1);
     when(repository.countByUnderNoticeIn(YES)).thenReturn(2L);
@@ -278,17 +328,14 @@ class DoctorsForDBServiceTest {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("", formattedDbcs, List.of(), programmeName,
-        outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), eq(List.of()),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of());
     when(repository.countByUnderNoticeIn(YES)).thenReturn(0L);
     final var requestDTO = TraineeRequestDto.builder().sortOrder("desc")
@@ -308,17 +355,14 @@ class DoctorsForDBServiceTest {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("query", formattedDbcs, List.of(),
-        programmeName, outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), eq(List.of()),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of(rv1, rv4));
     when(page.getTotalPages()).thenReturn(1);
     when(page.getTotalElements()).thenReturn(2L);
@@ -357,17 +401,14 @@ class DoctorsForDBServiceTest {
     List<Order> orders = new ArrayList<>();
     Order customOrder = new Order(Sort.Direction.DESC, "submissionDate");
     orders.add(customOrder);
-    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order lastNameOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(lastNameOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("query", formattedDbcs, List.of(),
-        programmeName, outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), isNull(),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of(rv1, rv4));
     when(page.getTotalPages()).thenReturn(1);
     when(page.getTotalElements()).thenReturn(2L);
@@ -404,17 +445,14 @@ class DoctorsForDBServiceTest {
   @Test
   void shouldNotApplySecondarySortIfSortByLastName() {
     List<Order> orders = new ArrayList<>();
-    Order customOrder = new Order(Sort.Direction.ASC, "doctorLastName");
+    Order customOrder = new Order(Sort.Direction.ASC, "doctorLastName.sort");
     orders.add(customOrder);
 
     final Pageable pageableAndSortable = PageRequest.of(1, 20, by(orders));
     List<String> dbcs = List.of(designatedBody1, designatedBody2, designatedBody3, designatedBody4,
         designatedBody5);
-    String formattedDbcs = String.join(" ", dbcs);
-    when(recommendationElasticSearchRepository.findAll("query", formattedDbcs, List.of(),
-        programmeName, outcome1, status1.name(), admin1, pageableAndSortable)).thenReturn(page);
-    when(recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs)).thenReturn(formattedDbcs);
+    when(recommendationElasticSearchService.searchPage(any(TraineeRequestDto.class), isNull(),
+        eq(pageableAndSortable))).thenReturn(page);
     when(page.get()).thenReturn(Stream.of(rv1, rv4));
     when(page.getTotalPages()).thenReturn(1);
     when(page.getTotalElements()).thenReturn(2L);
@@ -466,6 +504,8 @@ class DoctorsForDBServiceTest {
     when(repository.findById(gmcRef5)).thenReturn(Optional.of(doc5));
     doctorsForDBService.updateTraineeAdmin(List.of(ta1, ta2, ta3, ta4, ta5));
     verify(repository, times(5)).save(any());
+    verify(traineeSummaryCache).evictDesignatedBodies(Set.of(designatedBody1, designatedBody2,
+        designatedBody3, designatedBody4, designatedBody5));
   }
 
   @Test
@@ -484,6 +524,7 @@ class DoctorsForDBServiceTest {
     assertThat(doctor.getSubmissionDate(), is(subDate2));
     assertThat(doctor.getDateAdded(), is(addedDate));
     assertThat(doctor.getGmcLastUpdatedDateTime(), is(gmcLastUpdatedDateTime));
+    verify(traineeSummaryCache).evictDesignatedBodies(List.of(designatedBody1, designatedBody2));
   }
 
   @Test
@@ -556,6 +597,25 @@ class DoctorsForDBServiceTest {
     assertThat(savedDoctor.getExistsInGmc(), is(false));
     assertNull(savedDoctor.getDesignatedBodyCode());
     assertThat(savedDoctor.getGmcLastUpdatedDateTime(), is(requestDateTime));
+    assertThat(meterRegistry.get(DoctorsForDBService.STALE_DOCTORS_METRIC)
+        .tag("designatedBody", designatedBody1).timer().count(), is(1L));
+    assertThat(meterRegistry.get(DoctorsForDBService.STALE_DOCTORS_METRIC + ".found")
+        .tag("designatedBody", designatedBody1).summary().totalAmount(), is(1.0));
+  }
+
+  @Test
+  void shouldTimeStaleDoctorsWhenDisconnectingFails() {
+    LocalDateTime requestDateTime = doc1.getGmcLastUpdatedDateTime().plusDays(1);
+    final var event = new DoctorsForDbCollectedEvent(designatedBody1, requestDateTime,
+        emptyList());
+    when(repository.findByDesignatedBodyCodeAndGmcLastUpdatedDateTimeBefore(designatedBody1,
+        requestDateTime)).thenThrow(new IllegalStateException("unavailable"));
+
+    assertThrows(IllegalStateException.class,
+        () -> doctorsForDBService.handleDoctorsForDbCollectedEvent(event));
+
+    assertThat(meterRegistry.get(DoctorsForDBService.STALE_DOCTORS_METRIC)
+        .tag("designatedBody", designatedBody1).timer().count(), is(1L));
   }
 
   @Test
@@ -624,6 +684,8 @@ class DoctorsForDBServiceTest {
     verify(repository).save(doctorCaptor.capture());
     DoctorsForDB doctorsForDb = doctorCaptor.getValue();
     assertEquals(doctorsForDb.getGmcLastUpdatedDateTime(), gmcLastUpdatedDateTime);
+    assertThat(meterRegistry.get(DoctorsForDBService.TRAINEE_UPDATE_METRIC)
+        .tag("designatedBody", docDto1.getDesignatedBodyCode()).timer().count(), is(1L));
   }
 
   @Test
@@ -668,10 +730,10 @@ class DoctorsForDBServiceTest {
 
     doctorsForDBService.handleDoctorsForDbCollectedEvent(newConnectionEvent);
 
-    verify(connectionLogPublisher, times(1))
-        .publishToBroker(connectionLogDtoCaptor.capture());
+    verify(connectionLogOutboxRepository, times(1))
+        .save(connectionLogOutboxCaptor.capture());
 
-    ConnectionLogDto result = connectionLogDtoCaptor.getValue();
+    ConnectionLogDto result = connectionLogOutboxCaptor.getValue().getConnectionLog();
 
     assertNull(result.getPreviousDesignatedBodyCode());
     assertThat(result.getNewDesignatedBodyCode(), is(designatedBody1));
@@ -695,10 +757,10 @@ class DoctorsForDBServiceTest {
 
     doctorsForDBService.handleDoctorsForDbCollectedEvent(newConnectionEvent);
 
-    verify(connectionLogPublisher, times(1))
-        .publishToBroker(connectionLogDtoCaptor.capture());
+    verify(connectionLogOutboxRepository, times(1))
+        .save(connectionLogOutboxCaptor.capture());
 
-    ConnectionLogDto result = connectionLogDtoCaptor.getValue();
+    ConnectionLogDto result = connectionLogOutboxCaptor.getValue().getConnectionLog();
 
     assertThat(result.getPreviousDesignatedBodyCode(), is(designatedBody1));
     assertNull(result.getNewDesignatedBodyCode());
@@ -707,6 +769,36 @@ class DoctorsForDBServiceTest {
         cutoffDate.format(DateTimeFormatter.ofPattern(CONNECTION_LOG_DATETIME_FORMAT)))));
   }
 
+  @Test
+  void shouldKeyOutboxEntryOnDisconnection() {
+    LocalDateTime cutoffDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+    Supplier<DoctorsForDB> staleDoctor = () -> new DoctorsForDB(gmcRef1, fname1, lname1,
+        subDate1, LocalDate.now().minusDays(5), un1, "sanction", status1, LocalDate.now(),
+        cutoffDate.minusDays(1), designatedBody1, admin1, true);
+
+    DoctorsForDbCollectedEvent event = new DoctorsForDbCollectedEvent(designatedBody1,
+        cutoffDate, List.of());
+
+    when(repository.findByDesignatedBodyCodeAndGmcLastUpdatedDateTimeBefore(designatedBody1,
+        cutoffDate)).thenReturn(List.of(staleDoctor.get()));
+    // the redelivered event finds the doctor as it was, as if the first save never happened
+    when(repository.findById(gmcRef1)).thenAnswer(invocation -> Optional.of(staleDoctor.get()));
+
+    doctorsForDBService.handleDoctorsForDbCollectedEvent(event);
+    doctorsForDBService.handleDoctorsForDbCollectedEvent(event);
+
+    verify(connectionLogOutboxRepository, times(2)).save(connectionLogOutboxCaptor.capture());
+    ConnectionLogOutbox outbox = connectionLogOutboxCaptor.getAllValues().get(0);
+    ConnectionLogOutbox redelivered = connectionLogOutboxCaptor.getAllValues().get(1);
+    assertThat(outbox.getConnectionLog().getEventDateTime(), notNullValue());
+    assertThat(outbox.getId(), is(gmcRef1 + "_" + outbox.getConnectionLog().getEventDateTime()
+        + "_" + designatedBody1 + "_unconnected"));
+    assertThat(redelivered.getId(), is(outbox.getId()));
+    assertThat(outbox.getConnectionLog().getNewDesignatedBodyCode(), nullValue());
+    assertThat(outbox.getCreatedDateTime(), notNullValue());
+  }
+
   @Test
   void shouldPublishConnectionLogIfDesignatedBodyChangesGmcSync() {
     var dateFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy");
@@ -735,10 +827,11 @@ class DoctorsForDBServiceTest {
 
     doctorsForDBService.handleDoctorsForDbCollectedEvent(newConnectionEvent);
 
-    verify(connectionLogPublisher, times(1))
-        .publishToBroker(connectionLogDtoCaptor.capture());
+    verify(connectionLogOutboxRepository, times(1))
+        .save(connectionLogOutboxCaptor.capture());
+    verify(traineeSummaryCache).evictDesignatedBodies(List.of(designatedBody2));
 
-    ConnectionLogDto result = connectionLogDtoCaptor.getValue();
+    ConnectionLogDto result = connectionLogOutboxCaptor.getValue().getConnectionLog();
 
     assertThat(result.getNewDesignatedBodyCode(), is(designatedBody2));
     assertThat(result.getPreviousDesignatedBodyCode(), is(designatedBody1));
@@ -775,8 +868,8 @@ class DoctorsForDBServiceTest {
 
     doctorsForDBService.handleDoctorsForDbCollectedEvent(newConnectionEvent);
 
-    verify(connectionLogPublisher, never())
-        .publishToBroker(any());
+    verify(connectionLogOutboxRepository, never())
+        .save(any());
   }
 
   private static void assertSubsetOfConvertedFields(TraineeInfoDto actual, DoctorsForDB expected) {
@@ -894,4 +987,13 @@ class DoctorsForDBServiceTest {
 
     programmeName = Faker.instance().funnyName().name();
   }
+
+  private SearchHits<RecommendationView> buildSearchHits(long totalHits,
+      RecommendationView... views) {
+    final List<SearchHit<RecommendationView>> hits = Stream.of(views)
+        .map(view -> new SearchHit<>("recommendations", view.getId(), null, 1.0f,
+            new Object[]{view.getDoctorLastName(), view.getGmcReferenceNumber()}, null, view))
+        .toList();
+    return new SearchHitsImpl<>(totalHits, TotalHitsRelation.EQUAL_TO, 1.0f, null, hits, null);
+  }
 }
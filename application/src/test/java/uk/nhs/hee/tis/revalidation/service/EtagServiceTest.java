@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class EtagServiceTest {
+
+  private static final String DOCTORS = "doctorsForDB";
+  private static final String RECOMMENDATIONS = "recommendation";
+
+  @InjectMocks
+  private EtagService etagService;
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Captor
+  private ArgumentCaptor<Query> queryCaptor;
+
+  private Document doctor1;
+  private Document doctor2;
+
+  @BeforeEach
+  void setUp() {
+    doctor1 = new Document(Map.of("_id", "1111111", "revision", new ObjectId()));
+    doctor2 = new Document(Map.of("_id", "2222222", "revision", new ObjectId()));
+  }
+
+  @Test
+  void shouldOnlyLookUpRevisionsOfRequestedDoctors() {
+    when(mongoTemplate.find(queryCaptor.capture(), eq(Document.class), eq(DOCTORS)))
+        .thenReturn(List.of(doctor1));
+
+    final var etag = etagService.getDoctorsEtag(List.of("1111111"));
+
+    assertThat(etag, matchesPattern("W/\"[0-9a-f]{32}\""));
+    final var query = queryCaptor.getValue();
+    assertThat(query.getQueryObject(),
+        hasEntry("_id", new Document("$in", List.of("1111111"))));
+    assertThat(query.getFieldsObject(), is(new Document("revision", 1)));
+  }
+
+  @Test
+  void shouldReturnSameEtagRegardlessOfOrder() {
+    when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(DOCTORS)))
+        .thenReturn(List.of(doctor1, doctor2))
+        .thenReturn(List.of(doctor2, doctor1));
+
+    assertThat(etagService.getDoctorsEtag(List.of("1111111", "2222222")),
+        is(etagService.getDoctorsEtag(List.of("2222222", "1111111"))));
+  }
+
+  @Test
+  void shouldChangeEtagWhenDoctorIsSaved() {
+    final var resaved = new Document(Map.of("_id", "1111111", "revision", new ObjectId()));
+    when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(DOCTORS)))
+        .thenReturn(List.of(doctor1))
+        .thenReturn(List.of(resaved));
+
+    assertThat(etagService.getDoctorsEtag(List.of("1111111")),
+        not(etagService.getDoctorsEtag(List.of("1111111"))));
+  }
+
+  @Test
+  void shouldChangeRecommendationsEtagWhenRecommendationIsAdded() {
+    final var recommendation = new Document(Map.of("_id", "abc", "revision", new ObjectId()));
+    when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(DOCTORS)))
+        .thenReturn(List.of(doctor1));
+    when(mongoTemplate.find(queryCaptor.capture(), eq(Document.class), eq(RECOMMENDATIONS)))
+        .thenReturn(List.of())
+        .thenReturn(List.of(recommendation));
+
+    assertThat(etagService.getRecommendationsEtag(List.of("1111111")),
+        not(etagService.getRecommendationsEtag(List.of("1111111"))));
+    assertThat(queryCaptor.getValue().getQueryObject(),
+        hasEntry("gmcNumber", new Document("$in", List.of("1111111"))));
+  }
+
+  @Test
+  void shouldNotShareEtagBetweenDifferentMissingDoctors() {
+    when(mongoTemplate.find(any(Query.class), eq(Document.class), eq(DOCTORS)))
+        .thenReturn(List.of());
+
+    assertThat(etagService.getDoctorsEtag(List.of("1111111")),
+        not(etagService.getDoctorsEtag(List.of("2222222"))));
+    verify(mongoTemplate, times(2))
+        .find(any(Query.class), eq(Document.class), eq(DOCTORS));
+  }
+}
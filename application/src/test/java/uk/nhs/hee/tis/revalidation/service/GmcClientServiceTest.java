@@ -39,11 +39,14 @@ import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROV
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
 
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.ws.client.core.WebServiceTemplate;
@@ -69,6 +72,9 @@ class GmcClientServiceTest {
   @Mock
   private CheckRecommendationStatusResponseCT statusResponseCT;
 
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
 
   private final String gmcId = faker.number().digits(8);
   private final String recommendationId = faker.number().digits(10); //internal recommendationId
@@ -113,6 +119,23 @@ class GmcClientServiceTest {
 
     assertNotNull(checkRecommendationStatusResponse);
     assertThat(checkRecommendationStatusResponse, is(APPROVED));
+    assertThat(meterRegistry.get(GmcClientService.GMC_REQUEST_METRIC)
+        .tags("action", "CheckRecommendationStatus", "returnCode", SUCCESS.getCode()).timer()
+        .count(), is(1L));
+  }
+
+  @Test
+  void shouldTimeFailedGmcCallsAsErrors() {
+    when(webServiceTemplate
+        .marshalSendAndReceive(any(String.class), any(CheckRecommendationStatus.class)
+            , any(SoapActionCallback.class))).thenThrow(new RuntimeException("timeout"));
+
+    gmcClientService.checkRecommendationStatus(gmcId, gmcRecommendationId, recommendationId,
+        designatedBodyCode);
+
+    assertThat(meterRegistry.get(GmcClientService.GMC_REQUEST_METRIC)
+        .tags("action", "CheckRecommendationStatus",
+            "returnCode", GmcClientService.FAILED_RETURN_CODE).timer().count(), is(1L));
   }
 
   @Test
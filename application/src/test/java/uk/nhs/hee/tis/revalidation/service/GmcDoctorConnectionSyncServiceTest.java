@@ -30,6 +30,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +42,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.data.domain.Page;
@@ -76,6 +79,9 @@ class GmcDoctorConnectionSyncServiceTest {
   @Mock
   private RecommendationService recommendationService;
 
+  @Spy
+  private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @Captor
   ArgumentCaptor<IndexSyncMessage> indexSyncMessageArgumentCaptor;
 
@@ -126,6 +132,10 @@ class GmcDoctorConnectionSyncServiceTest {
     var results = indexSyncMessageArgumentCaptor.getAllValues();
     assertThat(results.get(0), is(message1));
     assertThat(results.get(1), is(endMessage));
+    final var batchSizes = meterRegistry.get(GmcDoctorConnectionSyncService.BATCH_SIZE_METRIC)
+        .summary();
+    assertThat(batchSizes.count(), is(1L));
+    assertThat(batchSizes.totalAmount(), is((double) message1.getPayload().size()));
   }
 
   @Test
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.service.HiddenGmcIdsLookupService.GMC_IDS_FIELD;
+import static uk.nhs.hee.tis.revalidation.service.HiddenGmcIdsLookupService.HIDDEN_GMC_IDS_INDEX;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+@ExtendWith(MockitoExtension.class)
+class HiddenGmcIdsLookupServiceTest {
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Mock
+  private IndexOperations indexOperations;
+
+  @Captor
+  private ArgumentCaptor<IndexQuery> indexQueryCaptor;
+
+  @Captor
+  private ArgumentCaptor<Query> queryCaptor;
+
+  private final Clock clock = Clock.fixed(Instant.parse("2026-10-19T10:15:30Z"), ZoneOffset.UTC);
+
+  private HiddenGmcIdsLookupService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new HiddenGmcIdsLookupService(elasticsearchOperations, 3, clock);
+  }
+
+  @Test
+  void shouldListHiddenIdsInQueryBelowThreshold() {
+    assertThat(service.toTermsLookup(List.of("1111111", "2222222")).isPresent(), is(false));
+    assertThat(service.toTermsLookup(null).isPresent(), is(false));
+    verifyNoInteractions(elasticsearchOperations);
+  }
+
+  @Test
+  void shouldStoreHiddenIdsOnceForLookup() {
+    when(elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX)).thenReturn(indexOperations);
+    when(elasticsearchOperations.exists(anyString(), eq(HIDDEN_GMC_IDS_INDEX)))
+        .thenReturn(false, true);
+
+    final var lookup = service.toTermsLookup(List.of("3333333", "1111111", "2222222", "1111111"))
+        .orElseThrow();
+    final var sameLookup = service.toTermsLookup(List.of("1111111", "2222222", "3333333"))
+        .orElseThrow();
+
+    assertThat(lookup.index(), is(HIDDEN_GMC_IDS_INDEX.getIndexName()));
+    assertThat(lookup.path(), is(GMC_IDS_FIELD));
+    assertThat(lookup.id(), endsWith("-2026-10-19"));
+    assertThat(sameLookup.id(), is(lookup.id()));
+    verify(indexOperations).create();
+    verify(indexOperations).putMapping(any(Document.class));
+    verify(elasticsearchOperations, times(1)).index(indexQueryCaptor.capture(),
+        eq(HIDDEN_GMC_IDS_INDEX));
+    assertThat(indexQueryCaptor.getValue().getId(), is(lookup.id()));
+    assertThat(indexQueryCaptor.getValue().getSource(),
+        containsString("[\"1111111\",\"2222222\",\"3333333\"]"));
+    assertThat(indexQueryCaptor.getValue().getSource(),
+        containsString("\"storedAt\":" + clock.millis()));
+  }
+
+  @Test
+  void shouldStoreHiddenIdsAgainOnNextDay() {
+    when(elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX)).thenReturn(indexOperations);
+    final var gmcIds = List.of("1111111", "2222222", "3333333");
+    final var lookup = service.toTermsLookup(gmcIds).orElseThrow();
+
+    final var nextDay = new HiddenGmcIdsLookupService(elasticsearchOperations, 3,
+        Clock.offset(clock, Duration.ofDays(1)));
+
+    assertThat(nextDay.toTermsLookup(gmcIds).orElseThrow().id(), not(lookup.id()));
+  }
+
+  @Test
+  void shouldNotCreateExistingLookupIndex() {
+    when(elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX)).thenReturn(indexOperations);
+    when(indexOperations.exists()).thenReturn(true);
+    when(elasticsearchOperations.exists(anyString(), eq(HIDDEN_GMC_IDS_INDEX))).thenReturn(true);
+
+    service.toTermsLookup(List.of("1111111", "2222222", "3333333"));
+
+    verify(indexOperations, never()).create();
+    verify(indexOperations).putMapping(any(Document.class));
+    verify(elasticsearchOperations, never()).index(any(IndexQuery.class), any());
+  }
+
+  @Test
+  void shouldDeleteLookupsStoredBeforeYesterday() {
+    when(elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX)).thenReturn(indexOperations);
+    when(indexOperations.exists()).thenReturn(true);
+    when(elasticsearchOperations.delete(queryCaptor.capture(), eq(Object.class),
+        eq(HIDDEN_GMC_IDS_INDEX))).thenReturn(ByQueryResponse.builder().withDeleted(2).build());
+
+    service.deleteExpiredLookups();
+
+    final var query = ((NativeSearchQuery) queryCaptor.getValue()).getQuery().toString();
+    assertThat(query, containsString("\"must_not\""));
+    assertThat(query, containsString("\"storedAt\""));
+    assertThat(query, containsString("\"from\" : " + Instant.parse("2026-10-18T00:00:00Z")
+        .toEpochMilli()));
+  }
+
+  @Test
+  void shouldNotDeleteLookupsWithoutIndex() {
+    when(elasticsearchOperations.indexOps(HIDDEN_GMC_IDS_INDEX)).thenReturn(indexOperations);
+
+    service.deleteExpiredLookups();
+
+    verify(elasticsearchOperations, never()).delete(any(Query.class), any(), any());
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.javafaker.Faker;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import uk.nhs.hee.tis.revalidation.dto.DeferralReasonDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationRecordDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.Snapshot;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapperImpl;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapper;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveDoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveRecommendationRepository;
+import uk.nhs.hee.tis.revalidation.repository.reactive.ReactiveSnapshotRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveReadServiceTest {
+
+  private final Faker faker = new Faker();
+
+  @InjectMocks
+  private ReactiveReadService reactiveReadService;
+
+  @Mock
+  private ReactiveDoctorsForDBRepository doctorsForDBRepository;
+
+  @Mock
+  private ReactiveRecommendationRepository recommendationRepository;
+
+  @Mock
+  private ReactiveSnapshotRepository snapshotRepository;
+
+  @Mock
+  private DeferralReasonService deferralReasonService;
+
+  @Mock
+  private SnapshotService snapshotService;
+
+  @Mock
+  private TraineeRecommendationMapper traineeRecommendationMapper;
+
+  @Spy
+  private DoctorsForDbMapper doctorsForDbMapper = new DoctorsForDbMapperImpl();
+
+  private String gmcId1;
+  private String gmcId2;
+  private DoctorsForDB doctor1;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(reactiveReadService, "concurrency", 4);
+    gmcId1 = faker.number().digits(7);
+    gmcId2 = faker.number().digits(7);
+    doctor1 = DoctorsForDB.builder().gmcReferenceNumber(gmcId1).build();
+  }
+
+  @Test
+  void shouldBuildTraineeInfoFromReactiveReads() {
+    final var recommendation = Recommendation.builder().id("rec1").gmcNumber(gmcId1).build();
+    final var snapshot = Snapshot.builder().gmcNumber(gmcId1).build();
+    final var snapshotRecommendation = TraineeRecommendationRecordDto.builder()
+        .gmcNumber(gmcId1).build();
+    final var deferralReason = DeferralReasonDto.builder().code("1").build();
+    final var traineeInfo = TraineeRecommendationDto.builder().gmcNumber(gmcId1).build();
+    when(doctorsForDBRepository.findById(gmcId1)).thenReturn(Mono.just(doctor1));
+    when(recommendationRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.just(recommendation));
+    when(snapshotRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.just(snapshot));
+    when(deferralReasonService.getAllCurrentDeferralReasons()).thenReturn(List.of(deferralReason));
+    when(snapshotService.toSnapshotRecommendations(doctor1, List.of(snapshot)))
+        .thenReturn(List.of(snapshotRecommendation));
+    when(traineeRecommendationMapper.toTraineeInfo(doctor1, List.of(recommendation),
+        List.of(snapshotRecommendation), List.of(deferralReason))).thenReturn(traineeInfo);
+
+    assertThat(reactiveReadService.getTraineeInfo(gmcId1).block(), is(traineeInfo));
+  }
+
+  @Test
+  void shouldReturnEmptyTraineeInfoForUnknownTrainee() {
+    when(doctorsForDBRepository.findById(gmcId1)).thenReturn(Mono.empty());
+    when(recommendationRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.empty());
+    when(snapshotRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.empty());
+
+    assertThat(reactiveReadService.getTraineeInfo(gmcId1).block(), is(nullValue()));
+    verify(traineeRecommendationMapper, never()).toTraineeInfo(any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldReturnDraftOrLatestSubmittedRecommendationOfEachTrainee() {
+    final var draft = Recommendation.builder().id("draft").gmcNumber(gmcId1).build();
+    final var draftDto = TraineeRecommendationRecordDto.builder().recommendationId("draft")
+        .build();
+    final var latest = Recommendation.builder().id("latest").gmcNumber(gmcId2).build();
+    final var latestDto = TraineeRecommendationRecordDto.builder().recommendationId("latest")
+        .build();
+    final var doctor2 = DoctorsForDB.builder().gmcReferenceNumber(gmcId2).build();
+    when(recommendationRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.just(draft));
+    when(recommendationRepository.findByGmcNumber(gmcId2)).thenReturn(Flux.empty());
+    when(traineeRecommendationMapper.toDraftRecommendation(List.of(draft)))
+        .thenReturn(Optional.of(draftDto));
+    when(traineeRecommendationMapper.toDraftRecommendation(List.of())).thenReturn(Optional.empty());
+    when(doctorsForDBRepository.findById(gmcId2)).thenReturn(Mono.just(doctor2));
+    when(recommendationRepository.findFirstByGmcNumberOrderByActualSubmissionDateDesc(gmcId2))
+        .thenReturn(Mono.just(latest));
+    when(traineeRecommendationMapper.toLatestSubmittedRecommendation(gmcId2, Optional.of(doctor2),
+        Optional.of(latest))).thenReturn(latestDto);
+
+    final var result = reactiveReadService.getLatestRecommendations(List.of(gmcId1, gmcId2))
+        .block();
+
+    assertThat(result, is(Map.of(gmcId1, draftDto, gmcId2, latestDto)));
+    verify(doctorsForDBRepository, never()).findById(gmcId1);
+  }
+
+  @Test
+  void shouldFailLatestRecommendationsForUnknownTrainee() {
+    when(recommendationRepository.findByGmcNumber(gmcId1)).thenReturn(Flux.empty());
+    when(traineeRecommendationMapper.toDraftRecommendation(List.of())).thenReturn(Optional.empty());
+    when(doctorsForDBRepository.findById(gmcId1)).thenReturn(Mono.empty());
+    when(recommendationRepository.findFirstByGmcNumberOrderByActualSubmissionDateDesc(gmcId1))
+        .thenReturn(Mono.empty());
+    when(traineeRecommendationMapper.toLatestSubmittedRecommendation(gmcId1, Optional.empty(),
+        Optional.empty())).thenThrow(new RecommendationException("Doctor does not exist!"));
+
+    final var latest = reactiveReadService.getLatestRecommendations(List.of(gmcId1));
+
+    assertThrows(RecommendationException.class, latest::block);
+  }
+
+  @Test
+  void shouldReturnDoctorsByGmcIds() {
+    when(doctorsForDBRepository.findAllById(List.of(gmcId1, gmcId2)))
+        .thenReturn(Flux.just(doctor1));
+
+    final var result = reactiveReadService.getDoctorsByGmcIds(List.of(gmcId1, gmcId2)).block();
+
+    assertThat(result, is(doctorsForDbMapper.toTraineeSummaryDto(List.of(doctor1))));
+    assertThat(result.getCountTotal(), is(1L));
+    assertThat(result.getTraineeInfo().get(0).getGmcReferenceNumber(), is(gmcId1));
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.INVALID_RECOMMENDATION;
+import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.SUCCESS;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
+import static uk.nhs.hee.tis.revalidation.service.RecommendationBulkSubmissionService.NOT_SUBMITTABLE_MESSAGE;
+
+import com.mongodb.client.result.UpdateResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationResponseCT;
+import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationV2Response;
+import uk.nhs.hee.tis.revalidation.dto.BulkRecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RecommendationSubmissionDto;
+import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationBulkSubmissionServiceTest {
+
+  private static final String GMC_NUMBER_1 = "1111111";
+  private static final String GMC_NUMBER_2 = "2222222";
+  private static final String GMC_NUMBER_3 = "3333333";
+
+  @Mock
+  private RecommendationRepository recommendationRepository;
+
+  @Mock
+  private DoctorsForDBRepository doctorsForDBRepository;
+
+  @Mock
+  private GmcClientService gmcClientService;
+
+  @Mock
+  private RecommendationService recommendationService;
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private BulkOperations bulkOperations;
+
+  @Mock
+  private BulkOperations doctorBulkOperations;
+
+  @Captor
+  private ArgumentCaptor<Query> queryCaptor;
+
+  @Captor
+  private ArgumentCaptor<Update> updateCaptor;
+
+  private final RoUserProfileDto userProfile = RoUserProfileDto.builder().gmcId("9999999")
+      .build();
+  private RecommendationBulkSubmissionService service;
+  private Recommendation recommendation1;
+  private Recommendation recommendation2;
+  private DoctorsForDB doctor1;
+  private DoctorsForDB doctor2;
+
+  @BeforeEach
+  void setUp() {
+    service = createService(new SyncTaskExecutor());
+    recommendation1 = Recommendation.builder().id("rec1").gmcNumber(GMC_NUMBER_1)
+        .recommendationStatus(SUBMITTING).build();
+    recommendation2 = Recommendation.builder().id("rec2").gmcNumber(GMC_NUMBER_2)
+        .recommendationStatus(SUBMITTING).build();
+    doctor1 = DoctorsForDB.builder().gmcReferenceNumber(GMC_NUMBER_1).build();
+    doctor2 = DoctorsForDB.builder().gmcReferenceNumber(GMC_NUMBER_2).build();
+  }
+
+  @Test
+  void shouldSubmitClaimedRecommendationsAndWriteOutcomesInBulk() {
+    final var alreadySubmitted = Recommendation.builder().id("rec3").gmcNumber(GMC_NUMBER_3)
+        .recommendationStatus(SUBMITTED_TO_GMC).outcome(UNDER_REVIEW).build();
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation1, recommendation2));
+    when(recommendationRepository.findAllById(List.of("rec3", "rec4")))
+        .thenReturn(List.of(alreadySubmitted));
+    when(doctorsForDBRepository.findAllById(List.of(GMC_NUMBER_1, GMC_NUMBER_2)))
+        .thenReturn(List.of(doctor1, doctor2));
+    when(gmcClientService.submitToGmc(doctor1, recommendation1, userProfile))
+        .thenReturn(response(SUCCESS.getCode()));
+    when(gmcClientService.submitToGmc(doctor2, recommendation2, userProfile))
+        .thenReturn(response(INVALID_RECOMMENDATION.getCode()));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Recommendation.class))
+        .thenReturn(bulkOperations);
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, DoctorsForDB.class))
+        .thenReturn(doctorBulkOperations);
+    when(recommendationService.getRecommendationStatusesForTrainees(Set.of(GMC_NUMBER_1)))
+        .thenReturn(Map.of(GMC_NUMBER_1, SUBMITTED_TO_GMC));
+
+    final var results = service.submitRecommendations(request(
+        GMC_NUMBER_1, "rec1", GMC_NUMBER_2, "rec2", GMC_NUMBER_3, "rec3", GMC_NUMBER_1, "rec4"));
+
+    assertThat(results.stream().map(RecommendationSubmissionDto::getRecommendationId).toList(),
+        contains("rec1", "rec2", "rec3", "rec4"));
+    assertThat(results.get(0).getRecommendationStatus(), is(SUBMITTED_TO_GMC.name()));
+    assertThat(results.get(0).getGmcRevalidationId(), is("gmc-rec1"));
+    assertThat(results.get(0).getSubmissionFailure(), nullValue());
+    assertThat(results.get(1).getRecommendationStatus(), is(READY_TO_REVIEW.name()));
+    assertThat(results.get(1).getSubmissionFailure(), is(INVALID_RECOMMENDATION.getMessage()));
+    assertThat(results.get(2).getRecommendationStatus(), is(SUBMITTED_TO_GMC.name()));
+    assertThat(results.get(2).getSubmissionFailure(), nullValue());
+    assertThat(results.get(3).getSubmissionFailure(), is(NOT_SUBMITTABLE_MESSAGE));
+
+    verify(bulkOperations, times(2)).updateOne(queryCaptor.capture(), updateCaptor.capture());
+    assertThat(queryCaptor.getAllValues().get(0).getQueryObject().get("id"), is("rec1"));
+    assertThat(queryCaptor.getAllValues().get(0).getQueryObject().get("revision"),
+        is(startedRevision("rec1")));
+    final var submitted = (Document) updateCaptor.getAllValues().get(0).getUpdateObject()
+        .get("$set");
+    assertThat(submitted.get("recommendationStatus"), is(SUBMITTED_TO_GMC));
+    final var released = (Document) updateCaptor.getAllValues().get(1).getUpdateObject()
+        .get("$set");
+    assertThat(released.get("recommendationStatus"), is(READY_TO_REVIEW));
+    verify(bulkOperations).execute();
+
+    verify(doctorBulkOperations).updateOne(queryCaptor.capture(), updateCaptor.capture());
+    assertThat(queryCaptor.getValue().getQueryObject().get("gmcReferenceNumber"),
+        is(GMC_NUMBER_1));
+    assertThat(((Document) updateCaptor.getValue().getUpdateObject().get("$set"))
+        .get("doctorStatus"), is(SUBMITTED_TO_GMC));
+    verify(doctorBulkOperations).execute();
+  }
+
+  @Test
+  void shouldReportSubmissionsStillRunningAfterTimeoutAndCompleteThemLater() {
+    final var pending = new ArrayList<Runnable>();
+    service = createService(pending::add);
+    ReflectionTestUtils.setField(service, "bulkTimeoutSeconds", 0L);
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation1));
+    when(doctorsForDBRepository.findAllById(List.of(GMC_NUMBER_1)))
+        .thenReturn(List.of(doctor1));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Recommendation.class))
+        .thenReturn(bulkOperations);
+
+    final var results = service.submitRecommendations(request(GMC_NUMBER_1, "rec1"));
+
+    assertThat(results.get(0).getRecommendationStatus(), is(SUBMITTING.name()));
+    verify(bulkOperations, never()).execute();
+
+    when(gmcClientService.submitToGmc(doctor1, recommendation1, userProfile))
+        .thenReturn(response(SUCCESS.getCode()));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, DoctorsForDB.class))
+        .thenReturn(doctorBulkOperations);
+    when(recommendationService.getRecommendationStatusesForTrainees(List.of(GMC_NUMBER_1)))
+        .thenReturn(Map.of(GMC_NUMBER_1, SUBMITTED_TO_GMC));
+    pending.forEach(Runnable::run);
+
+    verify(mongoTemplate, times(2)).updateFirst(any(Query.class), updateCaptor.capture(),
+        eq(Recommendation.class));
+    final var submitted = (Document) updateCaptor.getAllValues().get(1).getUpdateObject()
+        .get("$set");
+    assertThat(submitted.get("recommendationStatus"), is(SUBMITTED_TO_GMC));
+    verify(doctorBulkOperations).execute();
+  }
+
+  @Test
+  void shouldNotWriteOutcomeOfSubmissionWhoseClaimWasTakenOver() {
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation1));
+    when(doctorsForDBRepository.findAllById(List.of(GMC_NUMBER_1)))
+        .thenReturn(List.of(doctor1));
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Recommendation.class))
+        .thenReturn(bulkOperations);
+
+    final var results = service.submitRecommendations(request(GMC_NUMBER_1, "rec1"));
+
+    assertThat(results.get(0).getRecommendationStatus(), is(SUBMITTING.name()));
+    verify(gmcClientService, never()).submitToGmc(any(), any(), any());
+    verify(bulkOperations, never()).updateOne(any(Query.class), any(Update.class));
+    verify(bulkOperations, never()).execute();
+  }
+
+  @Test
+  void shouldClaimOnlyRequestedRecommendationsOfEachDoctor() {
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class))).thenReturn(List.of());
+    when(recommendationRepository.findAllById(List.of("rec1"))).thenReturn(List.of());
+
+    service.submitRecommendations(request(GMC_NUMBER_1, "rec1"));
+
+    verify(mongoTemplate).updateMulti(queryCaptor.capture(), updateCaptor.capture(),
+        eq(Recommendation.class));
+    final var claim = queryCaptor.getValue().getQueryObject().toString();
+    assertThat(claim.contains("gmcNumber=" + GMC_NUMBER_1), is(true));
+    assertThat(claim.contains("SUBMITTED_TO_GMC"), is(true));
+    final var set = (Document) updateCaptor.getValue().getUpdateObject().get("$set");
+    assertThat(set.get("recommendationStatus"), is(SUBMITTING));
+    verify(gmcClientService, never()).submitToGmc(any(), any(), any());
+    verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), eq(Recommendation.class));
+  }
+
+  @Test
+  void shouldReleaseRecommendationsWhenWorkerPoolIsFull() {
+    final TaskExecutor saturated = task -> {
+      throw new TaskRejectedException("full");
+    };
+    service = createService(saturated);
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation1));
+    when(doctorsForDBRepository.findAllById(List.of(GMC_NUMBER_1)))
+        .thenReturn(List.of(doctor1));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Recommendation.class))
+        .thenReturn(bulkOperations);
+
+    final var results = service.submitRecommendations(request(GMC_NUMBER_1, "rec1"));
+
+    assertThat(results.get(0).getRecommendationStatus(), is(READY_TO_REVIEW.name()));
+    assertThat(results.get(0).getSubmissionFailure(), is("GMC submission queue is full"));
+    verify(bulkOperations).execute();
+    verify(mongoTemplate, never()).bulkOps(BulkMode.UNORDERED, DoctorsForDB.class);
+  }
+
+  @Test
+  void shouldReleaseRecommendationsOfUnknownDoctors() {
+    when(mongoTemplate.find(any(Query.class), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation1));
+    when(doctorsForDBRepository.findAllById(List.of(GMC_NUMBER_1))).thenReturn(List.of());
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Recommendation.class))
+        .thenReturn(bulkOperations);
+
+    final var results = service.submitRecommendations(request(GMC_NUMBER_1, "rec1"));
+
+    assertThat(results.get(0).getSubmissionFailure(),
+        is(String.format("Doctor %s does not exist!", GMC_NUMBER_1)));
+    verify(gmcClientService, never()).submitToGmc(any(), any(), any());
+  }
+
+  @Test
+  void shouldRejectTooManyRecommendations() {
+    ReflectionTestUtils.setField(service, "maxBulkSize", 1);
+    final var bulkSubmission = request(GMC_NUMBER_1, "rec1", GMC_NUMBER_2, "rec2");
+
+    assertThrows(RecommendationException.class,
+        () -> service.submitRecommendations(bulkSubmission));
+    verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class),
+        eq(Recommendation.class));
+  }
+
+  private RecommendationBulkSubmissionService createService(TaskExecutor executor) {
+    final var submissionClaimService = new SubmissionClaimService(mongoTemplate,
+        gmcClientService);
+    ReflectionTestUtils.setField(submissionClaimService, "submissionStaleAfterMinutes", 10L);
+    lenient().when(mongoTemplate.updateFirst(any(Query.class), any(Update.class),
+        eq(Recommendation.class))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    final var bulkSubmissionService = new RecommendationBulkSubmissionService(
+        recommendationRepository, doctorsForDBRepository, recommendationService,
+        submissionClaimService, mongoTemplate, executor);
+    ReflectionTestUtils.setField(bulkSubmissionService, "maxBulkSize", 100);
+    ReflectionTestUtils.setField(bulkSubmissionService, "bulkTimeoutSeconds", 10L);
+    return bulkSubmissionService;
+  }
+
+  private Object startedRevision(String recommendationId) {
+    final var queries = ArgumentCaptor.forClass(Query.class);
+    final var updates = ArgumentCaptor.forClass(Update.class);
+    verify(mongoTemplate, atLeastOnce()).updateFirst(queries.capture(), updates.capture(),
+        eq(Recommendation.class));
+    for (int i = 0; i < queries.getAllValues().size(); i++) {
+      if (recommendationId.equals(queries.getAllValues().get(i).getQueryObject().get("id"))) {
+        return ((Document) updates.getAllValues().get(i).getUpdateObject().get("$set"))
+            .get("revision");
+      }
+    }
+    return null;
+  }
+
+  private BulkRecommendationSubmissionDto request(String... gmcNumbersAndIds) {
+    final var recommendations = new ArrayList<RecommendationSubmissionDto>();
+    for (int i = 0; i < gmcNumbersAndIds.length; i += 2) {
+      recommendations.add(RecommendationSubmissionDto.builder().gmcNumber(gmcNumbersAndIds[i])
+          .recommendationId(gmcNumbersAndIds[i + 1]).build());
+    }
+    return BulkRecommendationSubmissionDto.builder().userProfile(userProfile)
+        .recommendations(recommendations).build();
+  }
+
+  private TryRecommendationV2Response response(String returnCode) {
+    final var result = new TryRecommendationResponseCT();
+    result.setReturnCode(returnCode);
+    result.setRecommendationID("gmc-rec1");
+    final var response = new TryRecommendationV2Response();
+    response.setTryRecommendationV2Result(result);
+    return response;
+  }
+}
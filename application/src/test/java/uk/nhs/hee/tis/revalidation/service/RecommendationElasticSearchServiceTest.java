@@ -22,31 +22,73 @@
 package uk.nhs.hee.tis.revalidation.service;
 
 import static java.time.LocalDate.now;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsLookupQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+import static org.elasticsearch.search.sort.SortBuilders.fieldSort;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.indices.TermsLookup;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.terms.IncludeExclude;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
 import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
-import uk.nhs.hee.tis.revalidation.repository.RecommendationElasticSearchRepository;
 
 @ExtendWith(MockitoExtension.class)
 class RecommendationElasticSearchServiceTest {
 
+  private static final int AUTOCOMPLETE_SIZE = 20;
   private final Faker faker = new Faker();
   @InjectMocks
   RecommendationElasticSearchService recommendationElasticSearchService;
   @Mock
-  RecommendationElasticSearchRepository recommendationElasticSearchRepository;
+  ElasticsearchOperations elasticsearchOperations;
+  @Mock
+  HiddenGmcIdsLookupService hiddenGmcIdsLookupService;
+  @Spy
+  MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Captor
+  ArgumentCaptor<NativeSearchQuery> nativeSearchQueryCaptor;
   private String gmcRef1;
   private String firstName1;
   private String lastName1;
@@ -63,6 +105,8 @@ class RecommendationElasticSearchServiceTest {
    */
   @BeforeEach
   public void setup() {
+    ReflectionTestUtils.setField(recommendationElasticSearchService, "autocompleteSize",
+        AUTOCOMPLETE_SIZE);
 
     gmcRef1 = faker.number().digits(8);
     firstName1 = faker.name().firstName();
@@ -81,60 +125,158 @@ class RecommendationElasticSearchServiceTest {
   }
 
   @Test
-  void shouldFormatDesignatedBodyCodesForElasticsearchQuery() {
-    final String dbc1 = "1-AIIDHJ";
-    final String dbc2 = "AIIDMQ";
-    final String dbcformatted = "aiidhj aiidmq";
-    List<String> dbcs = List.of(dbc1, dbc2);
+  void shouldReturnAutocompleteValuesFromTermsAggregation() {
+    final var dbcsParam = List.of("1-AIIDWQ");
+    final var terms = mock(Terms.class);
+    final var bucket1 = mock(Terms.Bucket.class);
+    final var bucket2 = mock(Terms.Bucket.class);
+    when(terms.getName()).thenReturn("programmeName");
+    when(bucket1.getKeyAsString()).thenReturn("General Practice 1");
+    when(bucket2.getKeyAsString()).thenReturn("General Practice 2");
+    doReturn(List.of(bucket1, bucket2)).when(terms).getBuckets();
+    when(elasticsearchOperations.search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class))).thenReturn(new SearchHitsImpl<>(120L,
+        TotalHitsRelation.EQUAL_TO, 0.0f, null, List.of(), new Aggregations(List.of(terms))));
 
-    final var result = recommendationElasticSearchService.formatDesignatedBodyCodesForElasticsearchQuery(
-        dbcs);
+    final var results = recommendationElasticSearchService.getAutocompleteResults(
+        "programmeName", "General prac", dbcsParam);
 
-    assertThat(result, is(dbcformatted));
+    assertThat(results, is(List.of("General Practice 1", "General Practice 2")));
+    final var query = nativeSearchQueryCaptor.getValue();
+    assertThat(query.getMaxResults(), is(0));
+    final var aggregation = (TermsAggregationBuilder) query.getAggregations().get(0);
+    assertThat(aggregation.field(), is("programmeName.keyword"));
+    assertThat(aggregation.size(), is(AUTOCOMPLETE_SIZE));
+    assertThat(aggregation.includeExclude(), is(new IncludeExclude(
+        "(.* )?[gG][eE][nN][eE][rR][aA][lL] [pP][rR][aA][cC].*", null)));
   }
 
   @Test
-  void shouldReturnDistinctAutocompleteValuesForProgrammeName() {
-    final var fieldNameParam = "programmeName";
-    final var dbcsParam = List.of("1-AIIDWQ");
-    final var escapedDbcsParam = "aiidwq";
-    final var inputParam = "General prac";
-    when(recommendationElasticSearchRepository.findByFieldNameParameter(fieldNameParam, inputParam,
-        escapedDbcsParam)).thenReturn(generateListOfRecommendationViews());
-    final var results = recommendationElasticSearchService.getAutocompleteResults(fieldNameParam,
-        inputParam, dbcsParam);
+  void shouldNotFilterAutocompleteValuesWithoutInput() {
+    final var terms = mock(Terms.class);
+    when(terms.getName()).thenReturn("programmeName");
+    doReturn(List.of()).when(terms).getBuckets();
+    when(elasticsearchOperations.search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class))).thenReturn(new SearchHitsImpl<>(0L,
+        TotalHitsRelation.EQUAL_TO, 0.0f, null, List.of(), new Aggregations(List.of(terms))));
 
-    assertThat(results, is(List.of("General Practice 1", "General Practice 2")));
-    assertThat(results.size(), is(2));
+    final var results = recommendationElasticSearchService.getAutocompleteResults(
+        "programmeName", null, List.of("1-AIIDWQ"));
+
+    assertThat(results, is(List.of()));
+    final var query = nativeSearchQueryCaptor.getValue();
+    assertThat(((TermsAggregationBuilder) query.getAggregations().get(0)).includeExclude(),
+        nullValue());
+    assertThat(query.getQuery().toString(), not(containsString("match_phrase_prefix")));
   }
 
   @Test
   void shouldNotReturnUnsupportedAutocompleteFields() {
-    final var fieldNameParam = "unsupportedField";
-    final var dbcsParam = List.of("1-AIIDWQ");
-    final var escapedDbcsParam = "aiidwq";
-    final var inputParam = "General prac";
-    when(recommendationElasticSearchRepository.findByFieldNameParameter(fieldNameParam, inputParam,
-        escapedDbcsParam)).thenReturn(generateListOfRecommendationViews());
-    final var results = recommendationElasticSearchService.getAutocompleteResults(fieldNameParam,
-        inputParam, dbcsParam);
+    final var results = recommendationElasticSearchService.getAutocompleteResults(
+        "unsupportedField", "General prac", List.of("1-AIIDWQ"));
 
     assertThat(results.size(), is(0));
+    verifyNoInteractions(elasticsearchOperations);
+  }
+
+  @Test
+  void shouldEscapeReservedCharactersInWordPrefixRegex() {
+    assertThat(RecommendationElasticSearchService.toWordPrefixRegex(" O&G (ST1) "),
+        is("(.* )?[oO]\\&[gG] \\([sS][tT]1\\).*"));
+  }
+
+  @Test
+  void shouldSearchPageWithTermFiltersOnKeywordFields() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("")
+        .dbcs(List.of("1-AIIDWQ", "1-AIIDHJ")).programmeName("").gmcStatus("Approved")
+        .tisStatus("").admin("").build();
+    final var pageable = PageRequest.of(2, 20, Sort.by("doctorLastName.sort"));
+    when(elasticsearchOperations.search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class))).thenReturn(new SearchHitsImpl<>(41L,
+        TotalHitsRelation.EQUAL_TO, 1.0f, null, List.of(new SearchHit<>("recommendations",
+        recommendationView.getId(), null, 1.0f, null, null, recommendationView)), null));
+
+    final var page = recommendationElasticSearchService.searchPage(requestDto, List.of(),
+        pageable);
+
+    assertThat(page.getContent(), is(List.of(recommendationView)));
+    assertThat(page.getTotalElements(), is(41L));
+    assertThat(page.getTotalPages(), is(3));
+    assertThat(meterRegistry.get(RecommendationElasticSearchService.SEARCH_METRIC)
+        .tag("variant", "page").timer().count(), is(1L));
+    final var query = nativeSearchQueryCaptor.getValue();
+    assertThat(query.getPageable().getPageNumber(), is(2));
+    assertThat(query.getPageable().getPageSize(), is(20));
+    assertThat(query.getElasticsearchSorts(), contains(
+        fieldSort("doctorLastName.sort").unmappedType("keyword").order(SortOrder.ASC)));
+    assertThat(query.getTrackTotalHits(), is(true));
+    final var filters = ((BoolQueryBuilder) query.getQuery()).filter();
+    assertThat(filters, hasItem(termsQuery("designatedBody", List.of("1-AIIDWQ", "1-AIIDHJ"))));
+    assertThat(filters, hasItem(termQuery("existsInGmc", true)));
+    assertThat(filters, hasItem(termQuery("gmcStatus", "Approved")));
+    assertThat(query.getQuery().toString(), not(containsString("tisStatus")));
+    assertThat(query.getQuery().toString(), not(containsString("must_not")));
+  }
+
+  @Test
+  void shouldSearchAfterSortValuesFromFirstResult() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("Smi")
+        .dbcs(List.of("1-AIIDWQ")).programmeName("").gmcStatus("").tisStatus("").admin("")
+        .build();
+    final var sort = Sort.by("doctorLastName.sort", "gmcReferenceNumber.sort");
+    final List<Object> searchAfter = List.of("smith", "1234567");
+
+    recommendationElasticSearchService.searchAfter(requestDto, List.of("7654321"), sort,
+        searchAfter, 20);
+
+    verify(elasticsearchOperations).search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class));
+    final var query = nativeSearchQueryCaptor.getValue();
+    assertThat(query.getSearchAfter(), is(searchAfter));
+    assertThat(query.getPageable().getOffset(), is(0L));
+    assertThat(query.getPageable().getPageSize(), is(20));
+    assertThat(query.getElasticsearchSorts(), contains(
+        fieldSort("doctorLastName.sort").unmappedType("keyword").order(SortOrder.ASC),
+        fieldSort("gmcReferenceNumber.sort").unmappedType("keyword").order(SortOrder.ASC)));
+    assertThat(query.getQuery().toString(), containsString("doctorLastName.prefix"));
+    assertThat(query.getQuery().toString(), containsString("cross_fields"));
+    assertThat(query.getQuery().toString(), not(containsString("wildcard")));
+    assertThat(query.getQuery().toString(), containsString("must_not"));
+  }
+
+  @Test
+  void shouldFilterUnderNoticeInsteadOfHiddenIdsWhenSearchingAfter() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("").underNotice(true)
+        .dbcs(List.of("1-AIIDWQ")).programmeName("").gmcStatus("").tisStatus("").admin("")
+        .build();
+
+    recommendationElasticSearchService.searchAfter(requestDto, List.of("7654321"),
+        Sort.by("gmcReferenceNumber.sort"), List.of(), 20);
+
+    verify(elasticsearchOperations).search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class));
+    final var query = nativeSearchQueryCaptor.getValue();
+    assertThat(query.getSearchAfter(), nullValue());
+    assertThat(query.getQuery().toString(), not(containsString("7654321")));
+    assertThat(query.getQuery().toString(), containsString("underNotice"));
+    verifyNoInteractions(hiddenGmcIdsLookupService);
   }
 
-  private List<RecommendationView> generateListOfRecommendationViews() {
-    return List.of(
-        recommendationView = RecommendationView.builder().id("1a2a").tcsPersonId((long) 111)
-            .gmcReferenceNumber(null).doctorFirstName(firstName1).doctorLastName(lastName1)
-            .submissionDate(submissionDate1).programmeName("General Practice 1")
-            .designatedBody(designatedBody1).admin(admin).underNotice(underNotice).build(),
-        RecommendationView.builder().id("1a2a").tcsPersonId((long) 111).gmcReferenceNumber(null)
-            .doctorFirstName(firstName1).doctorLastName(lastName1).submissionDate(submissionDate1)
-            .programmeName("General Practice 1").designatedBody(designatedBody1).admin(admin)
-            .underNotice(underNotice).build(),
-        RecommendationView.builder().id("1a2a").tcsPersonId((long) 111).gmcReferenceNumber(null)
-            .doctorFirstName(firstName1).doctorLastName(lastName1).submissionDate(submissionDate1)
-            .programmeName("General Practice 2").designatedBody(designatedBody1).admin(admin)
-            .underNotice(underNotice).build());
+  @Test
+  void shouldExcludeLargeHiddenListsWithTermsLookup() {
+    final var requestDto = TraineeRequestDto.builder().searchQuery("")
+        .dbcs(List.of("1-AIIDWQ")).programmeName("").gmcStatus("").tisStatus("").admin("")
+        .build();
+    final var hiddenGmcIds = List.of("7654321", "1234567");
+    final var lookup = new TermsLookup("hidden-gmc-ids", "digest", "gmcIds");
+    when(hiddenGmcIdsLookupService.toTermsLookup(hiddenGmcIds)).thenReturn(Optional.of(lookup));
+
+    recommendationElasticSearchService.searchAfter(requestDto, hiddenGmcIds,
+        Sort.by("gmcReferenceNumber.sort"), List.of(), 20);
+
+    verify(elasticsearchOperations).search(nativeSearchQueryCaptor.capture(),
+        eq(RecommendationView.class));
+    final var query = (BoolQueryBuilder) nativeSearchQueryCaptor.getValue().getQuery();
+    assertThat(query.mustNot(), contains(termsLookupQuery("gmcReferenceNumber.sort", lookup)));
   }
 }
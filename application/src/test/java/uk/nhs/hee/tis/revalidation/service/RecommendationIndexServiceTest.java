@@ -0,0 +1,267 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.elasticsearch.index.query.QueryBuilders.rangeQuery;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.index.reindex.BulkByScrollResponse;
+import org.elasticsearch.index.reindex.ReindexRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
+import uk.nhs.hee.tis.revalidation.exception.DoctorIndexUpdateException;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationIndexServiceTest {
+
+  private static final String ALIAS = "recommendations";
+
+  @InjectMocks
+  private RecommendationIndexService recommendationIndexService;
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @Mock
+  private RestHighLevelClient restHighLevelClient;
+
+  @Mock
+  private IndexOperations aliasOperations;
+
+  @Mock
+  private IndexOperations newIndexOperations;
+
+  @Mock
+  private BulkByScrollResponse reindexResponse;
+
+  @Captor
+  private ArgumentCaptor<AliasActions> aliasActionsCaptor;
+
+  @Captor
+  private ArgumentCaptor<IndexCoordinates> indexCoordinatesCaptor;
+
+  @Captor
+  private ArgumentCaptor<ReindexRequest> reindexRequestCaptor;
+
+  private final Settings settings = new Settings();
+
+  private final Document mapping = Document.create();
+
+  @BeforeEach
+  void setup() {
+    lenient().when(elasticsearchOperations.indexOps(RecommendationView.class))
+        .thenReturn(aliasOperations);
+    lenient().when(elasticsearchOperations.indexOps(indexCoordinatesCaptor.capture()))
+        .thenReturn(newIndexOperations);
+    lenient().when(aliasOperations.getIndexCoordinates()).thenReturn(IndexCoordinates.of(ALIAS));
+    lenient().when(aliasOperations.createSettings()).thenReturn(settings);
+    lenient().when(aliasOperations.createMapping()).thenReturn(mapping);
+  }
+
+  @Test
+  void shouldCreateIndexAndAliasWhenNoneExists() {
+    when(aliasOperations.exists()).thenReturn(false);
+
+    final var newIndex = recommendationIndexService.reindexToCurrentMapping();
+
+    assertThat(newIndex, startsWith(ALIAS + "-"));
+    assertThat(indexCoordinatesCaptor.getValue().getIndexName(), is(newIndex));
+    verify(newIndexOperations).create(settings, mapping);
+    verify(aliasOperations).alias(aliasActionsCaptor.capture());
+    final var actions = aliasActionsCaptor.getValue().getActions();
+    assertThat(actions, hasSize(1));
+    assertThat(actions.get(0), instanceOf(AliasAction.Add.class));
+    assertThat(actions.get(0).getParameters().getAliases(), arrayContaining(ALIAS));
+    assertThat(actions.get(0).getParameters().getIndices(), arrayContaining(newIndex));
+  }
+
+  @Test
+  void shouldCopyDocumentsAndReplaceConcreteIndex() throws IOException {
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getAliases(ALIAS)).thenReturn(Map.of());
+    when(restHighLevelClient.reindex(reindexRequestCaptor.capture(), eq(RequestOptions.DEFAULT)))
+        .thenReturn(reindexResponse);
+    when(reindexResponse.getBulkFailures()).thenReturn(List.of());
+
+    final var newIndex = recommendationIndexService.reindexToCurrentMapping();
+
+    final var reindexRequest = reindexRequestCaptor.getValue();
+    assertThat(reindexRequest.getSearchRequest().indices(), arrayContaining(ALIAS));
+    assertThat(reindexRequest.getDestination().index(), is(newIndex));
+    verify(aliasOperations).alias(aliasActionsCaptor.capture());
+    final var actions = aliasActionsCaptor.getValue().getActions();
+    assertThat(actions, hasSize(2));
+    assertThat(actions.get(1), instanceOf(AliasAction.RemoveIndex.class));
+    assertThat(actions.get(1).getParameters().getIndices(), arrayContaining(ALIAS));
+  }
+
+  @Test
+  void shouldRemovePreviouslyAliasedIndex() throws IOException {
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getAliases(ALIAS)).thenReturn(Map.of("recommendations-1", Set.of()));
+    when(restHighLevelClient.reindex(any(ReindexRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenReturn(reindexResponse);
+    when(reindexResponse.getBulkFailures()).thenReturn(List.of());
+
+    recommendationIndexService.reindexToCurrentMapping();
+
+    verify(aliasOperations).alias(aliasActionsCaptor.capture());
+    final var actions = aliasActionsCaptor.getValue().getActions();
+    assertThat(actions.get(1).getParameters().getIndices(), arrayContaining("recommendations-1"));
+  }
+
+  @Test
+  void shouldNotSwapAliasWhenReindexFails() throws IOException {
+    when(aliasOperations.exists()).thenReturn(true);
+    when(restHighLevelClient.reindex(any(ReindexRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenThrow(new IOException("timeout"));
+
+    assertThrows(DoctorIndexUpdateException.class,
+        () -> recommendationIndexService.reindexToCurrentMapping());
+    verify(aliasOperations, never()).alias(any());
+  }
+
+  @Test
+  void shouldCopyDocumentsChangedDuringCopyBeforeSwappingAlias() throws IOException {
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getAliases(ALIAS)).thenReturn(Map.of());
+    when(restHighLevelClient.reindex(reindexRequestCaptor.capture(), eq(RequestOptions.DEFAULT)))
+        .thenReturn(reindexResponse);
+    when(reindexResponse.getBulkFailures()).thenReturn(List.of());
+    final var today = LocalDate.now();
+
+    recommendationIndexService.reindexToCurrentMapping();
+
+    final var inOrder = inOrder(restHighLevelClient, aliasOperations);
+    inOrder.verify(restHighLevelClient, times(2)).reindex(any(ReindexRequest.class),
+        eq(RequestOptions.DEFAULT));
+    inOrder.verify(aliasOperations).alias(any());
+    final var requests = reindexRequestCaptor.getAllValues();
+    assertThat(requests.get(0).getSearchRequest().source().query(), nullValue());
+    assertThat(requests.get(1).getSearchRequest().source().query(),
+        is(rangeQuery("lastUpdatedDate").gte(today.toString())));
+  }
+
+  @Test
+  void shouldNotRebuildIndexWhenMappingIsCurrent() {
+    final var currentMapping = nameMapping(Map.of("type", "keyword",
+        "normalizer", "lowercase_normalizer"));
+    when(aliasOperations.createMapping()).thenReturn(currentMapping);
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getMapping()).thenReturn(currentMapping);
+
+    assertThat(recommendationIndexService.migrateToCurrentMapping(), is(false));
+    verify(aliasOperations, never()).alias(any());
+  }
+
+  @Test
+  void shouldRebuildIndexWhenLiveMappingLacksSubfield() throws IOException {
+    when(aliasOperations.createMapping()).thenReturn(nameMapping(Map.of("type", "keyword",
+        "normalizer", "lowercase_normalizer")));
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getMapping()).thenReturn(Document.from(Map.of("properties",
+        Map.of("doctorLastName", Map.of("type", "text")))));
+    when(aliasOperations.getAliases(ALIAS)).thenReturn(Map.of());
+    when(restHighLevelClient.reindex(any(ReindexRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenReturn(reindexResponse);
+    when(reindexResponse.getBulkFailures()).thenReturn(List.of());
+
+    assertThat(recommendationIndexService.migrateToCurrentMapping(), is(true));
+    verify(aliasOperations).alias(any());
+  }
+
+  @Test
+  void shouldCreateIndexOnStartupWhenNoneExists() {
+    when(aliasOperations.exists()).thenReturn(false);
+
+    recommendationIndexService.migrateOnStartup();
+
+    verify(newIndexOperations).create(settings, mapping);
+    verify(aliasOperations).alias(any());
+  }
+
+  @Test
+  void shouldNotFailStartupWhenIndexCannotBeRebuilt() throws IOException {
+    when(aliasOperations.exists()).thenReturn(true);
+    when(aliasOperations.getMapping()).thenReturn(Document.create());
+    when(aliasOperations.createMapping()).thenReturn(nameMapping(Map.of("type", "keyword")));
+    when(restHighLevelClient.reindex(any(ReindexRequest.class), eq(RequestOptions.DEFAULT)))
+        .thenThrow(new IOException("timeout"));
+
+    recommendationIndexService.migrateOnStartup();
+
+    verify(aliasOperations, never()).alias(any());
+  }
+
+  @Test
+  void shouldDetectChangedNormalizerOnSubfield() {
+    final var expected = nameMapping(Map.of("type", "keyword",
+        "normalizer", "lowercase_normalizer"));
+
+    assertThat(RecommendationIndexService.containsMapping(
+        nameMapping(Map.of("type", "keyword")), expected), is(false));
+    assertThat(RecommendationIndexService.containsMapping(
+        nameMapping(Map.of("type", "keyword", "normalizer", "lowercase_normalizer",
+            "ignore_above", 256)), expected), is(true));
+  }
+
+  private static Document nameMapping(Map<String, Object> sortField) {
+    return Document.from(Map.of("properties", Map.of("doctorLastName",
+        Map.of("type", "text", "fields", Map.of("sort", sortField)))));
+  }
+}
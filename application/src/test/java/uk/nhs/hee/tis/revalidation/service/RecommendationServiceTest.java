@@ -29,12 +29,18 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.DOCTOR_DEFERRAL_ON_EARLY_DATE;
 import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.INVALID_RECOMMENDATION;
-import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.SUCCESS;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.REJECTED;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
@@ -43,11 +49,14 @@ import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.DRAFT;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.NOT_STARTED;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.DEFER;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.NON_ENGAGEMENT;
 import static uk.nhs.hee.tis.revalidation.entity.RecommendationType.REVALIDATE;
 import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.NO;
 import static uk.nhs.hee.tis.revalidation.entity.UnderNotice.YES;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.NO_RESPONSE_MESSAGE;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.QUEUE_FULL_MESSAGE;
 import static uk.nhs.hee.tis.revalidation.util.DateUtil.formatDate;
 import static uk.nhs.hee.tis.revalidation.util.DateUtil.formatDateTime;
 
@@ -55,7 +64,9 @@ import com.github.javafaker.Faker;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,11 +74,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.util.ReflectionTestUtils;
-import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationResponseCT;
-import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationV2Response;
 import uk.nhs.hee.tis.revalidation.dto.DeferralReasonDto;
 import uk.nhs.hee.tis.revalidation.dto.RecommendationStatusCheckDto;
 import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
@@ -81,8 +96,13 @@ import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
 import uk.nhs.hee.tis.revalidation.entity.Status;
 import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
 import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapper;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapperImpl;
+import uk.nhs.hee.tis.revalidation.messages.publisher.RecommendationStatusCheckPublisher;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
 import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionClaim;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionOutcome;
 
 @ExtendWith(MockitoExtension.class)
 class RecommendationServiceTest {
@@ -95,9 +115,6 @@ class RecommendationServiceTest {
   @Mock
   private RecommendationRepository recommendationRepository;
 
-  @Mock
-  private GmcClientService gmcClientService;
-
   @Mock
   private DeferralReasonService deferralReasonService;
 
@@ -123,7 +140,20 @@ class RecommendationServiceTest {
   private SnapshotService snapshotService;
 
   @Mock
-  private RabbitTemplate rabbitTemplate;
+  private RecommendationStatusCheckPublisher recommendationStatusCheckPublisher;
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private SubmissionClaimService submissionClaimService;
+
+  @Spy
+  private TraineeRecommendationMapper traineeRecommendationMapper =
+      new TraineeRecommendationMapperImpl();
+
+  @Mock
+  private TaskExecutor gmcSubmissionExecutor;
 
   @Captor
   private ArgumentCaptor<Recommendation> recommendationCaptor;
@@ -177,17 +207,17 @@ class RecommendationServiceTest {
   private final LocalDate gmcSubmissionLocalDate2 = LocalDate.now().plusDays(1);
 
   private final String password = faker.lorem().characters(10);
-  private final String exchange = faker.lorem().characters(10);
-  private final String routingKey = faker.lorem().characters(10);
 
   private RecommendationStatusCheckDto recommendationStatus;
   private List<RecommendationStatusCheckDto> recommendationStatusCheckDtos;
 
   @BeforeEach
   public void setup() {
-    ReflectionTestUtils.setField(recommendationService, "revalExchange", exchange);
-    ReflectionTestUtils
-        .setField(recommendationService, "revalRoutingKeyRecommendationStatus", routingKey);
+    ReflectionTestUtils.setField(recommendationService, "publisherBatchSize", 10);
+    ReflectionTestUtils.setField(recommendationService, "publisherMaxBufferMillis", 1000L);
+    ReflectionTestUtils.setField(recommendationService, "publisherConfirmTimeout", 1000L);
+    ReflectionTestUtils.setField(recommendationService, "traineeInfoExecutor",
+        new SyncTaskExecutor());
     firstName = faker.name().firstName();
     lastName = faker.name().lastName();
     status = NOT_STARTED;
@@ -297,7 +327,7 @@ class RecommendationServiceTest {
     final var gmcId = faker.number().digits(7);
     final var doctorsForDB = buildDoctorForDB(gmcId, RecommendationStatus.NOT_STARTED);
     when(doctorsForDBRepository.findById(gmcId)).thenReturn(Optional.of(doctorsForDB));
-    when(snapshotService.getSnapshotRecommendations(doctorsForDB))
+    when(snapshotService.toSnapshotRecommendations(eq(doctorsForDB), anyList()))
         .thenReturn(List.of(snapshot1, snapshot2));
     when(recommendationRepository.findByGmcNumber(gmcId)).thenReturn(List.of(
         buildRecommendation(gmcNumber1, recommendationId, status, UNDER_REVIEW)));
@@ -381,7 +411,8 @@ class RecommendationServiceTest {
     final var gmcId = faker.number().digits(7);
     final var doctorsForDB = buildDoctorForDB(gmcId, RecommendationStatus.NOT_STARTED);
     when(doctorsForDBRepository.findById(gmcId)).thenReturn(Optional.of(doctorsForDB));
-    when(snapshotService.getSnapshotRecommendations(doctorsForDB)).thenReturn(List.of(snapshot1));
+    when(snapshotService.toSnapshotRecommendations(eq(doctorsForDB), anyList()))
+        .thenReturn(List.of(snapshot1));
     when(recommendationRepository.findByGmcNumber(gmcId))
         .thenReturn(List.of(buildRecommendation(gmcId, newRecommendationId,
             SUBMITTED_TO_GMC, UNDER_REVIEW)));
@@ -444,12 +475,47 @@ class RecommendationServiceTest {
     assertThat(recommendation.getRevalidations(), hasSize(0));
   }
 
+  @Test
+  void shouldIssueTraineeInfoReadsOnTraineeInfoExecutor() {
+    final var gmcId = faker.number().digits(8);
+    final var doctorsForDB = buildDoctorForDB(gmcId, RecommendationStatus.NOT_STARTED);
+    final var traineeInfoExecutor = mock(TaskExecutor.class);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(traineeInfoExecutor).execute(any());
+    ReflectionTestUtils.setField(recommendationService, "traineeInfoExecutor",
+        traineeInfoExecutor);
+    when(doctorsForDBRepository.findById(gmcId)).thenReturn(Optional.of(doctorsForDB));
+
+    recommendationService.getTraineeInfo(gmcId);
+
+    verify(traineeInfoExecutor, times(3)).execute(any());
+    verify(recommendationRepository).findByGmcNumber(gmcId);
+    verify(snapshotService).findSnapshots(gmcId);
+    verify(deferralReasonService).getAllCurrentDeferralReasons();
+  }
+
+  @Test
+  void shouldRethrowFailedTraineeInfoRead() {
+    final var gmcId = faker.number().digits(8);
+    final var doctorsForDB = buildDoctorForDB(gmcId, RecommendationStatus.NOT_STARTED);
+    final var failure = new IllegalStateException("Snapshots unavailable");
+    when(doctorsForDBRepository.findById(gmcId)).thenReturn(Optional.of(doctorsForDB));
+    when(snapshotService.findSnapshots(gmcId)).thenThrow(failure);
+
+    final var thrown = assertThrows(IllegalStateException.class,
+        () -> recommendationService.getTraineeInfo(gmcId));
+    assertThat(thrown, is(failure));
+  }
+
   @Test
   void shouldReturnNullWhenUnknownVGmc() {
     final var gmcId = faker.number().digits(7);
     final var doctorsForDB = buildDoctorForDB(gmcId, RecommendationStatus.NOT_STARTED);
     when(doctorsForDBRepository.findById(gmcId)).thenReturn(Optional.empty());
     assertThat(recommendationService.getTraineeInfo(gmcId), is(nullValue()));
+    verifyNoInteractions(recommendationRepository, snapshotService, deferralReasonService);
   }
 
   @Test
@@ -467,6 +533,24 @@ class RecommendationServiceTest {
     assertThat(recommendation.getActualSubmissionDate(), is(nullValue()));
   }
 
+  @Test
+  void shouldLoadDoctorAndRecommendationsOnceWhenSavingInUnitOfWork() {
+    final var recordDTO = buildTraineeRecommendationRecordDto(null, REVALIDATE.name(), null, null,
+        null, admin1);
+
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(doctorsForDB.getSubmissionDate()).thenReturn(submissionDate);
+    when(recommendationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      recommendationService.saveRecommendation(recordDTO);
+    }
+
+    verify(doctorsForDBRepository).findById(gmcNumber1);
+    verify(recommendationRepository).findByGmcNumber(gmcNumber1);
+    verify(doctorsForDB).setDoctorStatus(DRAFT);
+  }
+
   @Test
   void shouldSaveNonEngagementRecommendationInDraftState() {
     final var recordDTO = buildTraineeRecommendationRecordDto(null, NON_ENGAGEMENT.name(), null,
@@ -555,17 +639,28 @@ class RecommendationServiceTest {
   }
 
   @Test
-  void shouldSubmitRecommendation() {
-    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, status,
-        UNDER_REVIEW);
+  void shouldClaimAndSubmitRecommendationOnCallingThread() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.submitted(claim, recommendationId);
     final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
-    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
-        .thenReturn(recommendation);
-    when(gmcClientService.submitToGmc(doctorsForDB, recommendation, userProfileDto))
-        .thenReturn(buildRecommendationV2Response(SUCCESS.getCode()));
-    recommendationService.submitRecommendation(recommendationId, gmcNumber1, userProfileDto);
-    verify(recommendationRepository).save(recommendation);
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
+    when(submissionClaimService.complete(outcome)).thenReturn(true);
+    when(submissionClaimService.doctorStatusUpdate(any())).thenCallRealMethod();
+
+    final boolean submitted = recommendationService
+        .submitRecommendation(recommendationId, gmcNumber1, userProfileDto);
+
+    assertThat(submitted, is(true));
+    verify(submissionClaimService).complete(outcome);
+    verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class),
+        eq(DoctorsForDB.class));
+    verify(gmcSubmissionExecutor, never()).execute(any());
+    verify(recommendationRepository, never()).save(any());
+    verify(doctorsForDBRepository, never()).save(any());
   }
 
   @Test
@@ -579,55 +674,206 @@ class RecommendationServiceTest {
   }
 
   @Test
-  void shouldNotUpdateRecommendationWhenSubmitFail() {
-    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, status,
-        UNDER_REVIEW);
+  void shouldRecordFailureWithoutUpdatingDoctorWhenSubmitFail() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.failed(claim, INVALID_RECOMMENDATION.getMessage());
     final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
-    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
-        .thenReturn(recommendation);
-    when(gmcClientService.submitToGmc(doctorsForDB, recommendation, userProfileDto))
-        .thenReturn(buildRecommendationV2Response(INVALID_RECOMMENDATION.getCode()));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
 
     assertThrows(RecommendationException.class, () -> recommendationService
         .submitRecommendation(recommendationId, gmcNumber1, userProfileDto));
-    verify(recommendationRepository, times(0)).save(recommendation);
+    verify(submissionClaimService).complete(outcome);
+    verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class),
+        eq(DoctorsForDB.class));
+    verify(recommendationRepository, never()).save(any());
   }
 
   @Test
-  void shouldNotUpdateRecommendationWhenSubmitAttemptOnEarlyDeferral() {
-    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, status,
-        UNDER_REVIEW);
+  void shouldReportGmcResponseWhenSubmitAttemptOnEarlyDeferral() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.failed(claim,
+        DOCTOR_DEFERRAL_ON_EARLY_DATE.getMessage());
     final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
-    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
-        .thenReturn(recommendation);
-    when(gmcClientService.submitToGmc(doctorsForDB, recommendation, userProfileDto))
-        .thenReturn(buildRecommendationV2Response(DOCTOR_DEFERRAL_ON_EARLY_DATE.getCode()));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
 
     String message = assertThrows(RecommendationException.class, () -> recommendationService
         .submitRecommendation(recommendationId, gmcNumber1, userProfileDto)).getMessage();
     assertThat(message,
         containsString("Deferral cannot be submitted before Revalidation Date - 120 days"));
-
-    verify(recommendationRepository, times(0)).save(recommendation);
+    verify(submissionClaimService).complete(outcome);
   }
 
   @Test
-  void shouldNotUpdateRecommendationWhenSubmitResponseIsNull() {
-    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, status,
-        UNDER_REVIEW);
+  void shouldReturnFalseWhenSubmitResponseIsNull() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.failed(claim, NO_RESPONSE_MESSAGE);
     final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
-    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
-        .thenReturn(recommendation);
-    when(gmcClientService.submitToGmc(doctorsForDB, recommendation, userProfileDto))
-        .thenReturn(new TryRecommendationV2Response());
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
 
     boolean actual = recommendationService
         .submitRecommendation(recommendationId, gmcNumber1, userProfileDto);
     assertThat(actual, is(false));
-    verify(recommendationRepository, times(0)).save(recommendation);
+    verify(submissionClaimService).complete(outcome);
+    verify(recommendationRepository, never()).save(any());
+  }
+
+  @Test
+  void shouldNotSubmitRecommendationWhichIsAlreadySubmitting() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
+        .thenReturn(recommendation);
+
+    final var ex = assertThrows(RecommendationException.class, () -> recommendationService
+        .submitRecommendation(recommendationId, gmcNumber1, userProfileDto));
+    assertThat(ex.getMessage(), containsString("already being submitted"));
+    verify(submissionClaimService, never()).submit(any(), any(), any());
+  }
+
+  @Test
+  void shouldThrowExceptionWhenSubmittingUnknownRecommendation() {
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+
+    final var ex = assertThrows(RecommendationException.class, () -> recommendationService
+        .submitRecommendation(recommendationId, gmcNumber1, userProfileDto));
+    assertThat(ex.getMessage(), containsString("does not exist for Doctor"));
+    verify(submissionClaimService, never()).submit(any(), any(), any());
+  }
+
+  @Test
+  void shouldNotCompleteSubmissionWhenClaimIsTakenOver() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.lost(claim);
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
+
+    final var ex = assertThrows(RecommendationException.class, () -> recommendationService
+        .submitRecommendation(recommendationId, gmcNumber1, userProfileDto));
+    assertThat(ex.getMessage(), containsString("already being submitted"));
+    verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class),
+        eq(DoctorsForDB.class));
+  }
+
+  @Test
+  void shouldClaimAndSubmitRecommendationOnWorkerPool() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.submitted(claim, recommendationId);
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.toSubmissionDto(recommendation)).thenCallRealMethod();
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
+    when(submissionClaimService.complete(outcome)).thenReturn(true);
+    when(submissionClaimService.doctorStatusUpdate(any())).thenCallRealMethod();
+    final var task = ArgumentCaptor.forClass(Runnable.class);
+
+    final var submission = recommendationService
+        .submitRecommendationAsync(recommendationId, gmcNumber1, userProfileDto);
+
+    assertThat(submission.getRecommendationStatus(), is(SUBMITTING.name()));
+    verify(submissionClaimService, never()).submit(any(), any(), any());
+    verify(gmcSubmissionExecutor).execute(task.capture());
+    task.getValue().run();
+    verify(submissionClaimService).complete(outcome);
+    verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class),
+        eq(DoctorsForDB.class));
+    verify(recommendationRepository, never()).save(any());
+    verify(doctorsForDBRepository, never()).save(any());
+  }
+
+  @Test
+  void shouldNotUpdateDoctorWhenSubmissionIsNotRecorded() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var outcome = SubmissionOutcome.failed(claim, INVALID_RECOMMENDATION.getMessage());
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    when(submissionClaimService.submit(doctorsForDB, claim, userProfileDto)).thenReturn(outcome);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(gmcSubmissionExecutor).execute(any());
+
+    recommendationService.submitRecommendationAsync(recommendationId, gmcNumber1,
+        userProfileDto);
+
+    verify(submissionClaimService).complete(outcome);
+    verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class),
+        eq(DoctorsForDB.class));
+  }
+
+  @Test
+  void shouldReportSubmissionAlreadyInFlightWithoutSubmittingAgain() {
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId,
+        SUBMITTED_TO_GMC, UNDER_REVIEW);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(recommendationRepository.findByIdAndGmcNumber(recommendationId, gmcNumber1))
+        .thenReturn(recommendation);
+    when(submissionClaimService.toSubmissionDto(recommendation)).thenCallRealMethod();
+
+    final var submission = recommendationService
+        .submitRecommendationAsync(recommendationId, gmcNumber1, userProfileDto);
+
+    assertThat(submission.getRecommendationStatus(), is(SUBMITTED_TO_GMC.name()));
+    assertThat(submission.getGmcOutcome(), is(UNDER_REVIEW.getOutcome()));
+    verify(gmcSubmissionExecutor, never()).execute(any());
+  }
+
+  @Test
+  void shouldReleaseSubmissionWhenWorkerPoolIsFull() {
+    final var recommendation = buildRecommendation(gmcNumber1, recommendationId, SUBMITTING,
+        null);
+    final var claim = new SubmissionClaim(recommendation, new ObjectId());
+    final var userProfileDto = buildRoUserProfileDto(gmcNumber1);
+    when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB));
+    when(submissionClaimService.claim(recommendationId, gmcNumber1)).thenReturn(claim);
+    doThrow(new TaskRejectedException("full")).when(gmcSubmissionExecutor).execute(any());
+
+    assertThrows(TaskRejectedException.class, () -> recommendationService
+        .submitRecommendationAsync(recommendationId, gmcNumber1, userProfileDto));
+    verify(submissionClaimService).release(claim, QUEUE_FULL_MESSAGE);
+  }
+
+  @Test
+  void shouldThrowExceptionWhenSubmissionStatusOfUnknownRecommendationRequested() {
+    assertThrows(RecommendationException.class,
+        () -> recommendationService.getSubmissionStatus(recommendationId, gmcNumber1));
+  }
+
+  @Test
+  void shouldNotSaveRecommendationWhileItIsSubmitting() {
+    final var recordDTO = buildTraineeRecommendationRecordDto(recommendationId,
+        REVALIDATE.name(), null, null, null, null);
+    when(recommendationRepository.findByGmcNumber(gmcNumber1)).thenReturn(List.of(
+        buildRecommendation(gmcNumber1, recommendationId, SUBMITTING, null)));
+
+    final var ex = assertThrows(RecommendationException.class,
+        () -> recommendationService.saveRecommendation(recordDTO));
+    assertThat(ex.getMessage(), containsString("already being submitted"));
   }
 
   @Test
@@ -870,6 +1116,28 @@ class RecommendationServiceTest {
     assertThat(result, is(NOT_STARTED));
   }
 
+  @Test
+  void shouldGetRecommendationStatusesForTraineesFromBatchedReads() {
+    final var gmcNumber2 = faker.number().digits(7);
+    final var unknownGmcNumber = faker.number().digits(7);
+    final var gmcNumbers = List.of(gmcNumber1, gmcNumber2, unknownGmcNumber);
+    final var draft = buildRecommendation(gmcNumber1, recommendationId, READY_TO_REVIEW, null);
+    final var completed = buildRecommendation(gmcNumber1, gmcRecommendationId1, COMPLETED,
+        APPROVED);
+    final var submitted = buildRecommendation(gmcNumber2, gmcRecommendationId2, SUBMITTED_TO_GMC,
+        UNDER_REVIEW);
+    when(recommendationRepository.findAllByGmcNumberIn(gmcNumbers))
+        .thenReturn(List.of(draft, completed, submitted));
+    when(doctorsForDBRepository.findAllById(gmcNumbers)).thenReturn(List.of(
+        buildDoctorForDB(gmcNumber1, NOT_STARTED), buildDoctorForDB(gmcNumber2, NOT_STARTED)));
+
+    final var statuses = recommendationService.getRecommendationStatusesForTrainees(gmcNumbers);
+
+    assertThat(statuses, is(Map.of(gmcNumber1, DRAFT, gmcNumber2, SUBMITTED_TO_GMC)));
+    verify(recommendationRepository, never()).findByGmcNumber(any());
+    verify(doctorsForDBRepository, never()).findById(any());
+  }
+
   @Test
   void shouldGetRecommendationStatusCheckDtos() {
     final var gmcId = faker.number().digits(7);
@@ -967,7 +1235,7 @@ class RecommendationServiceTest {
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB1));
     when(recommendationRepository.findByGmcNumber(gmcNumber1))
         .thenReturn(List.of(recommendation6, recommendation7));
-    when(snapshotService.getSnapshotRecommendations(doctorsForDB1))
+    when(snapshotService.toSnapshotRecommendations(eq(doctorsForDB1), anyList()))
         .thenReturn(
             List.of(TraineeRecommendationRecordDto.builder()
                 .gmcNumber(gmcNumber1)
@@ -993,7 +1261,7 @@ class RecommendationServiceTest {
     when(doctorsForDBRepository.findById(gmcNumber1)).thenReturn(Optional.of(doctorsForDB1));
     when(recommendationRepository.findByGmcNumber(gmcNumber1))
         .thenReturn(List.of(recommendation8, recommendation9));
-    when(snapshotService.getSnapshotRecommendations(doctorsForDB1)).thenReturn(
+    when(snapshotService.toSnapshotRecommendations(eq(doctorsForDB1), anyList())).thenReturn(
         List.of(TraineeRecommendationRecordDto.builder()
                 .gmcNumber(gmcNumber1)
                 .actualSubmissionDate(actualsSubmissionDate1)
@@ -1035,7 +1303,8 @@ class RecommendationServiceTest {
     );
 
     recommendationService.sendRecommendationStatusRequestToRabbit();
-    verify(rabbitTemplate).convertAndSend(exchange, routingKey, recommendationStatus);
+    verify(recommendationStatusCheckPublisher)
+        .publishToBrokerWithConfirms(List.of(recommendationStatus), 1000L);
   }
 
 
@@ -1060,15 +1329,6 @@ class RecommendationServiceTest {
     return String.format("%s %s", firstName, lastName);
   }
 
-  private TryRecommendationV2Response buildRecommendationV2Response(final String returnCode) {
-    final var tryRecommendationV2Response = new TryRecommendationV2Response();
-    final var tryRecommendationResponseCT = new TryRecommendationResponseCT();
-    tryRecommendationResponseCT.setReturnCode(returnCode);
-    tryRecommendationResponseCT.setRecommendationID(recommendationId);
-    tryRecommendationV2Response.setTryRecommendationV2Result(tryRecommendationResponseCT);
-    return tryRecommendationV2Response;
-  }
-
   private Recommendation buildRecommendation(final String gmcId, final String recommendationId,
       final RecommendationStatus status,
       final RecommendationGmcOutcome outcome) {
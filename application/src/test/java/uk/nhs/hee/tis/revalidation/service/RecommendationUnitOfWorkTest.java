@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+
+class RecommendationUnitOfWorkTest {
+
+  private static final String GMC_NUMBER = "1234567";
+
+  private final AtomicInteger doctorLoads = new AtomicInteger();
+  private final AtomicInteger recommendationLoads = new AtomicInteger();
+  private final DoctorsForDB doctor = DoctorsForDB.builder().gmcReferenceNumber(GMC_NUMBER).build();
+  private final Recommendation draft = Recommendation.builder().id("draft").gmcNumber(GMC_NUMBER)
+      .build();
+
+  private final Function<String, Optional<DoctorsForDB>> doctorLoader = gmcNumber -> {
+    doctorLoads.incrementAndGet();
+    return Optional.of(doctor);
+  };
+  private final Function<String, List<Recommendation>> recommendationLoader = gmcNumber -> {
+    recommendationLoads.incrementAndGet();
+    return List.of(draft);
+  };
+
+  @Test
+  void shouldLoadEachTimeOutsideUnitOfWork() {
+    RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader);
+    RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader);
+    RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader);
+    RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader);
+
+    assertThat(doctorLoads.get(), is(2));
+    assertThat(recommendationLoads.get(), is(2));
+  }
+
+  @Test
+  void shouldLoadOnceWithinUnitOfWork() {
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      assertThat(RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader).orElseThrow(),
+          sameInstance(doctor));
+      assertThat(RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader).orElseThrow(),
+          sameInstance(doctor));
+      RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader);
+      RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader);
+    }
+
+    assertThat(doctorLoads.get(), is(1));
+    assertThat(recommendationLoads.get(), is(1));
+  }
+
+  @Test
+  void shouldShareUnitOfWorkWhenJoinedAndEndWithOutermost() {
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      try (var joined = RecommendationUnitOfWork.begin()) {
+        RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader);
+      }
+      RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader);
+    }
+    RecommendationUnitOfWork.findDoctor(GMC_NUMBER, doctorLoader);
+
+    assertThat(doctorLoads.get(), is(2));
+  }
+
+  @Test
+  void shouldKeepCachedRecommendationsCurrentWhenSaved() {
+    final var updatedDraft = Recommendation.builder().id("draft").gmcNumber(GMC_NUMBER)
+        .comments(List.of("updated")).build();
+    final var newRecommendation = Recommendation.builder().id("new").gmcNumber(GMC_NUMBER)
+        .build();
+
+    try (var ignored = RecommendationUnitOfWork.begin()) {
+      RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader);
+      RecommendationUnitOfWork.recommendationSaved(updatedDraft);
+      RecommendationUnitOfWork.recommendationSaved(newRecommendation);
+
+      assertThat(RecommendationUnitOfWork.findRecommendations(GMC_NUMBER, recommendationLoader),
+          contains(sameInstance(updatedDraft), sameInstance(newRecommendation)));
+    }
+    assertThat(recommendationLoads.get(), is(1));
+  }
+}
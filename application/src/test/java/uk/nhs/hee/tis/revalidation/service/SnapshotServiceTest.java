@@ -143,10 +143,9 @@ class SnapshotServiceTest {
   }
 
   @Test
-  void shouldGetSnapshotRecommendations() {
+  void shouldMapSnapshotsToRecommendations() {
     when(doctorsForDB.getGmcReferenceNumber()).thenReturn(gmcNumber);
     when(doctorsForDB.getDesignatedBodyCode()).thenReturn(designatedBody);
-    when(snapshotRepository.findByGmcNumber(gmcNumber)).thenReturn(List.of(snapshot1));
     when(snapshot1.getRevalidation()).thenReturn(snapshotRevalidation1);
     when(snapshotRevalidation1.getId()).thenReturn(id);
     when(snapshotRevalidation1.getGmcRecommendationId()).thenReturn(gmcRevalidationId);
@@ -161,7 +160,8 @@ class SnapshotServiceTest {
     when(gmcClientService.checkRecommendationStatus(gmcNumber, gmcRevalidationId,
         id, designatedBody)).thenReturn(outcome);
 
-    final var snapshotRecommendations = snapshotService.getSnapshotRecommendations(doctorsForDB);
+    final var snapshotRecommendations = snapshotService.toSnapshotRecommendations(doctorsForDB,
+        List.of(snapshot1));
     assertThat(snapshotRecommendations, hasSize(1));
 
     final var traineeRecommendationRecordDto = snapshotRecommendations.get(0);
@@ -0,0 +1,278 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.INVALID_RECOMMENDATION;
+import static uk.nhs.hee.tis.revalidation.entity.GmcResponseCode.SUCCESS;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.UNDER_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.READY_TO_REVIEW;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTED_TO_GMC;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationStatus.SUBMITTING;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.NO_RESPONSE_MESSAGE;
+import static uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SUBMISSION_FAILED_MESSAGE;
+
+import com.mongodb.client.result.UpdateResult;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationResponseCT;
+import uk.nhs.hee.tis.gmc.client.generated.TryRecommendationV2Response;
+import uk.nhs.hee.tis.revalidation.dto.RoUserProfileDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionClaim;
+import uk.nhs.hee.tis.revalidation.service.SubmissionClaimService.SubmissionOutcome;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionClaimServiceTest {
+
+  private static final String GMC_NUMBER = "1111111";
+  private static final String RECOMMENDATION_ID = "rec1";
+
+  @Mock
+  private MongoTemplate mongoTemplate;
+
+  @Mock
+  private GmcClientService gmcClientService;
+
+  @Captor
+  private ArgumentCaptor<Query> queryCaptor;
+
+  @Captor
+  private ArgumentCaptor<Update> updateCaptor;
+
+  private final RoUserProfileDto userProfile = RoUserProfileDto.builder().build();
+  private final DoctorsForDB doctor = DoctorsForDB.builder().gmcReferenceNumber(GMC_NUMBER)
+      .build();
+  private SubmissionClaimService submissionClaimService;
+  private Recommendation recommendation;
+  private SubmissionClaim claim;
+
+  @BeforeEach
+  void setUp() {
+    submissionClaimService = new SubmissionClaimService(mongoTemplate, gmcClientService);
+    ReflectionTestUtils.setField(submissionClaimService, "submissionStaleAfterMinutes", 10L);
+    recommendation = Recommendation.builder().id(RECOMMENDATION_ID).gmcNumber(GMC_NUMBER)
+        .recommendationStatus(SUBMITTING).build();
+    claim = new SubmissionClaim(recommendation, new ObjectId());
+  }
+
+  @Test
+  void shouldClaimOnlyRecommendationsNotYetSubmitted() {
+    when(mongoTemplate.findAndModify(queryCaptor.capture(), updateCaptor.capture(),
+        any(FindAndModifyOptions.class), eq(Recommendation.class))).thenReturn(recommendation);
+
+    final var claimed = submissionClaimService.claim(RECOMMENDATION_ID, GMC_NUMBER);
+
+    final var criteria = queryCaptor.getValue().getQueryObject().toString();
+    assertThat(criteria, containsString("id=" + RECOMMENDATION_ID));
+    assertThat(criteria, containsString("gmcNumber=" + GMC_NUMBER));
+    assertThat(criteria, containsString("SUBMITTED_TO_GMC"));
+    final var set = setOf(updateCaptor.getValue());
+    assertThat(set.get("recommendationStatus"), is(SUBMITTING));
+    assertThat(claimed.recommendation(), is(recommendation));
+    assertThat(claimed.revision(), is(set.get("revision")));
+  }
+
+  @Test
+  void shouldReturnNullWhenRecommendationCannotBeClaimed() {
+    assertThat(submissionClaimService.claim(RECOMMENDATION_ID, GMC_NUMBER), nullValue());
+  }
+
+  @Test
+  void shouldClaimAllRequestedRecommendationsUnderOneRevision() {
+    when(mongoTemplate.find(queryCaptor.capture(), eq(Recommendation.class)))
+        .thenReturn(List.of(recommendation));
+
+    final var claimed = submissionClaimService.claimAll(Map.of(RECOMMENDATION_ID, GMC_NUMBER));
+
+    verify(mongoTemplate).updateMulti(any(Query.class), updateCaptor.capture(),
+        eq(Recommendation.class));
+    final var revision = setOf(updateCaptor.getValue()).get("revision");
+    assertThat(queryCaptor.getValue().getQueryObject().get("revision"), is(revision));
+    assertThat(claimed.get(RECOMMENDATION_ID).revision(), is(revision));
+  }
+
+  @Test
+  void shouldRenewClaimBeforeCallingGmcAndReportSubmission() {
+    when(mongoTemplate.updateFirst(queryCaptor.capture(), updateCaptor.capture(),
+        eq(Recommendation.class))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    when(gmcClientService.submitToGmc(doctor, recommendation, userProfile))
+        .thenReturn(response(SUCCESS.getCode()));
+
+    final var outcome = submissionClaimService.submit(doctor, claim, userProfile);
+
+    assertThat(queryCaptor.getValue().getQueryObject().get("revision"), is(claim.revision()));
+    final var started = setOf(updateCaptor.getValue());
+    assertThat(started.get("submissionStartedDateTime"), notNullValue());
+    assertThat(outcome.claim().revision(), is(started.get("revision")));
+    assertThat(outcome.isSubmitted(), is(true));
+    assertThat(outcome.gmcRevalidationId(), is("gmc-rec1"));
+  }
+
+  @Test
+  void shouldNotCallGmcWhenClaimIsTakenOverBeforeItStarts() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+    final var outcome = submissionClaimService.submit(doctor, claim, userProfile);
+
+    assertThat(outcome.held(), is(false));
+    verify(gmcClientService, never()).submitToGmc(any(), any(), any());
+  }
+
+  @Test
+  void shouldReportGmcRejection() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    when(gmcClientService.submitToGmc(doctor, recommendation, userProfile))
+        .thenReturn(response(INVALID_RECOMMENDATION.getCode()));
+
+    final var outcome = submissionClaimService.submit(doctor, claim, userProfile);
+
+    assertThat(outcome.isSubmitted(), is(false));
+    assertThat(outcome.failure(), is(INVALID_RECOMMENDATION.getMessage()));
+  }
+
+  @Test
+  void shouldReportMissingGmcResponse() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    when(gmcClientService.submitToGmc(doctor, recommendation, userProfile))
+        .thenReturn(new TryRecommendationV2Response());
+
+    assertThat(submissionClaimService.submit(doctor, claim, userProfile).failure(),
+        is(NO_RESPONSE_MESSAGE));
+  }
+
+  @Test
+  void shouldReportFailedGmcCall() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+    when(gmcClientService.submitToGmc(doctor, recommendation, userProfile))
+        .thenThrow(new IllegalStateException("timeout"));
+
+    assertThat(submissionClaimService.submit(doctor, claim, userProfile).failure(),
+        is(SUBMISSION_FAILED_MESSAGE));
+  }
+
+  @Test
+  void shouldRecordSubmissionOnlyWhileClaimIsHeld() {
+    when(mongoTemplate.updateFirst(queryCaptor.capture(), updateCaptor.capture(),
+        eq(Recommendation.class))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+    final var recorded = submissionClaimService.complete(
+        SubmissionOutcome.submitted(claim, "gmc-rec1"));
+
+    assertThat(recorded, is(true));
+    final var query = queryCaptor.getValue().getQueryObject();
+    assertThat(query.get("id"), is(RECOMMENDATION_ID));
+    assertThat(query.get("revision"), is(claim.revision()));
+    final var set = setOf(updateCaptor.getValue());
+    assertThat(set.get("recommendationStatus"), is(SUBMITTED_TO_GMC));
+    assertThat(set.get("outcome"), is(UNDER_REVIEW));
+    assertThat(set.get("gmcRevalidationId"), is("gmc-rec1"));
+    assertThat(set.containsKey("gmcNumber"), is(false));
+  }
+
+  @Test
+  void shouldNotReportSubmissionWhenClaimIsLostBeforeItCompletes() {
+    when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Recommendation.class)))
+        .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+    assertThat(submissionClaimService.complete(SubmissionOutcome.submitted(claim, "gmc-rec1")),
+        is(false));
+  }
+
+  @Test
+  void shouldNotWriteOutcomeWhichIsNotHeld() {
+    assertThat(submissionClaimService.complete(SubmissionOutcome.lost(claim)), is(false));
+    verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class),
+        eq(Recommendation.class));
+  }
+
+  @Test
+  void shouldReleaseClaimWithReason() {
+    when(mongoTemplate.updateFirst(queryCaptor.capture(), updateCaptor.capture(),
+        eq(Recommendation.class))).thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+    submissionClaimService.release(claim, "GMC submission queue is full");
+
+    assertThat(queryCaptor.getValue().getQueryObject().get("revision"), is(claim.revision()));
+    final var set = setOf(updateCaptor.getValue());
+    assertThat(set.get("recommendationStatus"), is(READY_TO_REVIEW));
+    assertThat(set.get("submissionFailure"), is("GMC submission queue is full"));
+  }
+
+  @Test
+  void shouldReportOutcomeOfSubmission() {
+    final var submitted = submissionClaimService.toSubmissionDto(
+        SubmissionOutcome.submitted(claim, "gmc-rec1"));
+    assertThat(submitted.getRecommendationStatus(), is(SUBMITTED_TO_GMC.name()));
+    assertThat(submitted.getGmcOutcome(), is(UNDER_REVIEW.getOutcome()));
+    assertThat(submitted.getGmcRevalidationId(), is("gmc-rec1"));
+
+    final var failed = submissionClaimService.toSubmissionDto(
+        SubmissionOutcome.failed(claim, INVALID_RECOMMENDATION.getMessage()));
+    assertThat(failed.getRecommendationStatus(), is(READY_TO_REVIEW.name()));
+    assertThat(failed.getSubmissionFailure(), is(INVALID_RECOMMENDATION.getMessage()));
+
+    final var lost = submissionClaimService.toSubmissionDto(SubmissionOutcome.lost(claim));
+    assertThat(lost.getRecommendationStatus(), is(SUBMITTING.name()));
+  }
+
+  private static Document setOf(Update update) {
+    return (Document) update.getUpdateObject().get("$set");
+  }
+
+  private TryRecommendationV2Response response(String returnCode) {
+    final var result = new TryRecommendationResponseCT();
+    result.setReturnCode(returnCode);
+    result.setRecommendationID("gmc-rec1");
+    final var response = new TryRecommendationV2Response();
+    response.setTryRecommendationV2Result(result);
+    return response;
+  }
+}
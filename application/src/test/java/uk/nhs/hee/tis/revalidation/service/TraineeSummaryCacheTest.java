@@ -0,0 +1,178 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.service.TraineeSummaryCache.CACHE_METRIC;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+import uk.nhs.hee.tis.revalidation.dto.TraineeSummaryDto;
+
+@ExtendWith(MockitoExtension.class)
+class TraineeSummaryCacheTest {
+
+  private static final long TTL_MILLIS = 30_000;
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+  @Mock
+  private Clock clock;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TraineeSummaryCache cache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    cache = new TraineeSummaryCache(meterRegistry, TTL_MILLIS, 2, clock);
+    loads = new AtomicInteger();
+    lenient().when(clock.instant()).thenReturn(NOW);
+  }
+
+  @Test
+  void shouldServeRepeatedRequestFromCache() {
+    final var first = cache.get(request("AB1", "CD2"), List.of(), this::load);
+    final var second = cache.get(request("AB1", "CD2"), List.of(), this::load);
+
+    assertThat(second, sameInstance(first));
+    assertThat(loads.get(), is(1));
+    assertThat(meterRegistry.counter(CACHE_METRIC, "result", "hit").count(), is(1.0));
+    assertThat(meterRegistry.counter(CACHE_METRIC, "result", "miss").count(), is(1.0));
+    assertThat(meterRegistry.get(CACHE_METRIC + ".size").gauge().value(), is(1.0));
+  }
+
+  @Test
+  void shouldNormaliseRequestForCacheKey() {
+    final var first = request("AB1", "CD2");
+    first.setSearchQuery("Smith ");
+    first.setSortOrder("DESC");
+    final var second = request("CD2", "AB1");
+    second.setSearchQuery("smith");
+    second.setSortOrder("desc");
+
+    cache.get(first, List.of("2", "1"), this::load);
+    cache.get(second, List.of("1", "2"), this::load);
+
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void shouldReloadWhenFiltersDiffer() {
+    final var underNotice = request("AB1");
+    underNotice.setUnderNotice(true);
+
+    cache.get(request("AB1"), List.of(), this::load);
+    cache.get(underNotice, List.of(), this::load);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void shouldReloadAfterTimeToLive() {
+    cache.get(request("AB1"), List.of(), this::load);
+    when(clock.instant()).thenReturn(NOW.plusMillis(TTL_MILLIS));
+    cache.get(request("AB1"), List.of(), this::load);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void shouldEvictListingsIncludingDesignatedBody() {
+    cache.get(request("AB1", "CD2"), List.of(), this::load);
+    cache.get(request("EF3"), List.of(), this::load);
+
+    cache.evictDesignatedBodies(List.of("CD2"));
+    cache.get(request("AB1", "CD2"), List.of(), this::load);
+    cache.get(request("EF3"), List.of(), this::load);
+
+    assertThat(loads.get(), is(3));
+  }
+
+  @Test
+  void shouldIgnoreNullDesignatedBodiesOnEvict() {
+    cache.get(request("AB1"), List.of(), this::load);
+
+    cache.evictDesignatedBodies(Arrays.asList(null, null));
+    cache.get(request("AB1"), List.of(), this::load);
+
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  void shouldDropLeastRecentlyUsedWhenFull() {
+    cache.get(request("AB1"), List.of(), this::load);
+    cache.get(request("CD2"), List.of(), this::load);
+    cache.get(request("AB1"), List.of(), this::load);
+    cache.get(request("EF3"), List.of(), this::load);
+
+    cache.get(request("AB1"), List.of(), this::load);
+    cache.get(request("CD2"), List.of(), this::load);
+
+    assertThat(loads.get(), is(4));
+  }
+
+  @Test
+  void shouldNotCacheListingLoadedDuringEviction() {
+    cache.get(request("AB1"), List.of(), () -> {
+      cache.evictDesignatedBodies(List.of("AB1"));
+      return load();
+    });
+    cache.get(request("AB1"), List.of(), this::load);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  void shouldBypassCacheWhenTimeToLiveIsZero() {
+    final var disabled = new TraineeSummaryCache(meterRegistry, 0, 2, clock);
+
+    disabled.get(request("AB1"), List.of(), this::load);
+    disabled.get(request("AB1"), List.of(), this::load);
+
+    assertThat(loads.get(), is(2));
+  }
+
+  private TraineeSummaryDto load() {
+    loads.incrementAndGet();
+    return TraineeSummaryDto.builder().build();
+  }
+
+  private static TraineeRequestDto request(String... dbcs) {
+    return TraineeRequestDto.builder().dbcs(List.of(dbcs)).sortColumn("submissionDate")
+        .sortOrder("asc").build();
+  }
+}
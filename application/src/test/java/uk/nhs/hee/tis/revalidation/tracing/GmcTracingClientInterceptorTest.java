@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.tracing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static uk.nhs.hee.tis.revalidation.tracing.GmcTracingClientInterceptor.SOAP_ACTION_TAG;
+import static uk.nhs.hee.tis.revalidation.tracing.GmcTracingClientInterceptor.SPAN_PROPERTY;
+
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.TraceContext;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.propagation.Propagator;
+import org.springframework.cloud.sleuth.propagation.Propagator.Setter;
+import org.springframework.ws.client.WebServiceIOException;
+import org.springframework.ws.context.MessageContext;
+import org.springframework.ws.soap.SoapMessage;
+import org.springframework.ws.transport.HeadersAwareSenderWebServiceConnection;
+import org.springframework.ws.transport.WebServiceConnection;
+import org.springframework.ws.transport.context.DefaultTransportContext;
+import org.springframework.ws.transport.context.TransportContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class GmcTracingClientInterceptorTest {
+
+  private static final String TRACEPARENT = "traceparent";
+
+  @Mock
+  private Tracer tracer;
+
+  @Mock
+  private Propagator propagator;
+
+  @Mock
+  private Span span;
+
+  @Mock
+  private TraceContext traceContext;
+
+  @Mock
+  private MessageContext messageContext;
+
+  @Mock
+  private SoapMessage request;
+
+  private GmcTracingClientInterceptor interceptor;
+
+  @AfterEach
+  void tearDown() {
+    TransportContextHolder.setTransportContext(null);
+  }
+
+  @Test
+  void shouldStartSpanNamedAfterSoapActionAndSendTraceHeaders() throws IOException {
+    final var connection = mock(WebServiceConnection.class,
+        withSettings().extraInterfaces(HeadersAwareSenderWebServiceConnection.class));
+    TransportContextHolder.setTransportContext(new DefaultTransportContext(connection));
+    givenSpan();
+    when(messageContext.getRequest()).thenReturn(request);
+    when(request.getSoapAction())
+        .thenReturn("\"https://webcache.gmc-uk.org/GMCWebServices/TryRecommendationV2\"");
+    when(span.context()).thenReturn(traceContext);
+    doAnswer(invocation -> {
+      final Setter<Object> setter = invocation.getArgument(2);
+      setter.set(invocation.getArgument(1), TRACEPARENT, "00-trace-span-01");
+      return null;
+    }).when(propagator).inject(eq(traceContext), any(), any());
+
+    assertThat(interceptor.handleRequest(messageContext), is(true));
+
+    verify(span).name("gmc TryRecommendationV2");
+    verify(span).tag(SOAP_ACTION_TAG, "TryRecommendationV2");
+    verify(span).start();
+    verify(messageContext).setProperty(SPAN_PROPERTY, span);
+    verify((HeadersAwareSenderWebServiceConnection) connection)
+        .addRequestHeader(TRACEPARENT, "00-trace-span-01");
+  }
+
+  @Test
+  void shouldNameSpanUnknownWithoutSoapAction() {
+    givenSpan();
+    when(messageContext.getRequest()).thenReturn(request);
+
+    interceptor.handleRequest(messageContext);
+
+    verify(span).name("gmc unknown");
+    verify(propagator, never()).inject(any(), any(), any());
+  }
+
+  @Test
+  void shouldEndSpanWithErrorAfterFailedCall() {
+    interceptor = new GmcTracingClientInterceptor(tracer, propagator);
+    final var failure = new WebServiceIOException("Read timed out");
+    when(messageContext.getProperty(SPAN_PROPERTY)).thenReturn(span);
+
+    interceptor.afterCompletion(messageContext, failure);
+
+    verify(span).error(failure);
+    verify(span).end();
+  }
+
+  @Test
+  void shouldEndSpanAfterSuccessfulCall() {
+    interceptor = new GmcTracingClientInterceptor(tracer, propagator);
+    when(messageContext.getProperty(SPAN_PROPERTY)).thenReturn(span);
+
+    interceptor.afterCompletion(messageContext, null);
+
+    verify(span, never()).error(any());
+    verify(span).end();
+  }
+
+  private void givenSpan() {
+    interceptor = new GmcTracingClientInterceptor(tracer, propagator);
+    when(tracer.nextSpan()).thenReturn(span);
+    when(span.name(anyString())).thenReturn(span);
+    when(span.remoteServiceName(anyString())).thenReturn(span);
+    when(span.tag(anyString(), anyString())).thenReturn(span);
+    when(span.start()).thenReturn(span);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.tracing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.nhs.hee.tis.revalidation.tracing.TracingMethodInterceptor.DB_SYSTEM_TAG;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.dao.DataAccessResourceFailureException;
+import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TracingMethodInterceptorTest {
+
+  @Mock
+  private Tracer tracer;
+
+  @Mock
+  private Span span;
+
+  @Mock
+  private Tracer.SpanInScope spanInScope;
+
+  @Mock
+  private MethodInvocation invocation;
+
+  private TracingMethodInterceptor interceptor;
+
+  @Test
+  void shouldWrapCallInSpanNamedAfterComponentAndMethod() throws Throwable {
+    givenSpan();
+    when(invocation.getMethod()).thenReturn(
+        DoctorsForDBRepository.class.getMethod("findByDesignatedBodyCode", String.class));
+    when(invocation.proceed()).thenReturn("result");
+
+    assertThat(interceptor.invoke(invocation), is("result"));
+
+    final var inOrder = inOrder(span, tracer, invocation, spanInScope);
+    inOrder.verify(span).name("DoctorsForDBRepository.findByDesignatedBodyCode");
+    inOrder.verify(span).tag(DB_SYSTEM_TAG, "mongodb");
+    inOrder.verify(span).start();
+    inOrder.verify(tracer).withSpan(span);
+    inOrder.verify(invocation).proceed();
+    inOrder.verify(spanInScope).close();
+    inOrder.verify(span).end();
+  }
+
+  @Test
+  void shouldRecordFailureOnSpan() throws Throwable {
+    givenSpan();
+    final var failure = new DataAccessResourceFailureException("down");
+    when(invocation.getMethod()).thenReturn(DoctorsForDBRepository.class.getMethod("count"));
+    when(invocation.proceed()).thenThrow(failure);
+
+    assertThrows(DataAccessResourceFailureException.class, () -> interceptor.invoke(invocation));
+
+    verify(span).error(failure);
+    verify(span).end();
+  }
+
+  @Test
+  void shouldNotTraceObjectMethods() throws Throwable {
+    interceptor = new TracingMethodInterceptor(tracer, "DoctorsForDBRepository", "mongodb");
+    when(invocation.getMethod()).thenReturn(Object.class.getMethod("toString"));
+    when(invocation.proceed()).thenReturn("repository");
+
+    assertThat(interceptor.invoke(invocation), is("repository"));
+
+    verifyNoInteractions(tracer);
+  }
+
+  private void givenSpan() {
+    interceptor = new TracingMethodInterceptor(tracer, "DoctorsForDBRepository", "mongodb");
+    when(tracer.nextSpan()).thenReturn(span);
+    when(span.name(anyString())).thenReturn(span);
+    when(span.tag(anyString(), anyString())).thenReturn(span);
+    when(span.start()).thenReturn(span);
+    when(tracer.withSpan(span)).thenReturn(spanInScope);
+  }
+}
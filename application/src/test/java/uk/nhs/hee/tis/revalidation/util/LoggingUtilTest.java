@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.MAX_PAYLOAD_LENGTH;
+import static uk.nhs.hee.tis.revalidation.util.LoggingUtil.abbreviate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LoggingUtilTest {
+
+  @Test
+  void shouldPrintShortPayloadInFull() {
+    assertThat(abbreviate("payload").toString(), is("payload"));
+  }
+
+  @Test
+  void shouldCutLongPayload() {
+    final var payload = "x".repeat(MAX_PAYLOAD_LENGTH + 500);
+
+    final var logged = abbreviate(payload).toString();
+
+    assertThat(logged, startsWith("x".repeat(MAX_PAYLOAD_LENGTH) + "..."));
+    assertThat(logged, endsWith("(" + payload.length() + " chars)"));
+  }
+
+  @Test
+  void shouldNotConvertPayloadUntilLogged() {
+    final var conversions = new AtomicInteger();
+    final var payload = new Object() {
+      @Override
+      public String toString() {
+        conversions.incrementAndGet();
+        return "payload";
+      }
+    };
+
+    final var argument = abbreviate(payload);
+
+    assertThat(conversions.get(), is(0));
+    assertThat(argument.toString(), is("payload"));
+    assertThat(conversions.get(), is(1));
+  }
+
+  @Test
+  void shouldPrintNullPayload() {
+    assertThat(abbreviate(null).toString(), is("null"));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.nhs.hee.tis.revalidation.exception.RecommendationException;
+
+class SearchAfterCursorUtilTest {
+
+  @Test
+  void shouldRoundTripSortValues() {
+    final List<Object> sortValues = List.of(1767225600000L, "smith", "1234567");
+
+    final var cursor = SearchAfterCursorUtil.encode(sortValues);
+
+    assertThat(cursor.matches("[A-Za-z0-9_-]+"), is(true));
+    assertThat(SearchAfterCursorUtil.decode(cursor), is(sortValues));
+  }
+
+  @Test
+  void shouldStartFromFirstPageForEmptyCursor() {
+    assertThat(SearchAfterCursorUtil.decode(""), is(List.of()));
+    assertThat(SearchAfterCursorUtil.decode(null), is(List.of()));
+  }
+
+  @Test
+  void shouldRejectMalformedCursor() {
+    assertThrows(RecommendationException.class, () -> SearchAfterCursorUtil.decode("not!base64"));
+    assertThrows(RecommendationException.class, () -> SearchAfterCursorUtil.decode("bm90anNvbg"));
+  }
+}
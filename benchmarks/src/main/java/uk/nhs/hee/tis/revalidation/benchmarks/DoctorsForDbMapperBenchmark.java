@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapperImpl;
+
+/**
+ * Mapping every doctor of a designated body collected by the nightly sync to the entity saved to
+ * DoctorsForDB, which parses the GMC formatted dates of each doctor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoctorsForDbMapperBenchmark {
+
+  private static final DateTimeFormatter GMC_DATE_FORMAT = DateTimeFormatter.ofPattern(
+      "dd/MM/yyyy");
+  private static final String[] UNDER_NOTICE = {"No", "Yes", "On Hold"};
+
+  @Param({"8000"})
+  private int doctors;
+
+  private final DoctorsForDbMapper doctorsForDbMapper = new DoctorsForDbMapperImpl();
+
+  private DoctorsForDbCollectedEvent event;
+
+  @Setup
+  public void setUp() {
+    event = collectedEvent("1-AIIDR8", doctors);
+  }
+
+  @Benchmark
+  public List<DoctorsForDB> toEntity() {
+    final var entities = new ArrayList<DoctorsForDB>(event.doctors().size());
+    for (final var doctor : event.doctors()) {
+      entities.add(doctorsForDbMapper.toEntity(doctor, true, RecommendationStatus.NOT_STARTED));
+    }
+    return entities;
+  }
+
+  /**
+   * Build a collected event for a designated body with the given number of doctors.
+   *
+   * @param designatedBodyCode the designated body the doctors are connected to
+   * @param doctors            the number of doctors in the event
+   * @return the collected event
+   */
+  static DoctorsForDbCollectedEvent collectedEvent(String designatedBodyCode, int doctors) {
+    final var requestDateTime = LocalDateTime.of(2025, 3, 31, 2, 0);
+    final var dtos = new ArrayList<DoctorsForDbDto>(doctors);
+    for (int i = 0; i < doctors; i++) {
+      final var submissionDate = LocalDate.of(2025, 4, 1).plusDays(i % 1825);
+      dtos.add(DoctorsForDbDto.builder()
+          .gmcReferenceNumber(String.valueOf(1000000 + i))
+          .doctorFirstName("First" + i)
+          .doctorLastName("Last" + i)
+          .submissionDate(submissionDate.format(GMC_DATE_FORMAT))
+          .dateAdded(submissionDate.minusYears(5).format(GMC_DATE_FORMAT))
+          .underNotice(UNDER_NOTICE[i % UNDER_NOTICE.length])
+          .sanction("No")
+          .designatedBodyCode(designatedBodyCode)
+          .gmcLastUpdatedDateTime(requestDateTime)
+          .build());
+    }
+    return new DoctorsForDbCollectedEvent(designatedBodyCode, requestDateTime, dtos);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.benchmarks;
+
+import static uk.nhs.hee.tis.revalidation.benchmarks.InMemoryRepositories.inject;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.nhs.hee.tis.revalidation.config.GmcClientConfig;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
+import uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub;
+import uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub.LatencyDistribution;
+import uk.nhs.hee.tis.revalidation.service.GmcClientService;
+
+/**
+ * Concurrent recommendation status checks against a local GMC Connect stub, covering the SOAP
+ * marshalling and HTTP client with the given GMC latency and proportion of GMC error codes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(16)
+@Fork(1)
+public class GmcClientServiceBenchmark {
+
+  @Param({"0", "50"})
+  private long latencyMillis;
+
+  @Param({"0", "0.1"})
+  private double errorRate;
+
+  private GmcConnectStub gmcStub;
+  private GmcClientService gmcClientService;
+
+  @Setup
+  public void setUp() throws IOException {
+    gmcStub = GmcConnectStub.start().withSeed(1)
+        .withLatency(LatencyDistribution.logNormal(Duration.ofMillis(latencyMillis), 0.5))
+        .withErrors(errorRate);
+
+    final var gmcClientConfig = new GmcClientConfig();
+    final var marshaller = gmcClientConfig.marshaller();
+    try {
+      marshaller.afterPropertiesSet();
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not create the GMC marshaller", e);
+    }
+    gmcClientService = new GmcClientService(
+        gmcClientConfig.webServiceTemplate(marshaller, 10_000, 60_000), new SimpleMeterRegistry());
+    inject(gmcClientService, "gmcConnectUrl", gmcStub.getUrl());
+    inject(gmcClientService, "gmcSoapBaseAction", "https://webcache.gmc-uk.org/GMCWebServices/");
+    inject(gmcClientService, "gmcUserName", "guest");
+    inject(gmcClientService, "gmcPassword", "guest");
+  }
+
+  @TearDown
+  public void tearDown() {
+    gmcStub.close();
+  }
+
+  @Benchmark
+  public RecommendationGmcOutcome checkRecommendationStatus() {
+    return gmcClientService.checkRecommendationStatus("1234567", "1000001", "recommendation-1",
+        "1-AIIDR8");
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * In-memory stand-ins for the Mongo repositories and field-injected services, so the benchmarks
+ * measure the application code rather than a database round trip.
+ */
+final class InMemoryRepositories {
+
+  private InMemoryRepositories() {
+  }
+
+  /**
+   * Create a repository answering the named query methods from memory.
+   *
+   * <p>Default methods on the repository interface run as written, so derived queries such as
+   * {@code RecommendationRepository.findByGmcNumber} are exercised end to end. Any other method
+   * fails, which keeps a benchmark from silently measuring a method it was not meant to call.
+   *
+   * @param repositoryType the repository interface to implement
+   * @param queries        the answer for each query method, keyed by method name
+   * @param <T>            the repository type
+   * @return the in-memory repository
+   */
+  static <T> T repository(Class<T> repositoryType,
+      Map<String, Function<Object[], Object>> queries) {
+    final InvocationHandler handler = (proxy, method, args) -> {
+      if (method.isDefault()) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+      final var query = queries.get(method.getName());
+      if (query != null) {
+        return query.apply(args);
+      }
+      if (method.getDeclaringClass() == Object.class) {
+        return switch (method.getName()) {
+          case "equals" -> proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          default -> "InMemory" + repositoryType.getSimpleName();
+        };
+      }
+      throw new UnsupportedOperationException(
+          repositoryType.getSimpleName() + "." + method.getName() + " is not faked");
+    };
+    return repositoryType.cast(Proxy.newProxyInstance(repositoryType.getClassLoader(),
+        new Class<?>[]{repositoryType}, handler));
+  }
+
+  /**
+   * Set an {@code @Autowired} field on a service that has no injecting constructor.
+   *
+   * @param target    the service
+   * @param fieldName the field to set
+   * @param value     the value to inject
+   */
+  static void inject(Object target, String fieldName, Object value) {
+    final var field = ReflectionUtils.findField(target.getClass(), fieldName);
+    if (field == null) {
+      throw new IllegalArgumentException(
+          target.getClass().getSimpleName() + " has no field " + fieldName);
+    }
+    ReflectionUtils.makeAccessible(field);
+    ReflectionUtils.setField(field, target, value);
+  }
+}
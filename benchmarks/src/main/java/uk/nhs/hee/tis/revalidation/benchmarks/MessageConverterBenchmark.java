@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.benchmarks;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.nhs.hee.tis.revalidation.dto.RevalidationSummaryDto;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
+import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
+import uk.nhs.hee.tis.revalidation.messages.converter.SmileMessageConverter;
+import uk.nhs.hee.tis.revalidation.messages.payloads.IndexSyncMessage;
+
+/**
+ * Round trips of the Rabbit payloads sent in bulk: the Elasticsearch sync batches and the doctors
+ * collected for a designated body by the nightly sync.
+ *
+ * <p>The converters are built as in {@code RabbitConfig}, writing compact JSON or Smile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageConverterBenchmark {
+
+  @Param({"json", "smile"})
+  private String format;
+
+  @Param({"100", "1000"})
+  private int batchSize;
+
+  private MessageConverter messageConverter;
+  private IndexSyncMessage indexSyncMessage;
+  private DoctorsForDbCollectedEvent collectedEvent;
+
+  @Setup
+  public void setUp() {
+    messageConverter = "smile".equals(format)
+        ? new SmileMessageConverter(
+        Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build())
+        : new Jackson2JsonMessageConverter(Jackson2ObjectMapperBuilder.json().build()
+            .disable(SerializationFeature.INDENT_OUTPUT), "*");
+
+    final var payload = new ArrayList<RevalidationSummaryDto>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      payload.add(RevalidationSummaryDto.builder()
+          .doctor(DoctorsForDB.builder()
+              .gmcReferenceNumber(String.valueOf(1000000 + i))
+              .doctorFirstName("First" + i)
+              .doctorLastName("Last" + i)
+              .submissionDate(LocalDate.of(2025, 4, 1).plusDays(i % 1825))
+              .dateAdded(LocalDate.of(2020, 4, 1))
+              .underNotice(UnderNotice.NO)
+              .sanction("No")
+              .doctorStatus(RecommendationStatus.NOT_STARTED)
+              .designatedBodyCode("1-AIIDR8")
+              .existsInGmc(true)
+              .build())
+          .gmcOutcome("Approved")
+          .build());
+    }
+    indexSyncMessage = IndexSyncMessage.builder().payload(payload).syncEnd(false).build();
+    collectedEvent = DoctorsForDbMapperBenchmark.collectedEvent("1-AIIDR8", batchSize);
+  }
+
+  @Benchmark
+  public Object indexSyncMessageRoundTrip() {
+    return roundTrip(indexSyncMessage);
+  }
+
+  @Benchmark
+  public Object doctorsForDbCollectedEventRoundTrip() {
+    return roundTrip(collectedEvent);
+  }
+
+  private Object roundTrip(Object payload) {
+    final var message = messageConverter.toMessage(payload, new MessageProperties());
+    return messageConverter.fromMessage(message);
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.benchmarks;
+
+import static uk.nhs.hee.tis.revalidation.benchmarks.InMemoryRepositories.inject;
+import static uk.nhs.hee.tis.revalidation.benchmarks.InMemoryRepositories.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SyncTaskExecutor;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRecommendationDto;
+import uk.nhs.hee.tis.revalidation.entity.DeferralReason;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.Recommendation;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationType;
+import uk.nhs.hee.tis.revalidation.entity.Snapshot;
+import uk.nhs.hee.tis.revalidation.entity.SnapshotRevalidation;
+import uk.nhs.hee.tis.revalidation.entity.Status;
+import uk.nhs.hee.tis.revalidation.entity.UnderNotice;
+import uk.nhs.hee.tis.revalidation.mapper.TraineeRecommendationMapperImpl;
+import uk.nhs.hee.tis.revalidation.repository.DeferralReasonRepository;
+import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.repository.RecommendationRepository;
+import uk.nhs.hee.tis.revalidation.repository.SnapshotRepository;
+import uk.nhs.hee.tis.revalidation.service.DeferralReasonService;
+import uk.nhs.hee.tis.revalidation.service.GmcClientService;
+import uk.nhs.hee.tis.revalidation.service.RecommendationServiceImpl;
+import uk.nhs.hee.tis.revalidation.service.SnapshotService;
+
+/**
+ * Fetching a doctor's recommendation history, which merges the current recommendations with the
+ * legacy snapshots, builds a DTO for each and sorts them most recent first.
+ *
+ * <p>The GMC status check made for each snapshot answers from memory, so the numbers cover the
+ * mapping and sorting only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationServiceBenchmark {
+
+  private static final String GMC_NUMBER = "1234567";
+  private static final String DESIGNATED_BODY = "1-AIIDR8";
+  private static final LocalDate SUBMISSION_DATE = LocalDate.of(2025, 3, 31);
+
+  @Param({"5", "50", "500"})
+  private int recommendations;
+
+  private RecommendationServiceImpl recommendationService;
+
+  @Setup
+  public void setUp() {
+    final var doctor = DoctorsForDB.builder()
+        .gmcReferenceNumber(GMC_NUMBER)
+        .doctorFirstName("Ada")
+        .doctorLastName("Lovelace")
+        .designatedBodyCode(DESIGNATED_BODY)
+        .submissionDate(SUBMISSION_DATE)
+        .underNotice(UnderNotice.YES)
+        .doctorStatus(RecommendationStatus.NOT_STARTED)
+        .build();
+    // half are current recommendations and half legacy snapshots, as for a long-serving doctor
+    final var currentRecommendations = currentRecommendations(recommendations / 2);
+    final var snapshots = snapshots(recommendations - recommendations / 2);
+    final var deferralReasons = List.of(DeferralReason.builder()
+        .code("1").reason("Insufficient evidence").status(Status.CURRENT)
+        .deferralSubReasons(List.of(
+            DeferralReason.builder().code("1").reason("Appraisal activity").build()))
+        .build());
+
+    final var gmcClientService = new GmcClientService(null, new SimpleMeterRegistry()) {
+      @Override
+      public RecommendationGmcOutcome checkRecommendationStatus(String gmcNumber,
+          String gmcRecommendationId, String recommendationId, String designatedBody) {
+        return RecommendationGmcOutcome.APPROVED;
+      }
+    };
+    final var deferralReasonService = new DeferralReasonService();
+    inject(deferralReasonService, "deferralReasonRepository",
+        repository(DeferralReasonRepository.class,
+            Map.of("findAllByStatus", args -> deferralReasons)));
+    final var snapshotService = new SnapshotService();
+    inject(snapshotService, "snapshotRepository", repository(SnapshotRepository.class,
+        Map.of("findByGmcNumber", args -> snapshots)));
+    inject(snapshotService, "deferralReasonService", deferralReasonService);
+    inject(snapshotService, "gmcClientService", gmcClientService);
+
+    recommendationService = new RecommendationServiceImpl(
+        repository(DoctorsForDBRepository.class, Map.of("findById", args -> Optional.of(doctor))),
+        snapshotService,
+        repository(RecommendationRepository.class,
+            Map.of("findAllByGmcNumberAndOutcomeNotIn", args -> currentRecommendations)),
+        deferralReasonService, null, null, null,
+        new TraineeRecommendationMapperImpl(), null,
+        // the in-memory reads take no time to overlap, so this measures the mapping alone
+        new SyncTaskExecutor());
+  }
+
+  @Benchmark
+  public TraineeRecommendationDto getTraineeInfo() {
+    return recommendationService.getTraineeInfo(GMC_NUMBER);
+  }
+
+  private static List<Recommendation> currentRecommendations(int count) {
+    final var recommendations = new ArrayList<Recommendation>(count);
+    for (int i = 0; i < count; i++) {
+      // every tenth recommendation is a draft with no submission date, sorted first
+      final var actualSubmissionDate = i % 10 == 0 ? null : SUBMISSION_DATE.minusDays(i * 37L);
+      recommendations.add(Recommendation.builder()
+          .id("recommendation-" + i)
+          .gmcNumber(GMC_NUMBER)
+          .outcome(RecommendationGmcOutcome.UNDER_REVIEW)
+          .recommendationType(RecommendationType.values()[i % RecommendationType.values().length])
+          .recommendationStatus(RecommendationStatus.READY_TO_REVIEW)
+          .gmcSubmissionDate(SUBMISSION_DATE)
+          .actualSubmissionDate(actualSubmissionDate)
+          .comments(List.of("Comment " + i))
+          .admin("admin@example.com")
+          .build());
+    }
+    return recommendations;
+  }
+
+  private static List<Snapshot> snapshots(int count) {
+    final var snapshots = new ArrayList<Snapshot>(count);
+    for (int i = 0; i < count; i++) {
+      final var submissionDate = SUBMISSION_DATE.minusYears(5).minusDays(i * 41L);
+      snapshots.add(Snapshot.builder()
+          .gmcNumber(GMC_NUMBER)
+          .revalidation(SnapshotRevalidation.builder()
+              .id("snapshot-" + i)
+              .proposedOutcomeCode(RecommendationType.REVALIDATE.name())
+              .revalidationStatusCode(RecommendationStatus.COMPLETED.name())
+              .gmcRecommendationId(String.valueOf(100000 + i))
+              .deferralDate(submissionDate.plusDays(120).toString())
+              .gmcSubmissionDateTime(submissionDate + " 09:30:00")
+              .submissionDate(submissionDate.toString())
+              .comments(List.of("Legacy comment " + i))
+              .admin("admin@example.com")
+              .build())
+          .build());
+    }
+    return snapshots;
+  }
+}
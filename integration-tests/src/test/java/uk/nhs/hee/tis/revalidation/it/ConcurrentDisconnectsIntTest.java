@@ -24,6 +24,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 
 import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -45,8 +46,10 @@ import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
 import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
 import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
 import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
+import uk.nhs.hee.tis.revalidation.repository.ConnectionLogOutboxRepository;
 import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
 import uk.nhs.hee.tis.revalidation.service.DoctorsForDBService;
+import uk.nhs.hee.tis.revalidation.service.TraineeSummaryCache;
 
 @Slf4j
 @Disabled("Used for verifying the concept so hasn't been configured to run as part of CI.")
@@ -60,6 +63,9 @@ class ConcurrentDisconnectsIntTest {
   @Autowired
   DoctorsForDBRepository repository;
 
+  @Autowired
+  ConnectionLogOutboxRepository outboxRepository;
+
   @Autowired
   DoctorsForDbMapper mapper;
   private DoctorsForDbCollectedEvent db1Event;
@@ -107,7 +113,9 @@ class ConcurrentDisconnectsIntTest {
   @BeforeEach
   void setData() {
     LocalDateTime setupDateTime = LocalDateTime.now();
-    testObj = new DoctorsForDBService(repository, null, null, null, null, null, null);
+    testObj = new DoctorsForDBService(repository, null, null, null, null,
+        outboxRepository, new TraineeSummaryCache(new SimpleMeterRegistry(), 0, 1),
+        new SimpleMeterRegistry());
     ArrayList<DoctorsForDbDto> db1Doctors = new ArrayList<>();
     ArrayList<DoctorsForDbDto> db2Doctors = new ArrayList<>();
     expectedNoDbDoctors = new ArrayList<>();
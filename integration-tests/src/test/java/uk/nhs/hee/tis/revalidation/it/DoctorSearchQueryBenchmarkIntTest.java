@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.it;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.javafaker.Faker;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import uk.nhs.hee.tis.revalidation.RevalidationApplication;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
+import uk.nhs.hee.tis.revalidation.repository.DoctorSearchQueryBuilder;
+
+/**
+ * Compares doctor search latency between {@link DoctorSearchQueryBuilder} and the string template
+ * that sent every clause, against a scratch index in a running Elasticsearch. Run with
+ * {@code mvn -pl integration-tests test -Dtest=DoctorSearchQueryBenchmarkIntTest -Dbenchmark=true}
+ * and optionally {@code -Dbenchmark.doctors=50000 -Dbenchmark.iterations=500}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = RevalidationApplication.class)
+@TestPropertySource("classpath:application-test.yml")
+@ActiveProfiles("test")
+class DoctorSearchQueryBenchmarkIntTest {
+
+  private static final IndexCoordinates INDEX = IndexCoordinates.of("recommendations-benchmark");
+  private static final List<String> DBCS = List.of("1-AIIDR8", "1-AIIDVS", "1-AIIDWA");
+  private static final int DOCTORS = Integer.getInteger("benchmark.doctors", 20_000);
+  private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+  private static final int WARMUP_ITERATIONS = ITERATIONS / 4;
+
+  // The former repository template: every clause is sent, empty ones matching everything.
+  private static final String TEMPLATE = """
+      {"bool":{"must_not":{"match":{"gmcReferenceNumber":"%s"}},"filter":[
+        {"terms":{"designatedBody":%s}},
+        {"term":{"existsInGmc":true}},
+        {"multi_match":{"query":"%s","type":"cross_fields","operator":"and",
+          "fields":["doctorFirstName.prefix","doctorLastName.prefix","gmcReferenceNumber.prefix"],
+          "zero_terms_query":"all"}},
+        {"match_phrase":{"programmeName":{"query":"%s","zero_terms_query":"all"}}},
+        {"match_phrase":{"admin":{"query":"%s","zero_terms_query":"all"}}}
+      ]}}
+      """;
+
+  private final Faker faker = new Faker();
+
+  @Autowired
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private IndexOperations indexOperations;
+
+  @BeforeEach
+  void setup() {
+    indexOperations = elasticsearchOperations.indexOps(INDEX);
+    if (indexOperations.exists()) {
+      indexOperations.delete();
+    }
+    final var entityIndexOperations = elasticsearchOperations.indexOps(RecommendationView.class);
+    indexOperations.create(entityIndexOperations.createSettings(),
+        entityIndexOperations.createMapping());
+
+    final List<RecommendationView> doctors = new ArrayList<>();
+    for (int i = 0; i < DOCTORS; i++) {
+      doctors.add(RecommendationView.builder().id(String.valueOf(i))
+          .gmcReferenceNumber(String.valueOf(1_000_000 + i))
+          .doctorFirstName(faker.name().firstName()).doctorLastName(faker.name().lastName())
+          .designatedBody(faker.options().option("1-AIIDR8", "1-AIIDVS", "1-AIIDWA", "1-AIIDHJ"))
+          .programmeName(faker.options().option("General Practice", "Cardiology", "Paediatrics"))
+          .admin(faker.internet().emailAddress()).gmcStatus(faker.options().option("Approved",
+              "Under Review")).tisStatus("NOT_STARTED")
+          .underNotice(faker.options().option("YES", "NO")).existsInGmc(true).build());
+      if (doctors.size() == 1000) {
+        elasticsearchOperations.save(doctors, INDEX);
+        doctors.clear();
+      }
+    }
+    elasticsearchOperations.save(doctors, INDEX);
+    indexOperations.refresh();
+  }
+
+  @AfterEach
+  void tearDown() {
+    indexOperations.delete();
+  }
+
+  @Test
+  void shouldMatchTemplateResultsAndReportLatency() {
+    final List<String> hiddenGmcIds = IntStream.range(0, 50)
+        .mapToObj(i -> String.valueOf(1_000_000 + i * 7)).toList();
+    final var pageable = PageRequest.of(0, 20);
+
+    benchmark("no filters", TraineeRequestDto.builder().searchQuery("").dbcs(DBCS)
+        .programmeName("").admin("").build(), hiddenGmcIds, pageable);
+    benchmark("name search", TraineeRequestDto.builder().searchQuery("ja").dbcs(DBCS)
+        .programmeName("").admin("").build(), hiddenGmcIds, pageable);
+    benchmark("programme filter", TraineeRequestDto.builder().searchQuery("").dbcs(DBCS)
+        .programmeName("General Practice").admin("").build(), hiddenGmcIds, pageable);
+  }
+
+  private void benchmark(String scenario, TraineeRequestDto requestDto,
+      List<String> hiddenGmcIds, Pageable pageable) {
+    final Query builderQuery = DoctorSearchQueryBuilder.forRequest(requestDto)
+        .excludingGmcIds(hiddenGmcIds).build(pageable);
+    final Query templateQuery = new StringQuery(String.format(TEMPLATE,
+        String.join(" ", hiddenGmcIds), toJsonArray(requestDto.getDbcs()),
+        requestDto.getSearchQuery(), requestDto.getProgrammeName(), requestDto.getAdmin()),
+        pageable);
+    templateQuery.setTrackTotalHits(true);
+
+    final var builderHits = search(builderQuery);
+    final var templateHits = search(templateQuery);
+    assertThat(scenario, builderHits.getTotalHits(), is(templateHits.getTotalHits()));
+
+    final var builderNanos = time(() -> search(builderQuery));
+    final var templateNanos = time(() -> search(templateQuery));
+    log.info("{} ({} hits): builder p50 {}us p95 {}us, template p50 {}us p95 {}us", scenario,
+        builderHits.getTotalHits(), percentile(builderNanos, 50), percentile(builderNanos, 95),
+        percentile(templateNanos, 50), percentile(templateNanos, 95));
+  }
+
+  private SearchHits<RecommendationView> search(Query query) {
+    return elasticsearchOperations.search(query, RecommendationView.class, INDEX);
+  }
+
+  private long[] time(Supplier<SearchHits<RecommendationView>> search) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      search.get();
+    }
+    final var nanos = new long[ITERATIONS];
+    for (int i = 0; i < ITERATIONS; i++) {
+      final var start = System.nanoTime();
+      search.get();
+      nanos[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(nanos);
+    return nanos;
+  }
+
+  private static long percentile(long[] sortedNanos, int percentile) {
+    return sortedNanos[(sortedNanos.length - 1) * percentile / 100] / 1000;
+  }
+
+  private static String toJsonArray(List<String> values) {
+    return values.stream().map(value -> "\"" + value + "\"").toList().toString();
+  }
+}
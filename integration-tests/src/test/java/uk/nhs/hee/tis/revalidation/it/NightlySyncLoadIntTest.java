@@ -0,0 +1,254 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.it;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.github.javafaker.Faker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import uk.nhs.hee.tis.revalidation.RevalidationApplication;
+import uk.nhs.hee.tis.revalidation.dto.DoctorsForDbDto;
+import uk.nhs.hee.tis.revalidation.entity.ConnectionLogOutbox;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationStatus;
+import uk.nhs.hee.tis.revalidation.event.DoctorsForDbCollectedEvent;
+import uk.nhs.hee.tis.revalidation.mapper.DoctorsForDbMapper;
+
+/**
+ * Load test of the nightly GMC sync: publishes a {@link DoctorsForDbCollectedEvent} for each
+ * configured designated body to the collected queue and waits for the real listener to update
+ * every doctor and disconnect the stale ones. Reports throughput, the per-doctor update latency,
+ * the Mongo operations and the heap used, so sync changes can be compared against a baseline.
+ *
+ * <p>Runs against the Mongo and Rabbit started by {@code scripts/startup.sh}; use a scratch
+ * database, as the stale doctor phase disconnects any other doctors in the same designated
+ * bodies. The synthetic doctors have 8 digit GMC numbers starting with 9 and are removed
+ * afterwards. Run with
+ * {@code mvn -pl integration-tests test -Dtest=NightlySyncLoadIntTest -Dloadtest=true} and
+ * optionally {@code -Dloadtest.doctors=8000 -Dloadtest.designatedBodies=13}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(classes = RevalidationApplication.class, properties = {
+    "management.metrics.distribution.percentiles.reval.trainee.update=0.5,0.99",
+    "management.metrics.distribution.expiry.reval.trainee.update=1h"})
+@TestPropertySource("classpath:application-test.yml")
+@ActiveProfiles("test")
+class NightlySyncLoadIntTest {
+
+  private static final int DOCTORS = Integer.getInteger("loadtest.doctors", 8_000);
+  private static final int DESIGNATED_BODIES = Integer.getInteger("loadtest.designatedBodies", 13);
+  private static final Duration TIMEOUT = Duration.ofMinutes(
+      Integer.getInteger("loadtest.timeoutMinutes", 30));
+  private static final String SYNTHETIC_GMC_NUMBERS = "^9\\d{7}$";
+  private static final DateTimeFormatter GMC_DATE_FORMAT = DateTimeFormatter.ofPattern(
+      "dd/MM/yyyy");
+
+  private final Faker faker = new Faker();
+
+  @Value("${app.gmc.designatedBodies}")
+  private List<String> designatedBodies;
+
+  @Value("${app.rabbit.reval.queue.doctorsfordb.collected.recommendation}")
+  private String collectedQueue;
+
+  @Autowired
+  private RabbitTemplate rabbitTemplate;
+
+  @Autowired
+  private AmqpAdmin amqpAdmin;
+
+  @Autowired
+  private MongoTemplate mongoTemplate;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private DoctorsForDbMapper doctorsForDbMapper;
+
+  private List<DoctorsForDbCollectedEvent> events;
+
+  @BeforeEach
+  void setup() {
+    amqpAdmin.declareQueue(QueueBuilder.durable(collectedQueue).build());
+    cleanUp();
+
+    // the previous night's sync, so that the measured run takes the usual update path
+    final var previousSync = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.MILLIS);
+    final var requestDateTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+    events = new ArrayList<>();
+    final var dbcs = designatedBodies.subList(0, Math.min(DESIGNATED_BODIES,
+        designatedBodies.size()));
+    for (int d = 0; d < dbcs.size(); d++) {
+      final var doctors = new ArrayList<DoctorsForDbDto>(DOCTORS);
+      for (int i = 0; i < DOCTORS; i++) {
+        doctors.add(doctor(90_000_000 + d * 100_000 + i, dbcs.get(d), requestDateTime));
+      }
+      events.add(new DoctorsForDbCollectedEvent(dbcs.get(d), requestDateTime, doctors));
+      mongoTemplate.insertAll(doctors.stream().map(dto -> {
+        final var entity = doctorsForDbMapper.toEntity(dto, true, RecommendationStatus.COMPLETED);
+        entity.setGmcLastUpdatedDateTime(previousSync);
+        return entity;
+      }).toList());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    cleanUp();
+  }
+
+  @Test
+  void shouldSyncAllDesignatedBodiesAndReportLoad() throws InterruptedException {
+    final var totalDoctors = events.stream().mapToInt(event -> event.doctors().size()).sum();
+    final var staleRunsBefore = staleRuns();
+    final var opCountersBefore = opCounters();
+    final var gcBefore = gcStats();
+    ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+
+    final var start = System.nanoTime();
+    events.forEach(event -> rabbitTemplate.convertAndSend("", collectedQueue, event));
+    final var deadline = start + TIMEOUT.toNanos();
+    while (staleRuns() - staleRunsBefore < events.size() && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(200);
+    }
+    final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    final var requestDateTime = events.get(0).requestDateTime();
+    final var syncedDoctors = mongoTemplate.count(query(where("_id").regex(SYNTHETIC_GMC_NUMBERS)
+        .and("gmcLastUpdatedDateTime").is(requestDateTime)), DoctorsForDB.class);
+    assertThat(syncedDoctors, is((long) totalDoctors));
+
+    log.info("Synced {} doctors in {} designated bodies in {}ms: {} doctors/s", totalDoctors,
+        events.size(), elapsed.toMillis(), totalDoctors * 1000L / Math.max(1, elapsed.toMillis()));
+    events.forEach(event -> logUpdateLatency(event.designatedBodyCode()));
+    log.info("Mongo operations: {}", delta(opCountersBefore, opCounters()));
+    final var gcAfter = gcStats();
+    log.info("Heap: peak {}MB, {} collections taking {}ms", peakHeapBytes() / (1024 * 1024),
+        gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+  }
+
+  private DoctorsForDbDto doctor(int gmcNumber, String designatedBody,
+      LocalDateTime requestDateTime) {
+    final var submissionDate = LocalDate.now().plusDays(faker.number().numberBetween(1, 1825));
+    return DoctorsForDbDto.builder()
+        .gmcReferenceNumber(String.valueOf(gmcNumber))
+        .doctorFirstName(faker.name().firstName())
+        .doctorLastName(faker.name().lastName())
+        .submissionDate(submissionDate.format(GMC_DATE_FORMAT))
+        .dateAdded(submissionDate.minusYears(5).format(GMC_DATE_FORMAT))
+        .underNotice(faker.options().option("No", "Yes"))
+        .sanction("No")
+        .designatedBodyCode(designatedBody)
+        .gmcLastUpdatedDateTime(requestDateTime)
+        .build();
+  }
+
+  private void logUpdateLatency(String designatedBody) {
+    final Timer timer = meterRegistry.find("reval.trainee.update")
+        .tag("designatedBody", designatedBody).timer();
+    if (timer == null) {
+      log.warn("No doctor updates recorded for {}", designatedBody);
+      return;
+    }
+    final Map<Double, Double> percentiles = new HashMap<>();
+    for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+      percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+    }
+    log.info("{}: {} updates, mean {}ms, p50 {}ms, p99 {}ms, max {}ms", designatedBody,
+        timer.count(), timer.mean(TimeUnit.MILLISECONDS), percentiles.get(0.5),
+        percentiles.get(0.99), timer.max(TimeUnit.MILLISECONDS));
+  }
+
+  private long staleRuns() {
+    return meterRegistry.find("reval.doctors.stale").timers().stream().mapToLong(Timer::count)
+        .sum();
+  }
+
+  private Document opCounters() {
+    return mongoTemplate.executeCommand(new Document("serverStatus", 1)).get("opcounters",
+        Document.class);
+  }
+
+  private static Map<String, Long> delta(Document before, Document after) {
+    final Map<String, Long> delta = new HashMap<>();
+    after.forEach((operation, count) -> delta.put(operation,
+        ((Number) count).longValue() - before.get(operation, Number.class).longValue()));
+    return delta;
+  }
+
+  private static long[] gcStats() {
+    final var stats = new long[2];
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      stats[0] += Math.max(0, gc.getCollectionCount());
+      stats[1] += Math.max(0, gc.getCollectionTime());
+    }
+    return stats;
+  }
+
+  private static long peakHeapBytes() {
+    return ManagementFactory.getMemoryPoolMXBeans().stream()
+        .filter(pool -> pool.getType() == MemoryType.HEAP)
+        .mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+  }
+
+  private void cleanUp() {
+    mongoTemplate.remove(query(where("_id").regex(SYNTHETIC_GMC_NUMBERS)), DoctorsForDB.class);
+    mongoTemplate.remove(query(where("connectionLog.gmcId").regex(SYNTHETIC_GMC_NUMBERS)),
+        ConnectionLogOutbox.class);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.it;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import uk.nhs.hee.tis.revalidation.RevalidationApplication;
+import uk.nhs.hee.tis.revalidation.dto.TraineeRequestDto;
+import uk.nhs.hee.tis.revalidation.entity.RecommendationView;
+import uk.nhs.hee.tis.revalidation.repository.DoctorSearchQueryBuilder;
+
+/**
+ * Checks that the keyword filters match values stored in any case, against a scratch index with
+ * the {@link RecommendationView} mapping.
+ */
+@SpringBootTest(classes = RevalidationApplication.class)
+@TestPropertySource("classpath:application-test.yml")
+@ActiveProfiles("test")
+class RecommendationViewNormalizerIT {
+
+  private static final IndexCoordinates INDEX = IndexCoordinates.of("recommendations-normalizer");
+
+  @Autowired
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private IndexOperations indexOperations;
+
+  @BeforeEach
+  void setup() {
+    indexOperations = elasticsearchOperations.indexOps(INDEX);
+    if (indexOperations.exists()) {
+      indexOperations.delete();
+    }
+    final var entityIndexOperations = elasticsearchOperations.indexOps(RecommendationView.class);
+    indexOperations.create(entityIndexOperations.createSettings(),
+        entityIndexOperations.createMapping());
+    elasticsearchOperations.save(List.of(
+        doctor("1", "1-AIIDWQ", "Approved", "NOT_STARTED", "YES"),
+        doctor("2", "1-aiidwq", "APPROVED", "not_started", "Yes"),
+        doctor("3", "1-AiIdWq", "approved", "Not_Started", "yes"),
+        doctor("4", "1-AIIDHJ", "Under Review", "DRAFT", "NO")), INDEX);
+    indexOperations.refresh();
+  }
+
+  @AfterEach
+  void tearDown() {
+    indexOperations.delete();
+  }
+
+  @Test
+  void shouldMatchDesignatedBodyStoredInAnyCase() {
+    assertThat(searchIds(TraineeRequestDto.builder().dbcs(List.of("1-AIIDWQ")).build()),
+        containsInAnyOrder("1", "2", "3"));
+  }
+
+  @Test
+  void shouldMatchStatusesStoredInAnyCase() {
+    assertThat(searchIds(TraineeRequestDto.builder().dbcs(List.of("1-AIIDWQ", "1-AIIDHJ"))
+            .gmcStatus("Approved").tisStatus("NOT_STARTED").build()),
+        containsInAnyOrder("1", "2", "3"));
+  }
+
+  @Test
+  void shouldMatchUnderNoticeStoredInAnyCase() {
+    assertThat(searchIds(TraineeRequestDto.builder().dbcs(List.of("1-AIIDWQ", "1-AIIDHJ"))
+            .underNotice(true).build()),
+        containsInAnyOrder("1", "2", "3"));
+  }
+
+  private List<String> searchIds(TraineeRequestDto requestDto) {
+    final var query = DoctorSearchQueryBuilder.forRequest(requestDto).build(PageRequest.of(0, 10));
+    return elasticsearchOperations.search(query, RecommendationView.class, INDEX).stream()
+        .map(SearchHit::getId).toList();
+  }
+
+  private static RecommendationView doctor(String id, String designatedBody, String gmcStatus,
+      String tisStatus, String underNotice) {
+    return RecommendationView.builder().id(id).gmcReferenceNumber("100000" + id)
+        .doctorFirstName("Jane").doctorLastName("Doe").designatedBody(designatedBody)
+        .gmcStatus(gmcStatus).tisStatus(tisStatus).underNotice(underNotice).existsInGmc(true)
+        .build();
+  }
+}
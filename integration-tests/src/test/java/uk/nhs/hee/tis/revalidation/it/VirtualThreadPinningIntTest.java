@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright 2026 Crown Copyright (NHS England)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package uk.nhs.hee.tis.revalidation.it;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static uk.nhs.hee.tis.revalidation.entity.RecommendationGmcOutcome.APPROVED;
+
+import com.github.javafaker.Faker;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import uk.nhs.hee.tis.revalidation.RevalidationApplication;
+import uk.nhs.hee.tis.revalidation.config.VirtualThreads;
+import uk.nhs.hee.tis.revalidation.entity.DoctorsForDB;
+import uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub;
+import uk.nhs.hee.tis.revalidation.gmc.GmcConnectStub.LatencyDistribution;
+import uk.nhs.hee.tis.revalidation.repository.DoctorsForDBRepository;
+import uk.nhs.hee.tis.revalidation.service.GmcClientService;
+
+/**
+ * Checks that virtual threads are not pinned to their carrier while blocked in the GMC SOAP and
+ * Mongo client paths, by recording {@code jdk.VirtualThreadPinned} events while many virtual
+ * threads call them at once, and that every call succeeded. The GMC calls go to a local stub
+ * answering after a delay, and count as successful only when they return the stub's status.
+ * Needs a Java 21 runtime and a running Mongo; run with
+ * {@code mvn -pl integration-tests test -Dtest=VirtualThreadPinningIntTest -Dpinning=true} and
+ * optionally {@code -Dpinning.threads=500 -Dpinning.gmcLatencyMillis=200}.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "pinning", matches = "true")
+@EnabledIf("uk.nhs.hee.tis.revalidation.config.VirtualThreads#isSupported")
+@SpringBootTest(classes = RevalidationApplication.class,
+    properties = "app.threads.virtual.enabled=true")
+@TestPropertySource("classpath:application-test.yml")
+@ActiveProfiles("test")
+class VirtualThreadPinningIntTest {
+
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+  private static final String THREAD_NAME_PREFIX = "pinning-";
+  private static final int THREADS = Integer.getInteger("pinning.threads", 200);
+  private static final long GMC_LATENCY_MILLIS = Long.getLong("pinning.gmcLatencyMillis", 100);
+
+  private static GmcConnectStub gmcStub;
+
+  private final Faker faker = new Faker();
+  private final List<String> gmcNumbers = new ArrayList<>();
+
+  @Autowired
+  private GmcClientService gmcClientService;
+
+  @Autowired
+  private DoctorsForDBRepository doctorsForDBRepository;
+
+  @BeforeAll
+  static void startGmcStub() throws IOException {
+    gmcStub = GmcConnectStub.start()
+        .withLatency(LatencyDistribution.fixed(Duration.ofMillis(GMC_LATENCY_MILLIS)));
+  }
+
+  @AfterAll
+  static void stopGmcStub() {
+    gmcStub.close();
+  }
+
+  @DynamicPropertySource
+  static void gmcProperties(DynamicPropertyRegistry registry) {
+    registry.add("app.gmc.url", gmcStub::getUrl);
+  }
+
+  @AfterEach
+  void tearDown() {
+    doctorsForDBRepository.deleteAllById(gmcNumbers);
+  }
+
+  @Test
+  void shouldNotPinVirtualThreadsOnGmcCalls() throws Exception {
+    // a failed status check is logged and reported as under review, so only the stub's status
+    // shows that the call went through
+    final var outcomes = assertNoPinning(() -> gmcClientService.checkRecommendationStatus(
+        faker.number().digits(7), faker.number().digits(10), faker.number().digits(10),
+        "1-AIIDWA"));
+
+    assertThat(outcomes, hasSize(THREADS));
+    assertThat(outcomes, everyItem(is(APPROVED)));
+  }
+
+  @Test
+  void shouldNotPinVirtualThreadsOnMongoCalls() throws Exception {
+    final var found = assertNoPinning(() -> {
+      final var gmcNumber = faker.number().digits(8);
+      synchronized (gmcNumbers) {
+        gmcNumbers.add(gmcNumber);
+      }
+      doctorsForDBRepository.save(DoctorsForDB.builder().gmcReferenceNumber(gmcNumber)
+          .doctorFirstName(faker.name().firstName()).designatedBodyCode("1-AIIDWA").build());
+      return doctorsForDBRepository.findById(gmcNumber).isPresent();
+    });
+
+    assertThat(found, hasSize(THREADS));
+    assertThat(found, everyItem(is(true)));
+  }
+
+  private <T> List<T> assertNoPinning(Callable<T> call) throws Exception {
+    final var jfrFile = Files.createTempFile("virtual-thread-pinning", ".jfr");
+    try (var recording = new Recording()) {
+      recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+      recording.start();
+      final var results = runOnVirtualThreads(call);
+      recording.stop();
+      recording.dump(jfrFile);
+
+      final var pinned = RecordingFile.readAllEvents(jfrFile).stream()
+          .filter(event -> PINNED_EVENT.equals(event.getEventType().getName()))
+          .filter(event -> event.getThread() != null
+              && event.getThread().getJavaName().startsWith(THREAD_NAME_PREFIX))
+          .toList();
+      pinned.forEach(event -> log.error("Virtual thread {} pinned for {}:\n{}",
+          event.getThread().getJavaName(), event.getDuration(), stackTrace(event)));
+      assertThat(pinned, is(empty()));
+      return results;
+    } finally {
+      Files.deleteIfExists(jfrFile);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> List<T> runOnVirtualThreads(Callable<T> call) throws InterruptedException {
+    final var threadFactory = VirtualThreads.threadFactory(THREAD_NAME_PREFIX);
+    final var threads = new ArrayList<Thread>();
+    final var results = new Object[THREADS];
+    final var failures = new Exception[THREADS];
+    final var started = System.nanoTime();
+    for (int i = 0; i < THREADS; i++) {
+      final var index = i;
+      final var thread = threadFactory.newThread(() -> {
+        try {
+          results[index] = call.call();
+        } catch (Exception e) {
+          failures[index] = e;
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    for (final var thread : threads) {
+      thread.join();
+    }
+    log.info("{} virtual threads finished in {} ms", THREADS,
+        Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+    final var failed = Arrays.stream(failures).filter(Objects::nonNull).toList();
+    failed.forEach(failure -> log.error("Call on a virtual thread failed", failure));
+    assertThat(failed, is(empty()));
+    return Arrays.stream(results).map(result -> (T) result).toList();
+  }
+
+  private static String stackTrace(RecordedEvent event) {
+    return event.getStackTrace() == null ? "  no stack trace" : event.getStackTrace().getFrames()
+        .stream().map(VirtualThreadPinningIntTest::describe)
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static String describe(RecordedFrame frame) {
+    return String.format("  at %s.%s:%d", frame.getMethod().getType().getName(),
+        frame.getMethod().getName(), frame.getLineNumber());
+  }
+}